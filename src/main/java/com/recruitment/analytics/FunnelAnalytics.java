@@ -0,0 +1,357 @@
+package main.java.com.recruitment.analytics;
+
+import main.java.com.recruitment.analytics.FunnelMetrics.Stage;
+import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.util.ResultSetStreams;
+import main.java.com.recruitment.util.UncheckedSQLException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Per-job and per-company funnel conversion and time-in-stage analytics over Application_stage.
+ *
+ * Stage rows are read in one streaming pass ordered by (application_id, stage_datetime),
+ * so only the rows of the current application are held at a time; each group keeps a fixed
+ * set of counters and {@link main.java.com.recruitment.metrics.QuantileSketch}es. The groups
+ * and the highest stage_id processed are saved to a state file. {@link #refresh()} then only
+ * reads the applications that have stage rows above that high-water mark and counts just
+ * their new transitions, so a nightly run costs time proportional to the day's changes.
+ *
+ * Stage IDs are assumed to commit in increasing order, which holds for the single
+ * group-commit writer of each process. Deleted applications keep their counts until the
+ * next {@link #rebuild()}.
+ */
+public class FunnelAnalytics {
+    private static final Logger logger = Logger.getLogger(FunnelAnalytics.class.getName());
+    private static final int STATE_MAGIC = 0x46554E4C;
+    private static final int STATE_VERSION = 1;
+
+    private static final String STAGES_SQL = """
+        SELECT s.stage_id, s.application_id, s.stage_name, s.stage_datetime, a.job_id, j.company_id
+        FROM Application_stage s
+        JOIN Applications a ON s.application_id = a.application_id
+        LEFT JOIN Job j ON a.job_id = j.job_id
+        WHERE s.stage_id <= ?%s
+        ORDER BY s.application_id, s.stage_datetime, s.stage_id
+        """;
+    private static final String CHANGED_APPLICATIONS = """
+         AND s.application_id IN (
+            SELECT application_id FROM Application_stage WHERE stage_id > ? AND stage_id <= ?)""";
+
+    private final Path stateFile;
+
+    public FunnelAnalytics() {
+        this(Path.of(DatabaseConnection.getProperty("analytics.funnel.stateFile", "funnel-state.bin")));
+    }
+
+    public FunnelAnalytics(Path stateFile) {
+        this.stateFile = stateFile;
+    }
+
+    /**
+     * Immutable result of a run, groups ordered by ID
+     */
+    public static class Report {
+        private final long highWaterMark;
+        private final Map<Long, FunnelMetrics> jobs;
+        private final Map<Long, FunnelMetrics> companies;
+        private final FunnelMetrics total;
+
+        Report(State state) {
+            this.highWaterMark = state.highWaterMark;
+            this.jobs = Collections.unmodifiableMap(new TreeMap<>(state.jobs));
+            this.companies = Collections.unmodifiableMap(new TreeMap<>(state.companies));
+            this.total = new FunnelMetrics();
+            state.companies.values().forEach(total::merge);
+        }
+
+        // Getters
+        public long getHighWaterMark() { return highWaterMark; }
+        public Map<Long, FunnelMetrics> getJobs() { return jobs; }
+        public Map<Long, FunnelMetrics> getCompanies() { return companies; }
+        public FunnelMetrics getTotal() { return total; }
+
+        @Override
+        public String toString() {
+            return "FunnelAnalytics.Report{highWaterMark=" + highWaterMark + ", jobs=" + jobs.size()
+                    + ", companies=" + companies.size() + ", total=" + total + '}';
+        }
+    }
+
+    /**
+     * Groups and high-water mark as loaded from and saved to the state file
+     */
+    static class State {
+        long highWaterMark;
+        final Map<Long, FunnelMetrics> jobs = new TreeMap<>();
+        final Map<Long, FunnelMetrics> companies = new TreeMap<>();
+    }
+
+    /**
+     * Process the stage rows added since the last run and save the new state
+     */
+    public Report refresh() throws SQLException, IOException {
+        return process(load());
+    }
+
+    /**
+     * Recompute everything from the first stage row, replacing the saved state
+     */
+    public Report rebuild() throws SQLException, IOException {
+        return process(new State());
+    }
+
+    /**
+     * Report from the saved state without reading the database
+     */
+    public Report getReport() throws IOException {
+        return new Report(load());
+    }
+
+    private Report process(State state) throws SQLException, IOException {
+        long start = System.currentTimeMillis();
+        // The bound and the rows must come from the same server: on another replica that is
+        // further behind, rows up to the bound could be missing and would never be read
+        Connection conn = DatabaseConnection.getReadConnection();
+        long upTo;
+        try {
+            upTo = maxStageId(conn);
+        } catch (SQLException | RuntimeException e) {
+            conn.close();
+            throw e;
+        }
+        if (upTo <= state.highWaterMark) {
+            conn.close();
+            logger.info("Funnel analytics up to date at stage_id " + state.highWaterMark);
+            return new Report(state);
+        }
+
+        boolean incremental = state.highWaterMark > 0;
+        String sql = STAGES_SQL.formatted(incremental ? CHANGED_APPLICATIONS : "");
+        long since = state.highWaterMark;
+        ApplicationWalker walker = new ApplicationWalker(state, since);
+        try (Stream<StageRow> rows = ResultSetStreams.stream(conn, sql, stmt -> {
+                 stmt.setLong(1, upTo);
+                 if (incremental) {
+                     stmt.setLong(2, since);
+                     stmt.setLong(3, upTo);
+                 }
+             }, StageRow::new)) {
+            rows.forEach(walker::accept);
+        } catch (UncheckedSQLException e) {
+            throw e.getCause();
+        }
+        walker.finish();
+
+        state.highWaterMark = upTo;
+        save(state);
+        logger.info("Funnel analytics processed " + walker.rows + " stage rows of " + walker.applications
+                + " applications (stage_id " + since + " -> " + upTo + ") in "
+                + (System.currentTimeMillis() - start) + " ms");
+        return new Report(state);
+    }
+
+    private static long maxStageId(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(stage_id), 0) FROM Application_stage")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * One streamed Application_stage row with its job and company
+     */
+    private static class StageRow {
+        final long stageId;
+        final long applicationId;
+        final Long jobId;
+        final Long companyId;
+        final String stageName;
+        final Timestamp at;
+
+        StageRow(ResultSet rs) throws SQLException {
+            stageId = rs.getLong("stage_id");
+            applicationId = rs.getLong("application_id");
+            stageName = rs.getString("stage_name");
+            at = rs.getTimestamp("stage_datetime");
+            long job = rs.getLong("job_id");
+            jobId = rs.wasNull() ? null : job;
+            long company = rs.getLong("company_id");
+            companyId = rs.wasNull() ? null : company;
+        }
+    }
+
+    /**
+     * Buffers the rows of one application at a time and folds them into the groups.
+     * Rows at or below the high-water mark were counted by an earlier run and only
+     * provide the starting point for the application's new transitions.
+     */
+    private static class ApplicationWalker {
+        private final State state;
+        private final long since;
+        private final List<StageRow> current = new ArrayList<>();
+        long rows;
+        long applications;
+
+        ApplicationWalker(State state, long since) {
+            this.state = state;
+            this.since = since;
+        }
+
+        void accept(StageRow row) {
+            if (!current.isEmpty() && current.get(0).applicationId != row.applicationId) {
+                finish();
+            }
+            current.add(row);
+            rows++;
+        }
+
+        void finish() {
+            if (current.isEmpty()) {
+                return;
+            }
+            StageRow first = current.get(0);
+            List<FunnelMetrics> groups = new ArrayList<>(2);
+            if (first.jobId != null) {
+                groups.add(state.jobs.computeIfAbsent(first.jobId, id -> new FunnelMetrics()));
+            }
+            if (first.companyId != null) {
+                groups.add(state.companies.computeIfAbsent(first.companyId, id -> new FunnelMetrics()));
+            }
+
+            int countedFurthest = -1;
+            int furthest = -1;
+            boolean countedRejected = false;
+            boolean rejected = false;
+            StageRow previous = null;
+            for (StageRow row : current) {
+                boolean counted = row.stageId <= since;
+                Stage stage = Stage.fromValue(row.stageName);
+                if (stage != null) {
+                    furthest = Math.max(furthest, stage.ordinal());
+                    if (counted) {
+                        countedFurthest = Math.max(countedFurthest, stage.ordinal());
+                    }
+                } else if ("rejected".equals(row.stageName)) {
+                    rejected = true;
+                    countedRejected |= counted;
+                }
+
+                Stage previousStage = previous == null ? null : Stage.fromValue(previous.stageName);
+                if (!counted && previousStage != null && previous.at != null && row.at != null) {
+                    long seconds = Math.max(0, (row.at.getTime() - previous.at.getTime()) / 1000);
+                    for (FunnelMetrics group : groups) {
+                        group.recordTimeInStage(previousStage, seconds);
+                    }
+                }
+                previous = row;
+            }
+
+            Stage[] stages = Stage.values();
+            for (FunnelMetrics group : groups) {
+                for (int i = countedFurthest + 1; i <= furthest; i++) {
+                    group.recordReached(stages[i]);
+                }
+                if (rejected && !countedRejected) {
+                    group.recordRejected();
+                }
+            }
+            applications++;
+            current.clear();
+        }
+    }
+
+    private State load() throws IOException {
+        State state = new State();
+        if (!Files.exists(stateFile)) {
+            return state;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(stateFile)))) {
+            if (in.readInt() != STATE_MAGIC || in.readInt() != STATE_VERSION) {
+                throw new IOException("Not a funnel analytics state file: " + stateFile);
+            }
+            state.highWaterMark = in.readLong();
+            readGroups(in, state.jobs);
+            readGroups(in, state.companies);
+        }
+        return state;
+    }
+
+    /**
+     * Write the state next to the file and move it into place, so a crash keeps the old state
+     */
+    private void save(State state) throws IOException {
+        Path temp = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(STATE_MAGIC);
+            out.writeInt(STATE_VERSION);
+            out.writeLong(state.highWaterMark);
+            writeGroups(out, state.jobs);
+            writeGroups(out, state.companies);
+        }
+        Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void readGroups(DataInputStream in, Map<Long, FunnelMetrics> groups) throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            long id = in.readLong();
+            groups.put(id, FunnelMetrics.readFrom(in));
+        }
+    }
+
+    private static void writeGroups(DataOutputStream out, Map<Long, FunnelMetrics> groups) throws IOException {
+        out.writeInt(groups.size());
+        for (Map.Entry<Long, FunnelMetrics> group : groups.entrySet()) {
+            out.writeLong(group.getKey());
+            group.getValue().writeTo(out);
+        }
+    }
+
+    /**
+     * Nightly entry point: FunnelAnalytics [refresh|rebuild|show] [state file]
+     */
+    public static void main(String[] args) {
+        String command = args.length > 0 ? args[0] : "refresh";
+        FunnelAnalytics analytics = args.length > 1 ? new FunnelAnalytics(Path.of(args[1])) : new FunnelAnalytics();
+        try {
+            Report report = switch (command) {
+                case "refresh" -> analytics.refresh();
+                case "rebuild" -> analytics.rebuild();
+                case "show" -> analytics.getReport();
+                default -> {
+                    System.err.println("Usage: FunnelAnalytics [refresh|rebuild|show] [state file]");
+                    System.exit(2);
+                    yield null;
+                }
+            };
+            report.getCompanies().forEach((id, metrics) -> System.out.println("Company " + id + ": " + metrics));
+            System.out.println("All companies: " + report.getTotal());
+        } catch (IOException | SQLException e) {
+            logger.log(Level.SEVERE, "Funnel analytics " + command + " failed", e);
+            System.exit(1);
+        } finally {
+            DatabaseConnection.shutdown();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package main.java.com.recruitment.analytics;
+
+import main.java.com.recruitment.metrics.QuantileSketch;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Funnel counts and time-in-stage sketches of one job or company.
+ *
+ * An application has reached a funnel stage once it has a stage row for that stage or a
+ * later one, so an application created directly in the interview stage also counts as
+ * applied and screened. Time in a stage runs from its stage row to the application's next
+ * stage row and is kept in seconds; a stage the application is still in has no duration yet.
+ */
+public class FunnelMetrics {
+
+    /**
+     * Funnel stages in order; rejected ends the funnel from any stage
+     */
+    public enum Stage {
+        APPLIED("applied"),
+        SCREENED("screened"),
+        INTERVIEW("interview"),
+        OFFER("offer");
+
+        private final String value;
+
+        Stage(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * @return the funnel stage, or null for rejected and unknown names
+         */
+        static Stage fromValue(String value) {
+            for (Stage stage : values()) {
+                if (stage.value.equals(value)) {
+                    return stage;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final long[] reached = new long[STAGES.length];
+    private long rejected;
+    private final QuantileSketch[] timeInStage = new QuantileSketch[STAGES.length];
+
+    FunnelMetrics() {
+        for (int i = 0; i < STAGES.length; i++) {
+            timeInStage[i] = new QuantileSketch();
+        }
+    }
+
+    void recordReached(Stage stage) {
+        reached[stage.ordinal()]++;
+    }
+
+    void recordRejected() {
+        rejected++;
+    }
+
+    void recordTimeInStage(Stage stage, long seconds) {
+        timeInStage[stage.ordinal()].record(seconds);
+    }
+
+    /**
+     * Add another group's counts and sketches to this one
+     */
+    void merge(FunnelMetrics other) {
+        for (int i = 0; i < STAGES.length; i++) {
+            reached[i] += other.reached[i];
+            timeInStage[i].merge(other.timeInStage[i]);
+        }
+        rejected += other.rejected;
+    }
+
+    public long getReached(Stage stage) { return reached[stage.ordinal()]; }
+    public long getRejected() { return rejected; }
+
+    /**
+     * @return share of the applications that reached from which also reached to, or 0
+     */
+    public double getConversionRate(Stage from, Stage to) {
+        long base = reached[from.ordinal()];
+        return base > 0 ? (double) reached[to.ordinal()] / base : 0;
+    }
+
+    /**
+     * @return seconds spent in the stage at the quantile (e.g. 0.5, 0.9), or 0 if none finished it
+     */
+    public long getTimeInStageSeconds(Stage stage, double quantile) {
+        return timeInStage[stage.ordinal()].getValueAtQuantile(quantile);
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        for (int i = 0; i < STAGES.length; i++) {
+            out.writeLong(reached[i]);
+            timeInStage[i].writeTo(out);
+        }
+        out.writeLong(rejected);
+    }
+
+    static FunnelMetrics readFrom(DataInput in) throws IOException {
+        FunnelMetrics metrics = new FunnelMetrics();
+        for (int i = 0; i < STAGES.length; i++) {
+            metrics.reached[i] = in.readLong();
+            metrics.timeInStage[i] = QuantileSketch.readFrom(in);
+        }
+        metrics.rejected = in.readLong();
+        return metrics;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("FunnelMetrics{");
+        for (int i = 0; i < STAGES.length; i++) {
+            Stage stage = STAGES[i];
+            if (i > 0) {
+                sb.append(String.format(" -> %.1f%% -> ", getConversionRate(STAGES[i - 1], stage) * 100));
+            }
+            sb.append(stage.getValue()).append('=').append(reached[i])
+              .append(" (p50=").append(getTimeInStageSeconds(stage, 0.5))
+              .append("s, p90=").append(getTimeInStageSeconds(stage, 0.9)).append("s)");
+        }
+        return sb.append(", rejected=").append(rejected).append('}').toString();
+    }
+}
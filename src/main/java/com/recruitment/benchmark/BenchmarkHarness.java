@@ -0,0 +1,106 @@
+package main.java.com.recruitment.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Minimal single-threaded benchmark loop.
+ *
+ * Each benchmark runs a number of timed warmup iterations, whose results are discarded,
+ * followed by timed measurement iterations. Allocation is measured per thread with
+ * com.sun.management.ThreadMXBean, so background threads such as the pool housekeeper are
+ * not counted. Operation results are folded into a sink so the JIT cannot drop the calls.
+ */
+public class BenchmarkHarness {
+    private static final Logger logger = Logger.getLogger(BenchmarkHarness.class.getName());
+
+    /**
+     * One invocation of the code under test
+     */
+    @FunctionalInterface
+    public interface Operation {
+        /**
+         * @return the result of the call; null or Boolean.FALSE counts as an error
+         */
+        Object run();
+    }
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private long sink;
+
+    public BenchmarkHarness(int warmupIterations, int measurementIterations, long iterationMs) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMs * 1_000_000;
+        this.threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (threadBean.isThreadAllocatedMemorySupported()) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    public BenchmarkResult run(String name, Operation operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            BenchmarkResult.Iteration it = iterate(operation);
+            logger.fine(name + " warmup " + (i + 1) + ": " + it.operations + " ops");
+        }
+
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTime();
+        List<BenchmarkResult.Iteration> measured = new ArrayList<>(measurementIterations);
+        for (int i = 0; i < measurementIterations; i++) {
+            measured.add(iterate(operation));
+        }
+        return new BenchmarkResult(name, measured, gcCount() - gcCountBefore, gcTime() - gcTimeBefore);
+    }
+
+    private BenchmarkResult.Iteration iterate(Operation operation) {
+        long threadId = Thread.currentThread().getId();
+        long operations = 0;
+        long errors = 0;
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long deadline = start + iterationNanos;
+        long now;
+        do {
+            Object result = operation.run();
+            if (result == null || Boolean.FALSE.equals(result)) {
+                errors++;
+            } else {
+                sink += result.hashCode();
+            }
+            operations++;
+            now = System.nanoTime();
+        } while (now < deadline);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new BenchmarkResult.Iteration(operations, now - start, allocated, errors);
+    }
+
+    /**
+     * Value folded from all results; print it so the calls cannot be optimized away
+     */
+    public long getSink() {
+        return sink;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+}
@@ -0,0 +1,107 @@
+package main.java.com.recruitment.benchmark;
+
+import java.util.List;
+
+/**
+ * Measurements of one benchmark: throughput, average time and allocation per operation,
+ * with the mean and standard deviation over the measurement iterations
+ */
+public class BenchmarkResult {
+    private final String name;
+    private final int iterations;
+    private final double[] opsPerSecond;
+    private final double[] microsPerOp;
+    private final double[] bytesPerOp;
+    private final double[] allocMbPerSecond;
+    private final long gcCount;
+    private final long gcTimeMs;
+    private final long errors;
+
+    BenchmarkResult(String name, List<Iteration> measured, long gcCount, long gcTimeMs) {
+        this.name = name;
+        this.iterations = measured.size();
+        this.opsPerSecond = new double[iterations];
+        this.microsPerOp = new double[iterations];
+        this.bytesPerOp = new double[iterations];
+        this.allocMbPerSecond = new double[iterations];
+        long errorCount = 0;
+        for (int i = 0; i < iterations; i++) {
+            Iteration it = measured.get(i);
+            double seconds = it.elapsedNanos / 1e9;
+            opsPerSecond[i] = it.operations / seconds;
+            microsPerOp[i] = it.elapsedNanos / 1e3 / it.operations;
+            bytesPerOp[i] = (double) it.allocatedBytes / it.operations;
+            allocMbPerSecond[i] = it.allocatedBytes / seconds / (1024 * 1024);
+            errorCount += it.errors;
+        }
+        this.gcCount = gcCount;
+        this.gcTimeMs = gcTimeMs;
+        this.errors = errorCount;
+    }
+
+    /**
+     * Raw numbers of one measurement iteration
+     */
+    static class Iteration {
+        final long operations;
+        final long elapsedNanos;
+        final long allocatedBytes;
+        final long errors;
+
+        Iteration(long operations, long elapsedNanos, long allocatedBytes, long errors) {
+            this.operations = operations;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.errors = errors;
+        }
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public int getIterations() { return iterations; }
+    public double getOpsPerSecond() { return mean(opsPerSecond); }
+    public double getMicrosPerOp() { return mean(microsPerOp); }
+    public double getBytesPerOp() { return mean(bytesPerOp); }
+    public double getAllocMbPerSecond() { return mean(allocMbPerSecond); }
+    public long getGcCount() { return gcCount; }
+    public long getGcTimeMs() { return gcTimeMs; }
+    public long getErrors() { return errors; }
+
+    /**
+     * Column headings matching {@link #toString()}
+     */
+    public static String header() {
+        return String.format("%-32s %5s %22s %20s %14s %12s %6s %8s",
+                "Benchmark", "Cnt", "Throughput (ops/s)", "Avg time (us/op)", "Alloc (B/op)",
+                "Alloc (MB/s)", "GCs", "Errors");
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-32s %5d %13.1f +- %6.1f %11.3f +- %6.3f %14.0f %12.1f %6d %8d",
+                name, iterations,
+                mean(opsPerSecond), stddev(opsPerSecond),
+                mean(microsPerOp), stddev(microsPerOp),
+                mean(bytesPerOp), mean(allocMbPerSecond), gcCount, errors);
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return values.length > 0 ? sum / values.length : 0;
+    }
+
+    private static double stddev(double[] values) {
+        if (values.length < 2) {
+            return 0;
+        }
+        double mean = mean(values);
+        double sum = 0;
+        for (double value : values) {
+            sum += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(sum / (values.length - 1));
+    }
+}
@@ -0,0 +1,247 @@
+package main.java.com.recruitment.benchmark;
+
+import main.java.com.recruitment.dao.StatisticsCounters;
+import main.java.com.recruitment.migration.MigrationException;
+import main.java.com.recruitment.migration.MigrationRunner;
+import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.util.SqlScript;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+/**
+ * Rebuilds the configured database for benchmarking: drops every table, applies all schema
+ * migrations and sample_data.sql, then adds (scale - 1) more copies of the sample data with the same shape
+ * (3 companies, 10 users, 5 jobs, 10 candidates, 10 applications, ... per copy).
+ *
+ * This destroys all data in the configured database, so seeding refuses to run unless
+ * -Dbenchmark.allowDrop=true is set and -Dconfig.path points at properties other than the
+ * default main/resources/database.properties, i.e. at a scratch database.
+ */
+public class BenchmarkSeeder {
+    private static final Logger logger = Logger.getLogger(BenchmarkSeeder.class.getName());
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] APPLICATION_STATUSES = { "applied", "screened", "interview", "offer", "rejected" };
+    private static final String[] JOB_STATUSES = { "open", "open", "closed", "on_hold" };
+    private static final String[] INTERVIEW_STAGES = { "HR", "Technical", "Managerial" };
+    private static final String[] INTERVIEW_RESULTS = { "pass", "fail", "pending" };
+    private static final String[] OFFER_STATUSES = { "pending", "declined", "accepted" };
+    private static final long[] DEPARTMENTS = { 101, 102, 103, 104 };
+
+    // Highest IDs used by sample_data.sql; generated rows continue from here
+    private static final long SAMPLE_MAX_COMPANY = 3, SAMPLE_MAX_USER = 10, SAMPLE_MAX_JOB = 1005;
+    private static final long SAMPLE_MAX_CANDIDATE = 2010, SAMPLE_MAX_APPLICATION = 3010;
+    private static final long SAMPLE_MAX_STAGE = 4007, SAMPLE_MAX_INTERVIEW = 5003, SAMPLE_MAX_OFFER = 6002;
+
+    private final Random random = new Random(42);
+    private final LocalDateTime now = LocalDateTime.now();
+
+    /**
+     * Recreate and populate the database
+     * @param scale number of copies of the sample data, at least 1
+     */
+    public void seed(int scale) throws SQLException, IOException, MigrationException {
+        if (scale < 1) {
+            throw new IllegalArgumentException("scale must be at least 1");
+        }
+        checkDropAllowed();
+        long copies = scale - 1L;
+        long start = System.currentTimeMillis();
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            dropAllTables(conn);
+            new MigrationRunner().migrate();
+            SqlScript.execute(conn, SqlScript.load("sample_data.sql"));
+            logger.info("Applied migrations and loaded sample_data.sql");
+
+            conn.setAutoCommit(false);
+            insertCompanies(conn, 3 * copies);
+            insertUsers(conn, 10 * copies, 3L * scale);
+            insertJobs(conn, 5 * copies, 3L * scale);
+            insertCandidates(conn, 10 * copies);
+            insertApplications(conn, 10 * copies, 5L * scale, 10L * scale);
+            insertStages(conn, 7 * copies, 10 * copies);
+            insertInterviews(conn, 3 * copies, 10L * scale, 10 * copies);
+            insertOffers(conn, 2 * copies);
+            conn.setAutoCommit(true);
+        }
+        // The rows above bypass the DAOs, so the counter tables are filled afterwards
+        StatisticsCounters.rebuild();
+        logger.info("Seeded benchmark database at scale " + scale + " in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    /**
+     * Refuse to drop the tables unless the run opted in and uses its own configuration
+     */
+    private static void checkDropAllowed() {
+        if (!Boolean.getBoolean("benchmark.allowDrop")) {
+            throw new IllegalStateException("Seeding drops every table in the configured database; "
+                    + "pass -Dbenchmark.allowDrop=true to confirm");
+        }
+        String configPath = System.getProperty("config.path");
+        if (configPath == null || Path.of(configPath).toAbsolutePath().normalize()
+                .endsWith(Path.of("main", "resources", "database.properties"))) {
+            throw new IllegalStateException("Refusing to seed the database in main/resources/database.properties; "
+                    + "point -Dconfig.path at the properties of a scratch database");
+        }
+    }
+
+    private void dropAllTables(Connection conn) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "SELECT table_name FROM information_schema.tables WHERE table_schema = DATABASE()")) {
+            while (rs.next()) {
+                tables.add(rs.getString(1));
+            }
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("SET FOREIGN_KEY_CHECKS = 0");
+            for (String table : tables) {
+                stmt.execute("DROP TABLE IF EXISTS `" + table + "`");
+            }
+            stmt.execute("SET FOREIGN_KEY_CHECKS = 1");
+        }
+    }
+
+    private void insertCompanies(Connection conn, long count) throws SQLException {
+        batchInsert(conn, "INSERT INTO company VALUES (?, ?)", count, (stmt, i) -> {
+            long id = SAMPLE_MAX_COMPANY + i;
+            stmt.setLong(1, id);
+            stmt.setString(2, "Company " + id);
+        });
+    }
+
+    private void insertUsers(Connection conn, long count, long companies) throws SQLException {
+        batchInsert(conn, "INSERT INTO User VALUES (?, ?, ?, ?, ?, ?, ?, ?)", count, (stmt, i) -> {
+            long id = SAMPLE_MAX_USER + i;
+            stmt.setLong(1, id);
+            stmt.setString(2, "user" + id + "@example.com");
+            stmt.setString(3, "First" + id);
+            stmt.setString(4, "Last" + id);
+            stmt.setString(5, "hash" + id);
+            stmt.setTimestamp(6, pastTimestamp());
+            stmt.setString(7, String.format("%010d", id));
+            stmt.setLong(8, 1 + random.nextInt((int) companies));
+        });
+        batchInsert(conn, "INSERT INTO user_role VALUES (?, ?)", count, (stmt, i) -> {
+            long id = SAMPLE_MAX_USER + i;
+            stmt.setLong(1, id);
+            stmt.setLong(2, id % 5 == 0 ? 3 : 2);
+        });
+    }
+
+    private void insertJobs(Connection conn, long count, long companies) throws SQLException {
+        batchInsert(conn, "INSERT INTO Job VALUES (?, ?, ?, ?, ?, ?, ?)", count, (stmt, i) -> {
+            long id = SAMPLE_MAX_JOB + i;
+            stmt.setLong(1, id);
+            stmt.setString(2, "Job " + id);
+            stmt.setLong(3, DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+            stmt.setString(4, "Description of job " + id);
+            stmt.setString(5, JOB_STATUSES[(int) (i % JOB_STATUSES.length)]);
+            stmt.setTimestamp(6, pastTimestamp());
+            stmt.setLong(7, 1 + random.nextInt((int) companies));
+        });
+    }
+
+    private void insertCandidates(Connection conn, long count) throws SQLException {
+        // Each generated user gets one candidate profile
+        batchInsert(conn, "INSERT INTO Candidate VALUES (?, ?, ?, ?)", count, (stmt, i) -> {
+            long id = SAMPLE_MAX_CANDIDATE + i;
+            stmt.setLong(1, id);
+            stmt.setLong(2, SAMPLE_MAX_USER + i);
+            stmt.setString(3, "resume_" + id + ".pdf");
+            stmt.setTimestamp(4, pastTimestamp());
+        });
+    }
+
+    private void insertApplications(Connection conn, long count, long jobs, long candidates) throws SQLException {
+        batchInsert(conn, "INSERT INTO Applications VALUES (?, ?, ?, ?, ?, ?)", count, (stmt, i) -> {
+            Timestamp applied = pastTimestamp();
+            stmt.setLong(1, SAMPLE_MAX_APPLICATION + i);
+            stmt.setLong(2, 1001 + random.nextInt((int) jobs));
+            stmt.setLong(3, 2001 + random.nextInt((int) candidates));
+            stmt.setString(4, APPLICATION_STATUSES[(int) (i % APPLICATION_STATUSES.length)]);
+            stmt.setTimestamp(5, applied);
+            stmt.setTimestamp(6, applied);
+        });
+    }
+
+    private void insertStages(Connection conn, long count, long generatedApplications) throws SQLException {
+        batchInsert(conn, "INSERT INTO Application_stage VALUES (?, ?, ?, ?)", count, (stmt, i) -> {
+            stmt.setLong(1, SAMPLE_MAX_STAGE + i);
+            stmt.setLong(2, SAMPLE_MAX_APPLICATION + 1 + random.nextInt((int) generatedApplications));
+            stmt.setString(3, APPLICATION_STATUSES[random.nextInt(APPLICATION_STATUSES.length)]);
+            stmt.setTimestamp(4, pastTimestamp());
+        });
+    }
+
+    private void insertInterviews(Connection conn, long count, long users, long generatedApplications)
+            throws SQLException {
+        batchInsert(conn, "INSERT INTO Interview VALUES (?, ?, ?, ?, ?, ?, ?, ?)", count, (stmt, i) -> {
+            long id = SAMPLE_MAX_INTERVIEW + i;
+            stmt.setLong(1, id);
+            stmt.setString(2, "Interview " + id);
+            stmt.setLong(3, 1 + random.nextInt((int) users));
+            stmt.setLong(4, SAMPLE_MAX_APPLICATION + 1 + random.nextInt((int) generatedApplications));
+            stmt.setString(5, INTERVIEW_STAGES[random.nextInt(INTERVIEW_STAGES.length)]);
+            stmt.setTimestamp(6, pastTimestamp());
+            stmt.setString(7, INTERVIEW_RESULTS[random.nextInt(INTERVIEW_RESULTS.length)]);
+            stmt.setTimestamp(8, pastTimestamp());
+        });
+    }
+
+    private void insertOffers(Connection conn, long count) throws SQLException {
+        // offer.application_id is unique: use every fifth generated application
+        batchInsert(conn, "INSERT INTO offer VALUES (?, ?, ?, ?, ?, ?)", count, (stmt, i) -> {
+            Timestamp offered = pastTimestamp();
+            stmt.setLong(1, SAMPLE_MAX_OFFER + i);
+            stmt.setLong(2, SAMPLE_MAX_APPLICATION + 1 + (i - 1) * 5);
+            stmt.setDouble(3, 50_000 + random.nextInt(100) * 1_000);
+            stmt.setString(4, OFFER_STATUSES[(int) (i % OFFER_STATUSES.length)]);
+            stmt.setTimestamp(5, offered);
+            stmt.setTimestamp(6, offered);
+        });
+    }
+
+    private interface RowBinder {
+        /**
+         * @param i 1-based row number
+         */
+        void bind(PreparedStatement stmt, long i) throws SQLException;
+    }
+
+    private void batchInsert(Connection conn, String sql, long count, RowBinder binder) throws SQLException {
+        if (count == 0) {
+            return;
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (long i = 1; i <= count; i++) {
+                binder.bind(stmt, i);
+                stmt.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    stmt.executeBatch();
+                    conn.commit();
+                }
+            }
+            stmt.executeBatch();
+            conn.commit();
+        }
+    }
+
+    private Timestamp pastTimestamp() {
+        return Timestamp.valueOf(now.minusMinutes(random.nextInt(365 * 24 * 60)));
+    }
+}
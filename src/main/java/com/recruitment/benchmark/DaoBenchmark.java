@@ -0,0 +1,148 @@
+package main.java.com.recruitment.benchmark;
+
+import main.java.com.recruitment.dao.ApplicationDAO;
+import main.java.com.recruitment.dao.ApplicationDAO.ApplicationStatus;
+import main.java.com.recruitment.dao.CandidateDAO;
+import main.java.com.recruitment.dao.OfferDAO;
+import main.java.com.recruitment.util.DatabaseConnection;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Benchmarks of the DAO hot paths against the configured database.
+ *
+ * Usage: DaoBenchmark [--seed &lt;scale&gt;] [--warmup &lt;n&gt;] [--iterations &lt;n&gt;] [--time &lt;ms&gt;]
+ *                     [--only name,name] [--log]
+ *
+ * --seed drops and rebuilds the database with {@link BenchmarkSeeder}; it only runs with
+ * -Dbenchmark.allowDrop=true and a scratch database selected with -Dconfig.path. Without
+ * --seed the existing data is used.
+ * Logging is limited to WARNING while measuring unless --log is given.
+ */
+public class DaoBenchmark {
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    private final ApplicationDAO applicationDAO = new ApplicationDAO();
+    private final CandidateDAO candidateDAO = new CandidateDAO();
+    private final OfferDAO offerDAO = new OfferDAO();
+    private final Random random = new Random(7);
+
+    private long[] jobIds;
+    private long[] candidateIds;
+    private long[] applicationIds;
+
+    public static void main(String[] args) {
+        int scale = 0;
+        int warmup = 3;
+        int iterations = 5;
+        long iterationMs = 2_000;
+        Set<String> only = new TreeSet<>();
+        boolean log = false;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--seed" -> scale = Integer.parseInt(args[++i]);
+                    case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                    case "--iterations" -> iterations = Integer.parseInt(args[++i]);
+                    case "--time" -> iterationMs = Long.parseLong(args[++i]);
+                    case "--only" -> only.addAll(Arrays.asList(args[++i].split(",")));
+                    case "--log" -> log = true;
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.out.println(e.getMessage());
+            System.out.println("Usage: DaoBenchmark [--seed <scale>] [--warmup <n>] [--iterations <n>] "
+                    + "[--time <ms>] [--only name,name] [--log]");
+            return;
+        }
+
+        try {
+            if (scale > 0) {
+                new BenchmarkSeeder().seed(scale);
+            }
+            if (!log) {
+                Logger.getLogger("").setLevel(Level.WARNING);
+            }
+
+            DaoBenchmark benchmark = new DaoBenchmark();
+            benchmark.loadIds();
+            BenchmarkHarness harness = new BenchmarkHarness(warmup, iterations, iterationMs);
+
+            List<BenchmarkResult> results = new ArrayList<>();
+            for (Map.Entry<String, BenchmarkHarness.Operation> entry : benchmark.operations().entrySet()) {
+                if (only.isEmpty() || only.contains(entry.getKey())) {
+                    System.out.println("Running " + entry.getKey() + "...");
+                    results.add(harness.run(entry.getKey(), entry.getValue()));
+                }
+            }
+
+            System.out.println();
+            System.out.println(BenchmarkResult.header());
+            for (BenchmarkResult result : results) {
+                System.out.println(result);
+            }
+            System.out.println("(sink " + harness.getSink() + ")");
+        } catch (Exception e) {
+            System.out.println("Benchmark failed: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DatabaseConnection.shutdown();
+        }
+    }
+
+    /**
+     * The benchmarked DAO calls, in run order; read-only ones first so the writes do not
+     * change the data they measure
+     */
+    private Map<String, BenchmarkHarness.Operation> operations() {
+        Map<String, BenchmarkHarness.Operation> operations = new LinkedHashMap<>();
+        operations.put("getApplicationsByJob", () -> applicationDAO.getApplicationsByJob(pick(jobIds)).size());
+        operations.put("getAllCandidates", () -> candidateDAO.getAllCandidates().size());
+        operations.put("getCandidateStatistics", () -> candidateDAO.getCandidateStatistics(pick(candidateIds)));
+        operations.put("getPendingOffers", () -> offerDAO.getPendingOffers().size());
+        operations.put("updateApplicationStatus", () -> applicationDAO.updateApplicationStatus(
+                pick(applicationIds), STATUSES[random.nextInt(STATUSES.length)]));
+        operations.put("createApplication", () -> applicationDAO.createApplication(
+                pick(jobIds), pick(candidateIds), ApplicationStatus.APPLIED));
+        return operations;
+    }
+
+    private void loadIds() throws SQLException {
+        jobIds = ids("SELECT job_id FROM Job");
+        candidateIds = ids("SELECT candidate_id FROM Candidate");
+        applicationIds = ids("SELECT application_id FROM Applications");
+        if (jobIds.length == 0 || candidateIds.length == 0 || applicationIds.length == 0) {
+            throw new SQLException("Database has no jobs, candidates or applications; run with --seed <scale>");
+        }
+    }
+
+    private static long[] ids(String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long pick(long[] ids) {
+        return ids[random.nextInt(ids.length)];
+    }
+}
@@ -1,16 +1,31 @@
 package main.java.com.recruitment.dao;
 
 import main.java.com.recruitment.model.Application;
+import main.java.com.recruitment.model.ApplicationStage;
+import main.java.com.recruitment.model.OutboxEvent;
+import main.java.com.recruitment.util.BatchInserter;
+import main.java.com.recruitment.util.BatchResult;
+import main.java.com.recruitment.util.ColumnSlots;
+import main.java.com.recruitment.logging.EventLogger;
 import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.util.Page;
+import main.java.com.recruitment.util.PageToken;
+import main.java.com.recruitment.util.ResultSetStreams;
+import main.java.com.recruitment.util.SlotRowMapper;
+import main.java.com.recruitment.util.UnitOfWork;
+import main.java.com.recruitment.metrics.Metrics;
+import main.java.com.recruitment.metrics.Timer;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
+import java.util.stream.Stream;
 
 public class ApplicationDAO {
     private static final Logger logger = Logger.getLogger(ApplicationDAO.class.getName());
+    private static final EventLogger events = EventLogger.get("dao.application", ApplicationDAO.class.getName());
     
     // Application status enum values from schema
     public enum ApplicationStatus {
@@ -37,20 +52,89 @@ public class ApplicationDAO {
     public boolean createApplication(long jobId, long candidateId, ApplicationStatus status) {
         String sql = "INSERT INTO Applications (job_id, candidate_id, current_status, applied_date, updated_at) VALUES (?, ?, ?, NOW(), NOW())";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setLong(1, jobId);
-            stmt.setLong(2, candidateId);
-            stmt.setString(3, status.getValue());
-            
-            int rowsAffected = stmt.executeUpdate();
-            logger.info("Application created successfully for candidate: " + candidateId + " and job: " + jobId);
-            return rowsAffected > 0;
-            
+        Timer.Sample sample = Metrics.start("ApplicationDAO.createApplication");
+        try {
+            return UnitOfWork.execute(() -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    
+                    stmt.setLong(1, jobId);
+                    stmt.setLong(2, candidateId);
+                    stmt.setString(3, status.getValue());
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    if (rowsAffected > 0) {
+                        StatisticsCounters.applicationCreated(conn, jobId, candidateId, status.getValue());
+                        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                            if (generatedKeys.next()) {
+                                recordStage(generatedKeys.getLong(1), status.getValue());
+                            }
+                        }
+                    }
+                    JobDAO.invalidateCachedJob(jobId);
+                    CandidateDAO.invalidateCachedCandidate(candidateId);
+                    events.info("Application created successfully for candidate: {} and job: {}", candidateId, jobId);
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error creating application", e);
             return false;
+        } finally {
+            sample.stop();
+        }
+    }
+    
+    /**
+     * Create applications in JDBC batches using the default chunk size
+     */
+    public BatchResult createApplications(List<Application> applications) {
+        return createApplications(applications, BatchInserter.defaultChunkSize());
+    }
+    
+    /**
+     * Create applications in JDBC batches.
+     * Each application needs jobId and candidateId; currentStatus defaults to applied.
+     * Generated IDs are set on the successfully inserted Application objects.
+     */
+    public BatchResult createApplications(List<Application> applications, int chunkSize) {
+        String sql = "INSERT INTO Applications (job_id, candidate_id, current_status, applied_date, updated_at) VALUES (?, ?, ?, NOW(), NOW())";
+        
+        Timer.Sample sample = Metrics.start("ApplicationDAO.createApplications");
+        try {
+            BatchResult result = BatchInserter.insert(sql, applications, chunkSize, (stmt, app) -> {
+                stmt.setLong(1, app.getJobId());
+                stmt.setLong(2, app.getCandidateId());
+                stmt.setString(3, statusOrDefault(app));
+            }, (conn, rows, start, end, inserted) -> {
+                for (int i = start; i < end; i++) {
+                    if (inserted.isSuccess(i)) {
+                        Application app = rows.get(i);
+                        StatisticsCounters.applicationCreated(conn, app.getJobId(), app.getCandidateId(),
+                                statusOrDefault(app));
+                    }
+                }
+            });
+            
+            for (int i = 0; i < applications.size(); i++) {
+                if (result.isSuccess(i)) {
+                    Application app = applications.get(i);
+                    app.setApplicationId(result.getGeneratedId(i));
+                    recordStage(app.getApplicationId(), statusOrDefault(app));
+                    JobDAO.invalidateCachedJob(app.getJobId());
+                    CandidateDAO.invalidateCachedCandidate(app.getCandidateId());
+                }
+            }
+            events.info("Bulk application insert finished: {}", result);
+            return result;
+            
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error creating applications in bulk", e);
+            return BatchResult.allFailed(applications.size(), e.getMessage());
+        } finally {
+            sample.stop();
         }
     }
     
@@ -60,19 +144,37 @@ public class ApplicationDAO {
     public boolean updateApplicationStatus(long applicationId, ApplicationStatus newStatus) {
         String sql = "UPDATE Applications SET current_status = ?, updated_at = NOW() WHERE application_id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setString(1, newStatus.getValue());
-            stmt.setLong(2, applicationId);
-            
-            int rowsAffected = stmt.executeUpdate();
-            logger.info("Application status updated to: " + newStatus.getValue() + " for application: " + applicationId);
-            return rowsAffected > 0;
-            
+        Timer.Sample sample = Metrics.start("ApplicationDAO.updateApplicationStatus");
+        try {
+            return UnitOfWork.execute(() -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    
+                    Application before = lockApplication(conn, applicationId);
+                    stmt.setString(1, newStatus.getValue());
+                    stmt.setLong(2, applicationId);
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    if (rowsAffected > 0 && before != null
+                            && !newStatus.getValue().equals(before.getCurrentStatus())) {
+                        StatisticsCounters.applicationStatusChanged(conn, before.getJobId(), before.getCandidateId(),
+                                before.getCurrentStatus(), newStatus.getValue());
+                        Outbox.append(conn, OutboxEvent.APPLICATION, applicationId, OutboxEvent.APPLICATION_STATUS_CHANGED,
+                                "application_id", applicationId, "job_id", before.getJobId(),
+                                "candidate_id", before.getCandidateId(),
+                                "old_status", before.getCurrentStatus(), "new_status", newStatus.getValue());
+                        recordStage(applicationId, newStatus.getValue());
+                    }
+                    events.info("Application status updated to: {} for application: {}", newStatus.getValue(), applicationId);
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error updating application status", e);
             return false;
+        } finally {
+            sample.stop();
         }
     }
     
@@ -93,25 +195,57 @@ public class ApplicationDAO {
         
         List<Application> applications = new ArrayList<>();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("ApplicationDAO.getApplicationsByJob");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, jobId);
             
             try (ResultSet rs = stmt.executeQuery()) {
+                ApplicationMapper mapper = new ApplicationMapper();
                 while (rs.next()) {
-                    Application app = createApplicationFromResultSet(rs);
+                    Application app = mapper.map(rs);
                     applications.add(app);
                 }
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving applications for job: " + jobId, e);
+        } finally {
+            sample.stop();
         }
         
+        sample.rows(applications.size());
         return applications;
     }
     
+    /**
+     * Stream applications by job ID without materializing them; close the stream when done
+     */
+    public Stream<Application> streamApplicationsByJob(long jobId) {
+        String sql = """
+            SELECT a.application_id, a.job_id, a.candidate_id, a.current_status,
+                   a.applied_date, a.updated_at, c.resume_url,
+                   u.first_name, u.last_name, u.email
+            FROM Applications a
+            JOIN Candidate c ON a.candidate_id = c.candidate_id
+            JOIN User u ON c.user_id = u.user_id
+            WHERE a.job_id = ?
+            ORDER BY a.applied_date DESC
+            """;
+        
+        Timer.Sample sample = Metrics.start("ApplicationDAO.streamApplicationsByJob");
+        try {
+            return ResultSetStreams.stream(sql, stmt -> stmt.setLong(1, jobId), new ApplicationMapper(), sample);
+        } catch (SQLException e) {
+            sample.failed();
+            sample.stop();
+            logger.log(Level.SEVERE, "Error streaming applications for job: " + jobId, e);
+            return Stream.empty();
+        }
+    }
+    
     /**
      * Get applications by candidate ID
      */
@@ -129,22 +263,28 @@ public class ApplicationDAO {
         
         List<Application> applications = new ArrayList<>();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("ApplicationDAO.getApplicationsByCandidate");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, candidateId);
             
             try (ResultSet rs = stmt.executeQuery()) {
+                ApplicationMapper mapper = new ApplicationMapper();
                 while (rs.next()) {
-                    Application app = createApplicationFromResultSet(rs);
+                    Application app = mapper.map(rs);
                     applications.add(app);
                 }
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving applications for candidate: " + candidateId, e);
+        } finally {
+            sample.stop();
         }
         
+        sample.rows(applications.size());
         return applications;
     }
     
@@ -159,19 +299,23 @@ public class ApplicationDAO {
             WHERE a.application_id = ?
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("ApplicationDAO.getApplicationById");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, applicationId);
             
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return createApplicationFromResultSet(rs);
+                    return new ApplicationMapper().map(rs);
                 }
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving application: " + applicationId, e);
+        } finally {
+            sample.stop();
         }
         
         return null;
@@ -184,71 +328,307 @@ public class ApplicationDAO {
         String sql = "SELECT * FROM Applications WHERE current_status = ? ORDER BY applied_date DESC";
         List<Application> applications = new ArrayList<>();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("ApplicationDAO.getApplicationsByStatus");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setString(1, status.getValue());
             
             try (ResultSet rs = stmt.executeQuery()) {
+                ApplicationMapper mapper = new ApplicationMapper();
                 while (rs.next()) {
-                    Application app = createApplicationFromResultSet(rs);
+                    Application app = mapper.map(rs);
                     applications.add(app);
                 }
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving applications by status: " + status, e);
+        } finally {
+            sample.stop();
         }
         
+        sample.rows(applications.size());
         return applications;
     }
     
     /**
-     * Delete application
+     * Stream applications by status without materializing them; close the stream when done
      */
-    public boolean deleteApplication(long applicationId) {
-        String sql = "DELETE FROM Applications WHERE application_id = ?";
+    public Stream<Application> streamApplicationsByStatus(ApplicationStatus status) {
+        String sql = "SELECT * FROM Applications WHERE current_status = ? ORDER BY applied_date DESC";
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("ApplicationDAO.streamApplicationsByStatus");
+        try {
+            return ResultSetStreams.stream(sql, stmt -> stmt.setString(1, status.getValue()),
+                    new ApplicationMapper(), sample);
+        } catch (SQLException e) {
+            sample.failed();
+            sample.stop();
+            logger.log(Level.SEVERE, "Error streaming applications by status: " + status, e);
+            return Stream.empty();
+        }
+    }
+    
+    /**
+     * Get one page of applications with the given status, newest first, using keyset pagination
+     * @param pageToken token from the previous page, or null for the first page
+     */
+    public Page<Application> getApplicationsByStatusPage(ApplicationStatus status, int pageSize, String pageToken) {
+        PageToken after = PageToken.decode(pageToken);
+        String sql = """
+            SELECT * FROM Applications
+            WHERE current_status = ?%s
+            ORDER BY applied_date DESC, application_id DESC
+            LIMIT ?
+            """.formatted(after == null ? "" 
+                : " AND (applied_date < ? OR (applied_date = ? AND application_id < ?))");
+        
+        List<Application> applications = new ArrayList<>();
+        
+        Timer.Sample sample = Metrics.start("ApplicationDAO.getApplicationsByStatusPage");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setLong(1, applicationId);
+            int index = 1;
+            stmt.setString(index++, status.getValue());
+            if (after != null) {
+                stmt.setTimestamp(index++, Timestamp.valueOf(after.getTimestamp()));
+                stmt.setTimestamp(index++, Timestamp.valueOf(after.getTimestamp()));
+                stmt.setLong(index++, after.getId());
+            }
+            stmt.setInt(index, PageToken.checkPageSize(pageSize) + 1);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                ApplicationMapper mapper = new ApplicationMapper();
+                while (rs.next()) {
+                    applications.add(mapper.map(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error retrieving applications page by status: " + status, e);
+        } finally {
+            sample.stop();
+        }
+        
+        sample.rows(applications.size());
+        if (applications.size() <= pageSize) {
+            return new Page<>(applications, null);
+        }
+        applications.remove(pageSize);
+        Application last = applications.get(pageSize - 1);
+        return new Page<>(applications, PageToken.encode(last.getAppliedDate(), last.getApplicationId()));
+    }
+    
+    /**
+     * Get an application's stage history, oldest first, one keyset page at a time.
+     * Stage rows are written in batches, so the newest transitions may show up to
+     * stageHistory.flushIntervalMs late.
+     */
+    public Page<ApplicationStage> getStageHistoryByApplication(long applicationId, int pageSize, String pageToken) {
+        String sql = """
+            SELECT s.stage_id, s.application_id, s.stage_name, s.stage_datetime
+            FROM Application_stage s
+            WHERE s.application_id = ?%s
+            ORDER BY s.stage_datetime, s.stage_id
+            LIMIT ?
+            """;
+        return getStagePage("ApplicationDAO.getStageHistoryByApplication", sql, applicationId, pageSize, pageToken);
+    }
+    
+    /**
+     * Get the stage history of all applications for a job, oldest first, one keyset page at a time
+     */
+    public Page<ApplicationStage> getStageHistoryByJob(long jobId, int pageSize, String pageToken) {
+        String sql = """
+            SELECT s.stage_id, s.application_id, s.stage_name, s.stage_datetime
+            FROM Application_stage s
+            JOIN Applications a ON s.application_id = a.application_id
+            WHERE a.job_id = ?%s
+            ORDER BY s.stage_datetime, s.stage_id
+            LIMIT ?
+            """;
+        return getStagePage("ApplicationDAO.getStageHistoryByJob", sql, jobId, pageSize, pageToken);
+    }
+    
+    /**
+     * Run a stage history query; sql has one key parameter and a %s slot for the keyset condition
+     */
+    private Page<ApplicationStage> getStagePage(String timerName, String sql, long key, int pageSize, String pageToken) {
+        PageToken after = PageToken.decode(pageToken);
+        String pageSql = sql.formatted(after == null ? ""
+                : " AND (s.stage_datetime > ? OR (s.stage_datetime = ? AND s.stage_id > ?))");
+        
+        List<ApplicationStage> stages = new ArrayList<>();
+        
+        Timer.Sample sample = Metrics.start(timerName);
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(pageSql)) {
             
-            int rowsAffected = stmt.executeUpdate();
-            logger.info("Application deleted: " + applicationId);
-            return rowsAffected > 0;
+            int index = 1;
+            stmt.setLong(index++, key);
+            if (after != null) {
+                stmt.setTimestamp(index++, Timestamp.valueOf(after.getTimestamp()));
+                stmt.setTimestamp(index++, Timestamp.valueOf(after.getTimestamp()));
+                stmt.setLong(index++, after.getId());
+            }
+            stmt.setInt(index, PageToken.checkPageSize(pageSize) + 1);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ApplicationStage stage = new ApplicationStage();
+                    stage.setStageId(rs.getLong("stage_id"));
+                    stage.setApplicationId(rs.getLong("application_id"));
+                    stage.setStageName(rs.getString("stage_name"));
+                    stage.setStageDatetime(rs.getTimestamp("stage_datetime").toLocalDateTime());
+                    stages.add(stage);
+                }
+            }
             
         } catch (SQLException e) {
-            logger.log(Level.SEVERE, "Error deleting application: " + applicationId, e);
-            return false;
+            sample.failed();
+            logger.log(Level.SEVERE, "Error retrieving stage history for: " + key, e);
+        } finally {
+            sample.stop();
+        }
+        
+        sample.rows(stages.size());
+        if (stages.size() <= pageSize) {
+            return new Page<>(stages, null);
         }
+        stages.remove(pageSize);
+        ApplicationStage last = stages.get(pageSize - 1);
+        return new Page<>(stages, PageToken.encode(last.getStageDatetime(), last.getStageId()));
     }
     
     /**
-     * Helper method to create Application object from ResultSet
+     * Delete application
      */
-    private Application createApplicationFromResultSet(ResultSet rs) throws SQLException {
-        Application app = new Application();
-        app.setApplicationId(rs.getLong("application_id"));
-        app.setJobId(rs.getLong("job_id"));
-        app.setCandidateId(rs.getLong("candidate_id"));
-        app.setCurrentStatus(rs.getString("current_status"));
-        app.setAppliedDate(rs.getTimestamp("applied_date").toLocalDateTime());
-        app.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
+    public boolean deleteApplication(long applicationId) {
+        String sql = "DELETE FROM Applications WHERE application_id = ?";
         
-        // Optional fields from joins
+        Timer.Sample sample = Metrics.start("ApplicationDAO.deleteApplication");
+        if (!UnitOfWork.isActive()) {
+            // Queued stage rows of this application would fail once it is gone. Inside a unit
+            // of work the writer may wait for this transaction's locks, so they are dropped instead.
+            StageHistoryWriter.shared().flush();
+        }
         try {
-            app.setResumeUrl(rs.getString("resume_url"));
-            app.setCandidateFirstName(rs.getString("first_name"));
-            app.setCandidateLastName(rs.getString("last_name"));
-            app.setCandidateEmail(rs.getString("email"));
-            app.setJobTitle(rs.getString("title"));
-            app.setJobDescription(rs.getString("description"));
-            app.setCompanyName(rs.getString("company_name"));
+            return UnitOfWork.execute(() -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement history = conn.prepareStatement(
+                             "DELETE FROM Application_stage WHERE application_id = ?");
+                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    
+                    // The job and candidate application counts change; find which ones to update
+                    Application before = lockApplication(conn, applicationId);
+                    history.setLong(1, applicationId);
+                    history.executeUpdate();
+                    stmt.setLong(1, applicationId);
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    if (before != null) {
+                        if (rowsAffected > 0) {
+                            StatisticsCounters.applicationDeleted(conn, before.getJobId(), before.getCandidateId(),
+                                    before.getCurrentStatus());
+                        }
+                        JobDAO.invalidateCachedJob(before.getJobId());
+                        CandidateDAO.invalidateCachedCandidate(before.getCandidateId());
+                    }
+                    events.info("Application deleted: {}", applicationId);
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
-            // Fields may not be present in all queries
+            sample.failed();
+            logger.log(Level.SEVERE, "Error deleting application: " + applicationId, e);
+            return false;
+        } finally {
+            sample.stop();
+        }
+    }
+    
+    /**
+     * Read and lock the job, candidate and status of an application before changing it
+     * @return application with only those fields set, or null if it does not exist
+     */
+    private static Application lockApplication(Connection conn, long applicationId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT job_id, candidate_id, current_status FROM Applications WHERE application_id = ? FOR UPDATE")) {
+            stmt.setLong(1, applicationId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                Application application = new Application();
+                application.setApplicationId(applicationId);
+                application.setJobId(rs.getLong("job_id"));
+                application.setCandidateId(rs.getLong("candidate_id"));
+                application.setCurrentStatus(rs.getString("current_status"));
+                return application;
+            }
+        }
+    }
+    
+    /**
+     * Append a stage row through the group-commit writer once the current transaction commits
+     */
+    private static void recordStage(long applicationId, String stage) {
+        ApplicationStage row = new ApplicationStage(applicationId, stage, LocalDateTime.now());
+        UnitOfWork.afterCommit(() -> StageHistoryWriter.shared().append(row));
+    }
+    
+    private static String statusOrDefault(Application app) {
+        return app.getCurrentStatus() != null ? app.getCurrentStatus() : ApplicationStatus.APPLIED.getValue();
+    }
+    
+    /**
+     * Maps Applications rows; the candidate, user and job columns are only present in join queries
+     */
+    private static class ApplicationMapper extends SlotRowMapper<Application> {
+        private int applicationId, jobId, candidateId, currentStatus, appliedDate, updatedAt;
+        private int resumeUrl, firstName, lastName, email, title, description, companyName;
+
+        @Override
+        protected void resolve(ColumnSlots slots) throws SQLException {
+            applicationId = slots.required("application_id");
+            jobId = slots.required("job_id");
+            candidateId = slots.required("candidate_id");
+            currentStatus = slots.required("current_status");
+            appliedDate = slots.required("applied_date");
+            updatedAt = slots.required("updated_at");
+            resumeUrl = slots.optional("resume_url");
+            firstName = slots.optional("first_name");
+            lastName = slots.optional("last_name");
+            email = slots.optional("email");
+            title = slots.optional("title");
+            description = slots.optional("description");
+            companyName = slots.optional("company_name");
+        }
+
+        @Override
+        protected Application mapRow(ResultSet rs) throws SQLException {
+            Application app = new Application();
+            app.setApplicationId(rs.getLong(applicationId));
+            app.setJobId(rs.getLong(jobId));
+            app.setCandidateId(rs.getLong(candidateId));
+            app.setCurrentStatus(rs.getString(currentStatus));
+            app.setAppliedDate(rs.getTimestamp(appliedDate).toLocalDateTime());
+            app.setUpdatedAt(rs.getTimestamp(updatedAt).toLocalDateTime());
+            
+            // Optional fields from joins
+            app.setResumeUrl(ColumnSlots.getString(rs, resumeUrl));
+            app.setCandidateFirstName(ColumnSlots.getString(rs, firstName));
+            app.setCandidateLastName(ColumnSlots.getString(rs, lastName));
+            app.setCandidateEmail(ColumnSlots.getString(rs, email));
+            app.setJobTitle(ColumnSlots.getString(rs, title));
+            app.setJobDescription(ColumnSlots.getString(rs, description));
+            app.setCompanyName(ColumnSlots.getString(rs, companyName));
+            
+            return app;
         }
-        
-        return app;
     }
 }
@@ -0,0 +1,188 @@
+package main.java.com.recruitment.dao;
+
+import main.java.com.recruitment.model.Application;
+import main.java.com.recruitment.model.Candidate;
+import main.java.com.recruitment.model.Interview;
+import main.java.com.recruitment.model.Job;
+import main.java.com.recruitment.model.Offer;
+import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.util.UnitOfWork;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs DAO calls asynchronously so independent queries can be issued in parallel.
+ *
+ * Calls run on a virtual-thread-per-task executor when the JVM provides one (Java 21+),
+ * otherwise on a fixed pool of daemon threads. At most async.maxConcurrency calls (default:
+ * pool.maxSize) run at once, so parallel callers wait for a permit instead of piling up
+ * in the connection pool's borrow queue.
+ *
+ * Calls run outside the caller's thread and therefore cannot join its {@link UnitOfWork};
+ * submitting from inside a unit of work is rejected. They do share the caller's
+ * read-your-writes window, so a call reads the caller's recent writes and a write made in a
+ * call is visible to the caller's next read.
+ */
+public class AsyncDAOFacade implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger(AsyncDAOFacade.class.getName());
+
+    private final ApplicationDAO applicationDAO = new ApplicationDAO();
+    private final CandidateDAO candidateDAO = new CandidateDAO();
+    private final InterviewDAO interviewDAO = new InterviewDAO();
+    private final JobDAO jobDAO = new JobDAO();
+    private final OfferDAO offerDAO = new OfferDAO();
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public AsyncDAOFacade() {
+        this(DatabaseConnection.getIntProperty("async.maxConcurrency",
+                DatabaseConnection.getIntProperty("pool.maxSize", 10)));
+    }
+
+    public AsyncDAOFacade(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.executor = createExecutor(maxConcurrency);
+    }
+
+    /**
+     * Candidate with their applications, interviews and offers
+     */
+    public static class CandidateProfile {
+        private final Candidate candidate;
+        private final List<Application> applications;
+        private final List<Interview> interviews;
+        private final List<Offer> offers;
+
+        public CandidateProfile(Candidate candidate, List<Application> applications,
+                                List<Interview> interviews, List<Offer> offers) {
+            this.candidate = candidate;
+            this.applications = applications;
+            this.interviews = interviews;
+            this.offers = offers;
+        }
+
+        // Getters
+        public Candidate getCandidate() { return candidate; }
+        public List<Application> getApplications() { return applications; }
+        public List<Interview> getInterviews() { return interviews; }
+        public List<Offer> getOffers() { return offers; }
+    }
+
+    /**
+     * Load a candidate profile, running its four queries in parallel
+     * @return future of the profile; its candidate is null if the candidate does not exist
+     */
+    public CompletableFuture<CandidateProfile> getCandidateProfile(long candidateId) {
+        CompletableFuture<Candidate> candidate = getCandidate(candidateId);
+        CompletableFuture<List<Application>> applications = getApplicationsByCandidate(candidateId);
+        CompletableFuture<List<Interview>> interviews = getInterviewsByCandidate(candidateId);
+        CompletableFuture<List<Offer>> offers = getOffersByCandidate(candidateId);
+
+        return CompletableFuture.allOf(candidate, applications, interviews, offers)
+                .thenApply(ignored -> new CandidateProfile(
+                        candidate.join(), applications.join(), interviews.join(), offers.join()));
+    }
+
+    public CompletableFuture<Candidate> getCandidate(long candidateId) {
+        return supplyAsync(() -> candidateDAO.getCandidateById(candidateId));
+    }
+
+    public CompletableFuture<Job> getJob(long jobId) {
+        return supplyAsync(() -> jobDAO.getJobById(jobId));
+    }
+
+    public CompletableFuture<List<Application>> getApplicationsByCandidate(long candidateId) {
+        return supplyAsync(() -> applicationDAO.getApplicationsByCandidate(candidateId));
+    }
+
+    public CompletableFuture<List<Application>> getApplicationsByJob(long jobId) {
+        return supplyAsync(() -> applicationDAO.getApplicationsByJob(jobId));
+    }
+
+    public CompletableFuture<List<Interview>> getInterviewsByCandidate(long candidateId) {
+        return supplyAsync(() -> interviewDAO.getInterviewsByCandidate(candidateId));
+    }
+
+    public CompletableFuture<List<Interview>> getUpcomingInterviews() {
+        return supplyAsync(interviewDAO::getUpcomingInterviews);
+    }
+
+    public CompletableFuture<List<Offer>> getOffersByCandidate(long candidateId) {
+        return supplyAsync(() -> offerDAO.getOffersByCandidate(candidateId));
+    }
+
+    public CompletableFuture<List<Offer>> getPendingOffers() {
+        return supplyAsync(offerDAO::getPendingOffers);
+    }
+
+    /**
+     * Run any DAO call under the facade's concurrency limit
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> call) {
+        if (UnitOfWork.isActive()) {
+            throw new IllegalStateException("Async DAO calls cannot join the current unit of work");
+        }
+        Supplier<T> sharedClock = DatabaseConnection.withWriteClock(call);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return sharedClock.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Stop accepting calls and wait briefly for running ones
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warning("Async DAO calls still running after 30s; abandoning them");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    private static ExecutorService createExecutor(int maxConcurrency) {
+        try {
+            ExecutorService virtual = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            logger.info("Async DAO calls use virtual threads");
+            return virtual;
+        } catch (ReflectiveOperationException e) {
+            logger.log(Level.FINE, "Virtual threads not available; using a platform thread pool", e);
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "async-dao-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -1,16 +1,50 @@
 package main.java.com.recruitment.dao;
 
 import main.java.com.recruitment.model.Candidate;
+import main.java.com.recruitment.util.BatchInserter;
+import main.java.com.recruitment.util.BatchResult;
+import main.java.com.recruitment.logging.EventLogger;
 import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.util.EntityCache;
+import main.java.com.recruitment.util.EntityCacheStats;
+import main.java.com.recruitment.util.Page;
+import main.java.com.recruitment.util.PageToken;
+import main.java.com.recruitment.util.ResultSetStreams;
+import main.java.com.recruitment.util.UnitOfWork;
+import main.java.com.recruitment.metrics.Metrics;
+import main.java.com.recruitment.metrics.Timer;
+import main.java.com.recruitment.search.CandidateSearchIndex;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.logging.Level;
+import java.util.stream.Stream;
 
 public class CandidateDAO {
     private static final Logger logger = Logger.getLogger(CandidateDAO.class.getName());
+    private static final EventLogger events = EventLogger.get("dao.candidate", CandidateDAO.class.getName());
+    
+    // Shared by all CandidateDAO instances; invalidated by the candidate and application write paths
+    private static final EntityCache<Long, Candidate> candidateCache =
+            EntityCache.fromProperties("candidate", 10_000, 60_000, Candidate::new);
+    
+    // Name/email search; built in the background when the DAO is first loaded
+    private static final CandidateSearchIndex searchIndex = CandidateSearchIndex.shared();
+    private static final boolean searchIndexEnabled =
+            Boolean.parseBoolean(DatabaseConnection.getProperty("search.candidates.indexEnabled", "true"));
+    private static final int MAX_IN_LIST = 500;
+    
+    static {
+        if (searchIndexEnabled) {
+            searchIndex.buildInBackground();
+        }
+    }
     
     /**
      * Create a new candidate profile
@@ -21,6 +55,7 @@ public class CandidateDAO {
             VALUES (?, ?, NOW())
             """;
         
+        Timer.Sample sample = Metrics.start("CandidateDAO.createCandidate");
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             
@@ -30,28 +65,78 @@ public class CandidateDAO {
             int rowsAffected = stmt.executeUpdate();
             
             if (rowsAffected > 0) {
+                DatabaseConnection.recordWrite();
                 try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
                     if (generatedKeys.next()) {
                         long candidateId = generatedKeys.getLong(1);
-                        logger.info("Candidate profile created successfully with ID: " + candidateId);
+                        searchIndex.refresh(candidateId);
+                        events.info("Candidate profile created successfully with ID: {}", candidateId);
                         return candidateId;
                     }
                 }
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error creating candidate profile", e);
+        } finally {
+            sample.stop();
         }
         
         return -1;
     }
     
+    /**
+     * Create candidate profiles in JDBC batches using the default chunk size
+     */
+    public BatchResult createCandidates(List<Candidate> candidates) {
+        return createCandidates(candidates, BatchInserter.defaultChunkSize());
+    }
+    
+    /**
+     * Create candidate profiles in JDBC batches.
+     * Each candidate needs userId and resumeUrl; generated IDs are set on the inserted objects.
+     */
+    public BatchResult createCandidates(List<Candidate> candidates, int chunkSize) {
+        String sql = """
+            INSERT INTO Candidate (user_id, resume_url, created_at)
+            VALUES (?, ?, NOW())
+            """;
+        
+        Timer.Sample sample = Metrics.start("CandidateDAO.createCandidates");
+        try {
+            BatchResult result = BatchInserter.insert(sql, candidates, chunkSize, (stmt, candidate) -> {
+                stmt.setLong(1, candidate.getUserId());
+                stmt.setString(2, candidate.getResumeUrl());
+            });
+            
+            List<Long> createdIds = new ArrayList<>();
+            for (int i = 0; i < candidates.size(); i++) {
+                if (result.isSuccess(i)) {
+                    candidates.get(i).setCandidateId(result.getGeneratedId(i));
+                    createdIds.add(result.getGeneratedId(i));
+                }
+            }
+            searchIndex.refreshAll(createdIds);
+            events.info("Bulk candidate insert finished: {}", result);
+            return result;
+            
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error creating candidate profiles in bulk", e);
+            return BatchResult.allFailed(candidates.size(), e.getMessage());
+        } finally {
+            sample.stop();
+        }
+    }
+    
     /**
      * Update candidate profile
      */
     public boolean updateCandidate(long candidateId, String resumeUrl) {
         String sql = "UPDATE Candidate SET resume_url = ? WHERE candidate_id = ?";
         
+        Timer.Sample sample = Metrics.start("CandidateDAO.updateCandidate");
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
@@ -59,12 +144,18 @@ public class CandidateDAO {
             stmt.setLong(2, candidateId);
             
             int rowsAffected = stmt.executeUpdate();
-            logger.info("Candidate profile updated successfully: " + candidateId);
+            DatabaseConnection.recordWrite();
+            candidateCache.invalidate(candidateId);
+            searchIndex.refresh(candidateId);
+            events.info("Candidate profile updated successfully: {}", candidateId);
             return rowsAffected > 0;
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error updating candidate profile: " + candidateId, e);
             return false;
+        } finally {
+            sample.stop();
         }
     }
     
@@ -83,28 +174,116 @@ public class CandidateDAO {
             GROUP BY c.candidate_id
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setLong(1, candidateId);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return createCandidateFromResultSet(rs);
+        Timer.Sample sample = Metrics.start("CandidateDAO.getCandidateById");
+        try {
+            return candidateCache.get(candidateId, id -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    
+                    stmt.setLong(1, id);
+                    
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        return rs.next() ? createCandidateFromResultSet(rs) : null;
+                    }
                 }
-            }
-            
+            });
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving candidate: " + candidateId, e);
+        } finally {
+            sample.stop();
         }
         
         return null;
     }
     
     /**
-     * Search candidates by name
+     * Search candidates by name or email, best matches first.
+     * Uses the in-memory search index once it is built, otherwise a LIKE scan.
      */
     public List<Candidate> searchCandidatesByName(String nameKeywords) {
+        return searchCandidatesByName(nameKeywords,
+                DatabaseConnection.getIntProperty("search.candidates.maxResults", 100));
+    }
+    
+    /**
+     * Search candidates by name or email, returning at most limit candidates
+     */
+    public List<Candidate> searchCandidatesByName(String nameKeywords, int limit) {
+        if (!searchIndexEnabled) {
+            return scanCandidatesByName(nameKeywords, limit);
+        }
+        if (!searchIndex.isReady()) {
+            // Restarts the build if its background thread has stopped; no-op while it runs
+            searchIndex.buildInBackground();
+            return scanCandidatesByName(nameKeywords, limit);
+        }
+        
+        Timer.Sample sample = Metrics.start("CandidateDAO.searchCandidatesByName");
+        try {
+            List<Long> ids = searchIndex.search(nameKeywords, limit).getCandidateIds();
+            List<Candidate> candidates = getCandidatesByIds(ids);
+            sample.rows(candidates.size());
+            return candidates;
+        } finally {
+            sample.stop();
+        }
+    }
+    
+    /**
+     * Get candidates by ID with one query per 500 IDs
+     * @return found candidates in the order of the given IDs
+     */
+    public List<Candidate> getCandidatesByIds(List<Long> candidateIds) {
+        Map<Long, Candidate> found = new HashMap<>();
+        
+        Timer.Sample sample = Metrics.start("CandidateDAO.getCandidatesByIds");
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            for (int from = 0; from < candidateIds.size(); from += MAX_IN_LIST) {
+                List<Long> slice = candidateIds.subList(from, Math.min(from + MAX_IN_LIST, candidateIds.size()));
+                String sql = """
+                    SELECT c.candidate_id, c.user_id, c.resume_url, c.created_at,
+                           u.first_name, u.last_name, u.email, u.phone_no,
+                           (SELECT COUNT(*) FROM Applications a WHERE a.candidate_id = c.candidate_id) as application_count
+                    FROM Candidate c
+                    JOIN User u ON c.user_id = u.user_id
+                    WHERE c.candidate_id IN (%s)
+                    """.formatted(String.join(",", Collections.nCopies(slice.size(), "?")));
+                
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < slice.size(); i++) {
+                        stmt.setLong(i + 1, slice.get(i));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            Candidate candidate = createCandidateFromResultSet(rs);
+                            found.put(candidate.getCandidateId(), candidate);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error retrieving candidates by ID", e);
+        } finally {
+            sample.stop();
+        }
+        
+        List<Candidate> candidates = new ArrayList<>(found.size());
+        for (Long id : candidateIds) {
+            Candidate candidate = found.get(id);
+            if (candidate != null) {
+                candidates.add(candidate);
+            }
+        }
+        sample.rows(candidates.size());
+        return candidates;
+    }
+    
+    /**
+     * Name search by LIKE scan, used until the search index is built
+     */
+    private List<Candidate> scanCandidatesByName(String nameKeywords, int limit) {
         String sql = """
             SELECT c.candidate_id, c.user_id, c.resume_url, c.created_at,
                    u.first_name, u.last_name, u.email, u.phone_no,
@@ -115,16 +294,19 @@ public class CandidateDAO {
             WHERE u.first_name LIKE ? OR u.last_name LIKE ?
             GROUP BY c.candidate_id
             ORDER BY c.created_at DESC
+            LIMIT ?
             """;
         
         List<Candidate> candidates = new ArrayList<>();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("CandidateDAO.scanCandidatesByName");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             String pattern = "%" + nameKeywords + "%";
             stmt.setString(1, pattern);
             stmt.setString(2, pattern);
+            stmt.setInt(3, limit);
             
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
@@ -134,9 +316,13 @@ public class CandidateDAO {
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error searching candidates by name: " + nameKeywords, e);
+        } finally {
+            sample.stop();
         }
         
+        sample.rows(candidates.size());
         return candidates;
     }
     
@@ -157,7 +343,8 @@ public class CandidateDAO {
         
         List<Candidate> candidates = new ArrayList<>();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("CandidateDAO.getAllCandidates");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
             
@@ -167,33 +354,115 @@ public class CandidateDAO {
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving all candidates", e);
+        } finally {
+            sample.stop();
         }
         
+        sample.rows(candidates.size());
         return candidates;
     }
     
     /**
-     * Get candidate statistics
+     * Stream all candidates without materializing them; close the stream when done
      */
-    public CandidateStatistics getCandidateStatistics(long candidateId) {
+    public Stream<Candidate> streamAllCandidates() {
         String sql = """
-            SELECT 
-                COUNT(a.application_id) as total_applications,
-                SUM(CASE WHEN a.current_status = 'applied' THEN 1 ELSE 0 END) as pending_applications,
-                SUM(CASE WHEN a.current_status = 'interview' THEN 1 ELSE 0 END) as interview_applications,
-                SUM(CASE WHEN a.current_status = 'offer' THEN 1 ELSE 0 END) as offer_applications,
-                SUM(CASE WHEN a.current_status = 'rejected' THEN 1 ELSE 0 END) as rejected_applications,
-                COUNT(DISTINCT i.interview_id) as total_interviews,
-                COUNT(DISTINCT o.offer_id) as total_offers
+            SELECT c.candidate_id, c.user_id, c.resume_url, c.created_at,
+                   u.first_name, u.last_name, u.email, u.phone_no,
+                   COUNT(a.application_id) as application_count
             FROM Candidate c
+            JOIN User u ON c.user_id = u.user_id
             LEFT JOIN Applications a ON c.candidate_id = a.candidate_id
-            LEFT JOIN Interview i ON a.application_id = i.application_id
-            LEFT JOIN offer o ON a.application_id = o.application_id
-            WHERE c.candidate_id = ?
+            GROUP BY c.candidate_id
+            ORDER BY c.created_at DESC
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("CandidateDAO.streamAllCandidates");
+        try {
+            return ResultSetStreams.stream(sql, stmt -> {}, this::createCandidateFromResultSet, sample);
+        } catch (SQLException e) {
+            sample.failed();
+            sample.stop();
+            logger.log(Level.SEVERE, "Error streaming all candidates", e);
+            return Stream.empty();
+        }
+    }
+    
+    /**
+     * Get one page of candidates, newest first, using keyset pagination
+     * @param pageToken token from the previous page, or null for the first page
+     */
+    public Page<Candidate> getCandidatesPage(int pageSize, String pageToken) {
+        PageToken after = PageToken.decode(pageToken);
+        String sql = """
+            SELECT c.candidate_id, c.user_id, c.resume_url, c.created_at,
+                   u.first_name, u.last_name, u.email, u.phone_no,
+                   (SELECT COUNT(*) FROM Applications a WHERE a.candidate_id = c.candidate_id) as application_count
+            FROM Candidate c
+            JOIN User u ON c.user_id = u.user_id
+            %s
+            ORDER BY c.created_at DESC, c.candidate_id DESC
+            LIMIT ?
+            """.formatted(after == null ? "" 
+                : "WHERE c.created_at < ? OR (c.created_at = ? AND c.candidate_id < ?)");
+        
+        List<Candidate> candidates = new ArrayList<>();
+        
+        Timer.Sample sample = Metrics.start("CandidateDAO.getCandidatesPage");
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            if (after != null) {
+                stmt.setTimestamp(index++, Timestamp.valueOf(after.getTimestamp()));
+                stmt.setTimestamp(index++, Timestamp.valueOf(after.getTimestamp()));
+                stmt.setLong(index++, after.getId());
+            }
+            stmt.setInt(index, PageToken.checkPageSize(pageSize) + 1);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    candidates.add(createCandidateFromResultSet(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error retrieving candidates page", e);
+        } finally {
+            sample.stop();
+        }
+        
+        sample.rows(candidates.size());
+        if (candidates.size() <= pageSize) {
+            return new Page<>(candidates, null);
+        }
+        candidates.remove(pageSize);
+        Candidate last = candidates.get(pageSize - 1);
+        return new Page<>(candidates, PageToken.encode(last.getCreatedAt(), last.getCandidateId()));
+    }
+    
+    /**
+     * Get candidate statistics from the candidate_stats counters
+     */
+    public CandidateStatistics getCandidateStatistics(long candidateId) {
+        String sql = """
+            SELECT 
+                total_applications,
+                applied_count as pending_applications,
+                interview_count as interview_applications,
+                offer_count as offer_applications,
+                rejected_count as rejected_applications,
+                total_interviews,
+                total_offers
+            FROM candidate_stats
+            WHERE candidate_id = ?
+            """;
+        
+        Timer.Sample sample = Metrics.start("CandidateDAO.getCandidateStatistics");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, candidateId);
@@ -210,33 +479,88 @@ public class CandidateDAO {
                         rs.getInt("total_offers")
                     );
                 }
+                // No counter row yet: the candidate has not applied anywhere
+                return new CandidateStatistics(0, 0, 0, 0, 0, 0, 0);
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving candidate statistics: " + candidateId, e);
+        } finally {
+            sample.stop();
         }
         
         return null;
     }
     
+    /**
+     * Recompute statistics for a shortlist of candidates from the base tables with three
+     * queries per 500 IDs (see {@link CandidateStatisticsEngine}); unlike
+     * {@link #getCandidateStatistics(long)} this does not read the candidate_stats counters,
+     * so it is exact even when the counters have drifted
+     * @return statistics in the order of the given IDs, or an empty map on error
+     */
+    public Map<Long, CandidateStatistics> computeCandidateStatistics(Collection<Long> candidateIds) {
+        Timer.Sample sample = Metrics.start("CandidateDAO.computeCandidateStatistics");
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            Map<Long, CandidateStatistics> statistics = CandidateStatisticsEngine.compute(conn, candidateIds);
+            sample.rows(statistics.size());
+            return statistics;
+            
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error retrieving statistics for " + candidateIds.size() + " candidates", e);
+            return Collections.emptyMap();
+        } finally {
+            sample.stop();
+        }
+    }
+    
+    /**
+     * Hit/miss/eviction counters of the getCandidateById cache
+     */
+    public static EntityCacheStats getCacheStats() {
+        return candidateCache.getStats();
+    }
+    
+    /**
+     * Drop a cached candidate after a write elsewhere changed it, e.g. its application count
+     */
+    static void invalidateCachedCandidate(long candidateId) {
+        candidateCache.invalidate(candidateId);
+    }
+    
     /**
      * Delete candidate profile
      */
     public boolean deleteCandidate(long candidateId) {
         String sql = "DELETE FROM Candidate WHERE candidate_id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setLong(1, candidateId);
-            
-            int rowsAffected = stmt.executeUpdate();
-            logger.info("Candidate profile deleted: " + candidateId);
+        Timer.Sample sample = Metrics.start("CandidateDAO.deleteCandidate");
+        try {
+            int rowsAffected = UnitOfWork.execute(() -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setLong(1, candidateId);
+                    int deleted = stmt.executeUpdate();
+                    if (deleted > 0) {
+                        StatisticsCounters.candidateDeleted(conn, candidateId);
+                    }
+                    return deleted;
+                }
+            });
+            candidateCache.invalidate(candidateId);
+            // A candidate with applications cannot be deleted, so no job's cached counts change
+            searchIndex.remove(candidateId);
+            events.info("Candidate profile deleted: {}", candidateId);
             return rowsAffected > 0;
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error deleting candidate profile: " + candidateId, e);
             return false;
+        } finally {
+            sample.stop();
         }
     }
     
@@ -0,0 +1,117 @@
+package main.java.com.recruitment.dao;
+
+import main.java.com.recruitment.dao.CandidateDAO.CandidateStatistics;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes candidate statistics from the base tables for many candidates at once.
+ *
+ * Applications, interviews and offers are each aggregated by candidate in their own
+ * GROUP BY query and merged in memory, so no query joins two child tables and no count
+ * is multiplied by another child's rows. IDs are sent in IN lists of up to 500, which makes
+ * a shortlist cost three queries per 500 candidates instead of one query per candidate.
+ */
+public final class CandidateStatisticsEngine {
+    private static final int MAX_IN_LIST = 500;
+
+    private static final String APPLICATIONS_SQL = """
+        SELECT candidate_id,
+               COUNT(*) as total_applications,
+               SUM(current_status = 'applied') as pending_applications,
+               SUM(current_status = 'interview') as interview_applications,
+               SUM(current_status = 'offer') as offer_applications,
+               SUM(current_status = 'rejected') as rejected_applications
+        FROM Applications
+        WHERE candidate_id IN (%s)
+        GROUP BY candidate_id
+        """;
+
+    private static final String INTERVIEWS_SQL = """
+        SELECT a.candidate_id, COUNT(*) as total_interviews
+        FROM Interview i
+        JOIN Applications a ON i.application_id = a.application_id
+        WHERE a.candidate_id IN (%s)
+        GROUP BY a.candidate_id
+        """;
+
+    private static final String OFFERS_SQL = """
+        SELECT a.candidate_id, COUNT(*) as total_offers
+        FROM offer o
+        JOIN Applications a ON o.application_id = a.application_id
+        WHERE a.candidate_id IN (%s)
+        GROUP BY a.candidate_id
+        """;
+
+    // Indexes into the per-candidate accumulator
+    private static final int TOTAL = 0, PENDING = 1, INTERVIEW = 2, OFFER = 3, REJECTED = 4,
+            INTERVIEWS = 5, OFFERS = 6;
+
+    private CandidateStatisticsEngine() {}
+
+    /**
+     * Compute statistics for each distinct candidate ID on the given connection
+     * @return statistics in the order of the given IDs; all zero for candidates without applications
+     */
+    public static Map<Long, CandidateStatistics> compute(Connection conn, Collection<Long> candidateIds)
+            throws SQLException {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(candidateIds));
+        Map<Long, int[]> counts = new LinkedHashMap<>();
+        for (Long id : ids) {
+            counts.put(id, new int[7]);
+        }
+
+        for (int from = 0; from < ids.size(); from += MAX_IN_LIST) {
+            List<Long> slice = ids.subList(from, Math.min(from + MAX_IN_LIST, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(slice.size(), "?"));
+
+            aggregate(conn, APPLICATIONS_SQL.formatted(placeholders), slice, (rs, row) -> {
+                row[TOTAL] = rs.getInt("total_applications");
+                row[PENDING] = rs.getInt("pending_applications");
+                row[INTERVIEW] = rs.getInt("interview_applications");
+                row[OFFER] = rs.getInt("offer_applications");
+                row[REJECTED] = rs.getInt("rejected_applications");
+            }, counts);
+            aggregate(conn, INTERVIEWS_SQL.formatted(placeholders), slice,
+                    (rs, row) -> row[INTERVIEWS] = rs.getInt("total_interviews"), counts);
+            aggregate(conn, OFFERS_SQL.formatted(placeholders), slice,
+                    (rs, row) -> row[OFFERS] = rs.getInt("total_offers"), counts);
+        }
+
+        Map<Long, CandidateStatistics> statistics = new LinkedHashMap<>();
+        counts.forEach((id, row) -> statistics.put(id, new CandidateStatistics(row[TOTAL], row[PENDING],
+                row[INTERVIEW], row[OFFER], row[REJECTED], row[INTERVIEWS], row[OFFERS])));
+        return statistics;
+    }
+
+    @FunctionalInterface
+    private interface RowMerger {
+        void merge(ResultSet rs, int[] row) throws SQLException;
+    }
+
+    private static void aggregate(Connection conn, String sql, List<Long> ids, RowMerger merger,
+                                  Map<Long, int[]> counts) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < ids.size(); i++) {
+                stmt.setLong(i + 1, ids.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int[] row = counts.get(rs.getLong("candidate_id"));
+                    if (row != null) {
+                        merger.merge(rs, row);
+                    }
+                }
+            }
+        }
+    }
+}
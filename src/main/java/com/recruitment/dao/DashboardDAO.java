@@ -0,0 +1,388 @@
+package main.java.com.recruitment.dao;
+
+import main.java.com.recruitment.dao.JobDAO.JobStatistics;
+import main.java.com.recruitment.dao.OfferDAO.OfferStatistics;
+import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.metrics.Metrics;
+import main.java.com.recruitment.metrics.Timer;
+import java.sql.*;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Job, offer and application-funnel statistics for every company in one report.
+ *
+ * Each child table is aggregated with its own GROUP BY company query, so no count is
+ * multiplied by another table's rows. When there are more than dashboard.companiesPerRange
+ * companies the company_id space is split into ranges that are aggregated in parallel on a
+ * shared pool of dashboard.parallelism threads, each range on its own read connection.
+ * Reads go through getReadConnection, so the report may trail the primary by the replica lag.
+ */
+public class DashboardDAO {
+    private static final Logger logger = Logger.getLogger(DashboardDAO.class.getName());
+
+    private static final String JOBS_SQL = """
+        SELECT company_id, COUNT(*) as total_jobs,
+               SUM(status = 'open') as open_jobs,
+               SUM(status = 'closed') as closed_jobs,
+               SUM(status = 'on_hold') as on_hold_jobs
+        FROM Job
+        WHERE company_id BETWEEN ? AND ?
+        GROUP BY company_id
+        """;
+
+    private static final String APPLICATIONS_SQL = """
+        SELECT j.company_id,
+               SUM(a.current_status = 'applied') as applied,
+               SUM(a.current_status = 'screened') as screened,
+               SUM(a.current_status = 'interview') as interview,
+               SUM(a.current_status = 'offer') as offer,
+               SUM(a.current_status = 'rejected') as rejected
+        FROM Applications a
+        JOIN Job j ON a.job_id = j.job_id
+        WHERE j.company_id BETWEEN ? AND ?
+        GROUP BY j.company_id
+        """;
+
+    private static final String OFFERS_SQL = """
+        SELECT j.company_id, COUNT(*) as total_offers,
+               SUM(o.status = 'pending') as pending_offers,
+               SUM(o.status = 'accepted') as accepted_offers,
+               SUM(o.status = 'declined') as declined_offers,
+               COALESCE(SUM(o.salary_offered), 0) as salary_sum,
+               COUNT(o.salary_offered) as salary_count
+        FROM offer o
+        JOIN Applications a ON o.application_id = a.application_id
+        JOIN Job j ON a.job_id = j.job_id
+        WHERE j.company_id BETWEEN ? AND ?
+        GROUP BY j.company_id
+        """;
+
+    private static final String COMPANIES_SQL =
+        "SELECT company_id, company_name FROM company WHERE company_id BETWEEN ? AND ?";
+
+    private static final int PARALLELISM = Math.max(1, DatabaseConnection.getIntProperty("dashboard.parallelism", 4));
+    private static final ExecutorService executor = createExecutor(PARALLELISM);
+
+    private final int companiesPerRange;
+
+    public DashboardDAO() {
+        this(DatabaseConnection.getIntProperty("dashboard.companiesPerRange", 5000));
+    }
+
+    public DashboardDAO(int companiesPerRange) {
+        if (companiesPerRange < 1) {
+            throw new IllegalArgumentException("companiesPerRange must be positive");
+        }
+        this.companiesPerRange = companiesPerRange;
+    }
+
+    /**
+     * Compute the dashboard for all companies
+     * @return report snapshot, or null on error
+     */
+    public DashboardReport getDashboard() {
+        long start = System.currentTimeMillis();
+
+        Timer.Sample sample = Metrics.start("DashboardDAO.getDashboard");
+        try {
+            long minId;
+            long maxId;
+            long companies;
+            try (Connection conn = DatabaseConnection.getReadConnection();
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT MIN(company_id), MAX(company_id), COUNT(*) FROM company")) {
+                rs.next();
+                minId = rs.getLong(1);
+                maxId = rs.getLong(2);
+                companies = rs.getLong(3);
+            }
+
+            Map<Long, Tally> tallies = new TreeMap<>();
+            int ranges = (int) Math.min(Integer.MAX_VALUE, (companies + companiesPerRange - 1) / companiesPerRange);
+            if (ranges <= 1) {
+                tallies.putAll(aggregateRange(minId, maxId));
+            } else {
+                long width = (maxId - minId) / ranges + 1;
+                List<Future<Map<Long, Tally>>> pieces = new ArrayList<>(ranges);
+                for (long low = minId; low <= maxId; low += width) {
+                    long from = low;
+                    long to = Math.min(maxId, low + width - 1);
+                    pieces.add(executor.submit(() -> aggregateRange(from, to)));
+                }
+                try {
+                    for (Future<Map<Long, Tally>> piece : pieces) {
+                        tallies.putAll(piece.get());
+                    }
+                } finally {
+                    pieces.forEach(piece -> piece.cancel(true));
+                }
+            }
+
+            DashboardReport report = toReport(tallies, Instant.ofEpochMilli(start), System.currentTimeMillis() - start);
+            sample.rows(tallies.size());
+            logger.info("Dashboard for " + tallies.size() + " companies computed in "
+                    + report.getElapsedMillis() + " ms over " + Math.max(1, ranges) + " range(s)");
+            return report;
+
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error computing dashboard", e);
+        } catch (ExecutionException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error computing dashboard", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sample.failed();
+            logger.log(Level.WARNING, "Dashboard computation interrupted", e);
+        } finally {
+            sample.stop();
+        }
+
+        return null;
+    }
+
+    /**
+     * Run the four per-table aggregates for companies in [from, to]
+     */
+    private Map<Long, Tally> aggregateRange(long from, long to) throws SQLException {
+        Map<Long, Tally> tallies = new TreeMap<>();
+        try (Connection conn = DatabaseConnection.getReadConnection()) {
+            query(conn, COMPANIES_SQL, from, to, (rs, tally) -> tally.companyName = rs.getString("company_name"), tallies);
+            query(conn, JOBS_SQL, from, to, (rs, tally) -> {
+                tally.totalJobs = rs.getInt("total_jobs");
+                tally.openJobs = rs.getInt("open_jobs");
+                tally.closedJobs = rs.getInt("closed_jobs");
+                tally.onHoldJobs = rs.getInt("on_hold_jobs");
+            }, tallies);
+            query(conn, APPLICATIONS_SQL, from, to, (rs, tally) -> {
+                tally.applied = rs.getInt("applied");
+                tally.screened = rs.getInt("screened");
+                tally.interview = rs.getInt("interview");
+                tally.offer = rs.getInt("offer");
+                tally.rejected = rs.getInt("rejected");
+            }, tallies);
+            query(conn, OFFERS_SQL, from, to, (rs, tally) -> {
+                tally.totalOffers = rs.getInt("total_offers");
+                tally.pendingOffers = rs.getInt("pending_offers");
+                tally.acceptedOffers = rs.getInt("accepted_offers");
+                tally.declinedOffers = rs.getInt("declined_offers");
+                tally.salarySum = rs.getDouble("salary_sum");
+                tally.salaryCount = rs.getInt("salary_count");
+            }, tallies);
+        }
+        return tallies;
+    }
+
+    @FunctionalInterface
+    private interface TallyMerger {
+        void merge(ResultSet rs, Tally tally) throws SQLException;
+    }
+
+    private static void query(Connection conn, String sql, long from, long to, TallyMerger merger,
+                              Map<Long, Tally> tallies) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setLong(1, from);
+            stmt.setLong(2, to);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    long companyId = rs.getLong("company_id");
+                    merger.merge(rs, tallies.computeIfAbsent(companyId, Tally::new));
+                }
+            }
+        }
+    }
+
+    private static DashboardReport toReport(Map<Long, Tally> tallies, Instant generatedAt, long elapsedMillis) {
+        List<CompanySummary> companies = new ArrayList<>(tallies.size());
+        Tally totals = new Tally(0);
+        totals.companyName = "All companies";
+        for (Tally tally : tallies.values()) {
+            companies.add(tally.toSummary());
+            totals.add(tally);
+        }
+        return new DashboardReport(generatedAt, elapsedMillis, companies, totals.toSummary());
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Mutable per-company counts while the ranges are aggregated
+     */
+    private static class Tally {
+        final long companyId;
+        String companyName;
+        int totalJobs, openJobs, closedJobs, onHoldJobs;
+        int applied, screened, interview, offer, rejected;
+        int totalOffers, pendingOffers, acceptedOffers, declinedOffers;
+        double salarySum;
+        int salaryCount;
+
+        Tally(long companyId) {
+            this.companyId = companyId;
+        }
+
+        void add(Tally other) {
+            totalJobs += other.totalJobs;
+            openJobs += other.openJobs;
+            closedJobs += other.closedJobs;
+            onHoldJobs += other.onHoldJobs;
+            applied += other.applied;
+            screened += other.screened;
+            interview += other.interview;
+            offer += other.offer;
+            rejected += other.rejected;
+            totalOffers += other.totalOffers;
+            pendingOffers += other.pendingOffers;
+            acceptedOffers += other.acceptedOffers;
+            declinedOffers += other.declinedOffers;
+            salarySum += other.salarySum;
+            salaryCount += other.salaryCount;
+        }
+
+        CompanySummary toSummary() {
+            ApplicationFunnel funnel = new ApplicationFunnel(applied, screened, interview, offer, rejected);
+            return new CompanySummary(companyId, companyName,
+                    new JobStatistics(totalJobs, openJobs, closedJobs, onHoldJobs, funnel.getTotal()),
+                    new OfferStatistics(totalOffers, pendingOffers, acceptedOffers, declinedOffers,
+                            salaryCount > 0 ? salarySum / salaryCount : 0),
+                    funnel);
+        }
+    }
+
+    // Inner class for the application counts by current status
+    public static class ApplicationFunnel {
+        private final int applied;
+        private final int screened;
+        private final int interview;
+        private final int offer;
+        private final int rejected;
+
+        public ApplicationFunnel(int applied, int screened, int interview, int offer, int rejected) {
+            this.applied = applied;
+            this.screened = screened;
+            this.interview = interview;
+            this.offer = offer;
+            this.rejected = rejected;
+        }
+
+        // Getters
+        public int getApplied() { return applied; }
+        public int getScreened() { return screened; }
+        public int getInterview() { return interview; }
+        public int getOffer() { return offer; }
+        public int getRejected() { return rejected; }
+        public int getTotal() { return applied + screened + interview + offer + rejected; }
+
+        @Override
+        public String toString() {
+            return "ApplicationFunnel{" +
+                    "applied=" + applied +
+                    ", screened=" + screened +
+                    ", interview=" + interview +
+                    ", offer=" + offer +
+                    ", rejected=" + rejected +
+                    '}';
+        }
+    }
+
+    // Inner class for one company's row of the dashboard
+    public static class CompanySummary {
+        private final long companyId;
+        private final String companyName;
+        private final JobStatistics jobs;
+        private final OfferStatistics offers;
+        private final ApplicationFunnel funnel;
+
+        public CompanySummary(long companyId, String companyName, JobStatistics jobs,
+                              OfferStatistics offers, ApplicationFunnel funnel) {
+            this.companyId = companyId;
+            this.companyName = companyName;
+            this.jobs = jobs;
+            this.offers = offers;
+            this.funnel = funnel;
+        }
+
+        // Getters
+        public long getCompanyId() { return companyId; }
+        public String getCompanyName() { return companyName; }
+        public JobStatistics getJobs() { return jobs; }
+        public OfferStatistics getOffers() { return offers; }
+        public ApplicationFunnel getFunnel() { return funnel; }
+
+        @Override
+        public String toString() {
+            return "CompanySummary{" +
+                    "companyId=" + companyId +
+                    ", companyName='" + companyName + '\'' +
+                    ", jobs=" + jobs +
+                    ", offers=" + offers +
+                    ", funnel=" + funnel +
+                    '}';
+        }
+    }
+
+    /**
+     * Immutable snapshot of the dashboard, companies ordered by ID
+     */
+    public static class DashboardReport {
+        private final Instant generatedAt;
+        private final long elapsedMillis;
+        private final List<CompanySummary> companies;
+        private final CompanySummary totals;
+
+        public DashboardReport(Instant generatedAt, long elapsedMillis, List<CompanySummary> companies,
+                               CompanySummary totals) {
+            this.generatedAt = generatedAt;
+            this.elapsedMillis = elapsedMillis;
+            this.companies = Collections.unmodifiableList(new ArrayList<>(companies));
+            this.totals = totals;
+        }
+
+        // Getters
+        public Instant getGeneratedAt() { return generatedAt; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        public List<CompanySummary> getCompanies() { return companies; }
+        public CompanySummary getTotals() { return totals; }
+
+        /**
+         * @return the company's row, or null if it is not in the report
+         */
+        public CompanySummary getCompany(long companyId) {
+            for (CompanySummary company : companies) {
+                if (company.getCompanyId() == companyId) {
+                    return company;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "DashboardReport{" +
+                    "generatedAt=" + generatedAt +
+                    ", companies=" + companies.size() +
+                    ", elapsedMillis=" + elapsedMillis +
+                    ", totals=" + totals +
+                    '}';
+        }
+    }
+}
@@ -1,16 +1,32 @@
 package main.java.com.recruitment.dao;
 
 import main.java.com.recruitment.model.Interview;
+import main.java.com.recruitment.model.InterviewConflict;
+import main.java.com.recruitment.model.OutboxEvent;
+import main.java.com.recruitment.util.BatchInserter;
+import main.java.com.recruitment.util.BatchResult;
+import main.java.com.recruitment.util.ColumnSlots;
+import main.java.com.recruitment.logging.EventLogger;
 import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.util.SlotRowMapper;
+import main.java.com.recruitment.util.UnitOfWork;
+import main.java.com.recruitment.metrics.Metrics;
+import main.java.com.recruitment.metrics.Timer;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
 public class InterviewDAO {
     private static final Logger logger = Logger.getLogger(InterviewDAO.class.getName());
+    private static final EventLogger events = EventLogger.get("dao.interview", InterviewDAO.class.getName());
+    private static final InterviewerCalendar calendar = InterviewerCalendar.shared();
+    private static final UpcomingInterviews upcoming = UpcomingInterviews.shared();
+    private static final boolean upcomingCalendarEnabled =
+            Boolean.parseBoolean(DatabaseConnection.getProperty("interview.upcoming.calendarEnabled", "true"));
     
     // Interview stage enum values based on schema
     public enum InterviewStage {
@@ -48,6 +64,7 @@ public class InterviewDAO {
     
     /**
      * Schedule a new interview
+     * @return the interview ID, or -1 if it failed or the interviewer is already booked at that time
      */
     public long scheduleInterview(String interviewTitle, long interviewerId, long applicationId, 
                                  InterviewStage stage, LocalDateTime interviewDate) {
@@ -57,33 +74,191 @@ public class InterviewDAO {
             VALUES (?, ?, ?, ?, ?, ?, NOW())
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            stmt.setString(1, interviewTitle);
-            stmt.setLong(2, interviewerId);
-            stmt.setLong(3, applicationId);
-            stmt.setString(4, stage.getValue());
-            stmt.setTimestamp(5, Timestamp.valueOf(interviewDate));
-            stmt.setString(6, InterviewResult.PENDING.getValue());
+        Timer.Sample sample = Metrics.start("InterviewDAO.scheduleInterview");
+        try {
+            return UnitOfWork.execute(() -> {
+                InterviewerCalendar.Booking booking = calendar.book(
+                        List.of(proposal(interviewerId, stage, interviewDate)));
+                if (!booking.getConflicts().isEmpty()) {
+                    logger.warning("Interview not scheduled for application " + applicationId + ": "
+                            + booking.getConflicts().get(0).describe());
+                    return -1L;
+                }
+                UnitOfWork.afterCompletion(booking::release);
+                
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    
+                    stmt.setString(1, interviewTitle);
+                    stmt.setLong(2, interviewerId);
+                    stmt.setLong(3, applicationId);
+                    stmt.setString(4, stage.getValue());
+                    stmt.setTimestamp(5, Timestamp.valueOf(interviewDate));
+                    stmt.setString(6, InterviewResult.PENDING.getValue());
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    
+                    if (rowsAffected > 0) {
+                        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                            if (generatedKeys.next()) {
+                                long interviewId = generatedKeys.getLong(1);
+                                StatisticsCounters.interviewsScheduled(conn, applicationId, 1);
+                                Outbox.append(conn, OutboxEvent.INTERVIEW, interviewId, OutboxEvent.INTERVIEW_SCHEDULED,
+                                        "interview_id", interviewId, "application_id", applicationId,
+                                        "interviewer_id", interviewerId, "interview_stage", stage.getValue(),
+                                        "interview_date", interviewDate);
+                                UnitOfWork.afterCommit(() -> {
+                                    booking.confirm(0, interviewId);
+                                    upcoming.refresh(List.of(interviewId));
+                                });
+                                events.info("Interview scheduled successfully with ID: {}", interviewId);
+                                return interviewId;
+                            }
+                        }
+                    }
+                    return -1L;
+                }
+            });
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error scheduling interview", e);
+            return -1;
+        } finally {
+            sample.stop();
+        }
+    }
+    
+    /**
+     * Schedule interviews in JDBC batches using the default chunk size
+     */
+    public BatchResult scheduleInterviews(List<Interview> interviews) {
+        return scheduleInterviews(interviews, BatchInserter.defaultChunkSize());
+    }
+    
+    /**
+     * Schedule interviews in JDBC batches.
+     * Each interview needs title, interviewerId, applicationId, interviewStage and interviewDate;
+     * results start as pending and generated IDs are set on the inserted objects. Rows that
+     * overlap a booked interview or an earlier-starting row of the same interviewer are not
+     * inserted and fail with the conflict description.
+     */
+    public BatchResult scheduleInterviews(List<Interview> interviews, int chunkSize) {
+        String sql = """
+            INSERT INTO Interview (interview_title, interviewer_id, application_id,
+                                 interview_stage, interview_date, result, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, NOW())
+            """;
+        
+        Timer.Sample sample = Metrics.start("InterviewDAO.scheduleInterviews");
+        InterviewerCalendar.Booking booking = null;
+        try {
+            booking = calendar.book(interviews);
+            String[] rejections = new String[interviews.size()];
+            for (InterviewConflict conflict : booking.getConflicts()) {
+                rejections[conflict.getRow()] = conflict.describe();
+            }
+            List<Interview> accepted = new ArrayList<>(interviews.size());
+            for (int i = 0; i < interviews.size(); i++) {
+                if (rejections[i] == null) {
+                    accepted.add(interviews.get(i));
+                }
+            }
             
-            int rowsAffected = stmt.executeUpdate();
+            BatchResult batch = BatchInserter.insert(sql, accepted, chunkSize, (stmt, interview) -> {
+                stmt.setString(1, interview.getInterviewTitle());
+                stmt.setLong(2, interview.getInterviewerId());
+                stmt.setLong(3, interview.getApplicationId());
+                stmt.setString(4, interview.getInterviewStage());
+                stmt.setTimestamp(5, Timestamp.valueOf(interview.getInterviewDate()));
+                stmt.setString(6, InterviewResult.PENDING.getValue());
+            }, (conn, rows, start, end, inserted) -> {
+                for (int i = start; i < end; i++) {
+                    if (inserted.isSuccess(i)) {
+                        Interview interview = rows.get(i);
+                        long interviewId = inserted.getGeneratedId(i);
+                        StatisticsCounters.interviewsScheduled(conn, interview.getApplicationId(), 1);
+                        Outbox.append(conn, OutboxEvent.INTERVIEW, interviewId, OutboxEvent.INTERVIEW_SCHEDULED,
+                                "interview_id", interviewId, "application_id", interview.getApplicationId(),
+                                "interviewer_id", interview.getInterviewerId(),
+                                "interview_stage", interview.getInterviewStage(),
+                                "interview_date", interview.getInterviewDate());
+                    }
+                }
+            });
+            BatchResult result = BatchResult.withRejected(rejections, batch);
             
-            if (rowsAffected > 0) {
-                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        long interviewId = generatedKeys.getLong(1);
-                        logger.info("Interview scheduled successfully with ID: " + interviewId);
-                        return interviewId;
+            for (int i = 0; i < interviews.size(); i++) {
+                if (result.isSuccess(i)) {
+                    interviews.get(i).setInterviewId(result.getGeneratedId(i));
+                    interviews.get(i).setResult(InterviewResult.PENDING.getValue());
+                }
+            }
+            InterviewerCalendar.Booking booked = booking;
+            UnitOfWork.afterCommit(() -> {
+                List<Long> scheduled = new ArrayList<>(result.getSuccessCount());
+                for (int i = 0; i < interviews.size(); i++) {
+                    if (result.isSuccess(i)) {
+                        booked.confirm(i, result.getGeneratedId(i));
+                        scheduled.add(result.getGeneratedId(i));
                     }
                 }
+                upcoming.refresh(scheduled);
+            });
+            UnitOfWork.afterCompletion(booked::release);
+            if (!booking.getConflicts().isEmpty()) {
+                logger.warning(booking.getConflicts().size() + " of " + interviews.size()
+                        + " interviews not scheduled because the interviewer is already booked");
             }
+            events.info("Bulk interview scheduling finished: {}", result);
+            return result;
             
         } catch (SQLException e) {
-            logger.log(Level.SEVERE, "Error scheduling interview", e);
+            if (booking != null) {
+                booking.release();
+            }
+            sample.failed();
+            logger.log(Level.SEVERE, "Error scheduling interviews in bulk", e);
+            return BatchResult.allFailed(interviews.size(), e.getMessage());
+        } finally {
+            sample.stop();
         }
-        
-        return -1;
+    }
+    
+    /**
+     * Interviews the interviewer already has booked that a new interview would overlap
+     * @return the conflicts, empty if the slot is free or the calendar could not be loaded
+     */
+    public List<InterviewConflict> findConflicts(long interviewerId, InterviewStage stage, LocalDateTime interviewDate) {
+        return findConflicts(List.of(proposal(interviewerId, stage, interviewDate)));
+    }
+    
+    /**
+     * Validate a batch of proposed interviews against the booked ones and against each other
+     * before scheduling them. Each interview needs interviewerId, interviewStage and interviewDate;
+     * when two rows overlap, the one starting later is reported.
+     * @return conflicts in row order, empty if none or if the calendar could not be loaded
+     */
+    public List<InterviewConflict> findConflicts(List<Interview> proposed) {
+        Timer.Sample sample = Metrics.start("InterviewDAO.findConflicts");
+        try {
+            List<InterviewConflict> conflicts = calendar.findConflicts(proposed);
+            sample.rows(conflicts.size());
+            return conflicts;
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error loading interviewer calendars", e);
+            return Collections.emptyList();
+        } finally {
+            sample.stop();
+        }
+    }
+    
+    private static Interview proposal(long interviewerId, InterviewStage stage, LocalDateTime interviewDate) {
+        Interview interview = new Interview();
+        interview.setInterviewerId(interviewerId);
+        interview.setInterviewStage(stage.getValue());
+        interview.setInterviewDate(interviewDate);
+        return interview;
     }
     
     /**
@@ -92,6 +267,7 @@ public class InterviewDAO {
     public boolean updateInterviewResult(long interviewId, InterviewResult result) {
         String sql = "UPDATE Interview SET result = ? WHERE interview_id = ?";
         
+        Timer.Sample sample = Metrics.start("InterviewDAO.updateInterviewResult");
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
@@ -99,12 +275,27 @@ public class InterviewDAO {
             stmt.setLong(2, interviewId);
             
             int rowsAffected = stmt.executeUpdate();
-            logger.info("Interview result updated to: " + result.getValue() + " for interview: " + interviewId);
+            if (rowsAffected > 0) {
+                DatabaseConnection.recordWrite();
+                // Only pending interviews occupy the interviewer's calendar
+                UnitOfWork.afterCommit(() -> {
+                    if (result == InterviewResult.PENDING) {
+                        calendar.invalidate();
+                    } else {
+                        calendar.remove(interviewId);
+                    }
+                    upcoming.refresh(List.of(interviewId));
+                });
+            }
+            events.info("Interview result updated to: {} for interview: {}", result.getValue(), interviewId);
             return rowsAffected > 0;
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error updating interview result", e);
             return false;
+        } finally {
+            sample.stop();
         }
     }
     
@@ -122,59 +313,98 @@ public class InterviewDAO {
         
         List<Interview> interviews = new ArrayList<>();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("InterviewDAO.getInterviewsByApplication");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, applicationId);
             
             try (ResultSet rs = stmt.executeQuery()) {
+                InterviewMapper mapper = new InterviewMapper();
                 while (rs.next()) {
-                    Interview interview = createInterviewFromResultSet(rs);
+                    Interview interview = mapper.map(rs);
                     interviews.add(interview);
                 }
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving interviews for application: " + applicationId, e);
+        } finally {
+            sample.stop();
         }
         
+        sample.rows(interviews.size());
         return interviews;
     }
     
     /**
-     * Get upcoming interviews
+     * Get interviews for all applications of a candidate
      */
-    public List<Interview> getUpcomingInterviews() {
+    public List<Interview> getInterviewsByCandidate(long candidateId) {
         String sql = """
             SELECT i.*, u.first_name as interviewer_first_name, u.last_name as interviewer_last_name,
-                   c.first_name as candidate_first_name, c.last_name as candidate_last_name,
                    j.title as job_title
             FROM Interview i
-            LEFT JOIN User u ON i.interviewer_id = u.user_id
             JOIN Applications a ON i.application_id = a.application_id
-            JOIN Candidate cand ON a.candidate_id = cand.candidate_id
-            JOIN User c ON cand.user_id = c.user_id
             JOIN Job j ON a.job_id = j.job_id
-            WHERE i.interview_date >= NOW() AND i.result = 'pending'
-            ORDER BY i.interview_date ASC
+            LEFT JOIN User u ON i.interviewer_id = u.user_id
+            WHERE a.candidate_id = ?
+            ORDER BY i.interview_date DESC
             """;
         
         List<Interview> interviews = new ArrayList<>();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("InterviewDAO.getInterviewsByCandidate");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
+            stmt.setLong(1, candidateId);
+            
             try (ResultSet rs = stmt.executeQuery()) {
+                InterviewMapper mapper = new InterviewMapper();
                 while (rs.next()) {
-                    Interview interview = createInterviewFromResultSet(rs);
-                    interviews.add(interview);
+                    interviews.add(mapper.map(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error retrieving interviews for candidate: " + candidateId, e);
+        } finally {
+            sample.stop();
+        }
+        
+        sample.rows(interviews.size());
+        return interviews;
+    }
+    
+    /**
+     * Get upcoming interviews.
+     * Served from the in-memory upcoming interviews calendar unless
+     * interview.upcoming.calendarEnabled is false.
+     */
+    public List<Interview> getUpcomingInterviews() {
+        List<Interview> interviews = new ArrayList<>();
+        
+        Timer.Sample sample = Metrics.start("InterviewDAO.getUpcomingInterviews");
+        try {
+            if (upcomingCalendarEnabled) {
+                interviews = upcoming.get();
+            } else {
+                try (Connection conn = DatabaseConnection.getReadConnection()) {
+                    interviews = UpcomingInterviews.query(conn);
                 }
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving upcoming interviews", e);
+        } finally {
+            sample.stop();
         }
         
+        sample.rows(interviews.size());
         return interviews;
     }
     
@@ -189,19 +419,23 @@ public class InterviewDAO {
             WHERE i.interview_id = ?
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("InterviewDAO.getInterviewById");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, interviewId);
             
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return createInterviewFromResultSet(rs);
+                    return new InterviewMapper().map(rs);
                 }
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving interview: " + interviewId, e);
+        } finally {
+            sample.stop();
         }
         
         return null;
@@ -220,46 +454,91 @@ public class InterviewDAO {
     public boolean deleteInterview(long interviewId) {
         String sql = "DELETE FROM Interview WHERE interview_id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setLong(1, interviewId);
-            
-            int rowsAffected = stmt.executeUpdate();
-            logger.info("Interview deleted: " + interviewId);
-            return rowsAffected > 0;
-            
+        Timer.Sample sample = Metrics.start("InterviewDAO.deleteInterview");
+        try {
+            return UnitOfWork.execute(() -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement lookup = conn.prepareStatement(
+                             "SELECT application_id FROM Interview WHERE interview_id = ? FOR UPDATE");
+                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    
+                    long applicationId = -1;
+                    lookup.setLong(1, interviewId);
+                    try (ResultSet rs = lookup.executeQuery()) {
+                        if (rs.next()) {
+                            applicationId = rs.getLong("application_id");
+                        }
+                    }
+                    stmt.setLong(1, interviewId);
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    if (rowsAffected > 0 && applicationId != -1) {
+                        StatisticsCounters.interviewsScheduled(conn, applicationId, -1);
+                    }
+                    if (rowsAffected > 0) {
+                        UnitOfWork.afterCommit(() -> {
+                            calendar.remove(interviewId);
+                            upcoming.remove(interviewId);
+                        });
+                    }
+                    events.info("Interview deleted: {}", interviewId);
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error deleting interview: " + interviewId, e);
             return false;
+        } finally {
+            sample.stop();
         }
     }
     
     /**
-     * Helper method to create Interview object from ResultSet
+     * Maps Interviews rows; the interviewer, candidate and job columns are only present in join queries
      */
-    private Interview createInterviewFromResultSet(ResultSet rs) throws SQLException {
-        Interview interview = new Interview();
-        interview.setInterviewId(rs.getLong("interview_id"));
-        interview.setInterviewTitle(rs.getString("interview_title"));
-        interview.setInterviewerId(rs.getLong("interviewer_id"));
-        interview.setApplicationId(rs.getLong("application_id"));
-        interview.setInterviewStage(rs.getString("interview_stage"));
-        interview.setInterviewDate(rs.getTimestamp("interview_date").toLocalDateTime());
-        interview.setResult(rs.getString("result"));
-        interview.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        
-        // Optional fields from joins
-        try {
-            interview.setInterviewerFirstName(rs.getString("interviewer_first_name"));
-            interview.setInterviewerLastName(rs.getString("interviewer_last_name"));
-            interview.setCandidateFirstName(rs.getString("candidate_first_name"));
-            interview.setCandidateLastName(rs.getString("candidate_last_name"));
-            interview.setJobTitle(rs.getString("job_title"));
-        } catch (SQLException e) {
-            // Fields may not be present in all queries
+    static class InterviewMapper extends SlotRowMapper<Interview> {
+        private int interviewId, interviewTitle, interviewerId, applicationId, interviewStage;
+        private int interviewDate, result, createdAt;
+        private int interviewerFirstName, interviewerLastName, candidateFirstName, candidateLastName, jobTitle;
+
+        @Override
+        protected void resolve(ColumnSlots slots) throws SQLException {
+            interviewId = slots.required("interview_id");
+            interviewTitle = slots.required("interview_title");
+            interviewerId = slots.required("interviewer_id");
+            applicationId = slots.required("application_id");
+            interviewStage = slots.required("interview_stage");
+            interviewDate = slots.required("interview_date");
+            result = slots.required("result");
+            createdAt = slots.required("created_at");
+            interviewerFirstName = slots.optional("interviewer_first_name");
+            interviewerLastName = slots.optional("interviewer_last_name");
+            candidateFirstName = slots.optional("candidate_first_name");
+            candidateLastName = slots.optional("candidate_last_name");
+            jobTitle = slots.optional("job_title");
+        }
+
+        @Override
+        protected Interview mapRow(ResultSet rs) throws SQLException {
+            Interview interview = new Interview();
+            interview.setInterviewId(rs.getLong(interviewId));
+            interview.setInterviewTitle(rs.getString(interviewTitle));
+            interview.setInterviewerId(rs.getLong(interviewerId));
+            interview.setApplicationId(rs.getLong(applicationId));
+            interview.setInterviewStage(rs.getString(interviewStage));
+            interview.setInterviewDate(rs.getTimestamp(interviewDate).toLocalDateTime());
+            interview.setResult(rs.getString(result));
+            interview.setCreatedAt(rs.getTimestamp(createdAt).toLocalDateTime());
+            
+            // Optional fields from joins
+            interview.setInterviewerFirstName(ColumnSlots.getString(rs, interviewerFirstName));
+            interview.setInterviewerLastName(ColumnSlots.getString(rs, interviewerLastName));
+            interview.setCandidateFirstName(ColumnSlots.getString(rs, candidateFirstName));
+            interview.setCandidateLastName(ColumnSlots.getString(rs, candidateLastName));
+            interview.setJobTitle(ColumnSlots.getString(rs, jobTitle));
+            
+            return interview;
         }
-        
-        return interview;
     }
 }
@@ -0,0 +1,341 @@
+package main.java.com.recruitment.dao;
+
+import main.java.com.recruitment.model.Interview;
+import main.java.com.recruitment.model.InterviewConflict;
+import main.java.com.recruitment.util.DatabaseConnection;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * In-memory calendar of each interviewer's upcoming pending interviews, used to reject
+ * double bookings when interviews are scheduled.
+ *
+ * An interview occupies [interview_date, interview_date + duration), where the duration
+ * comes from interview.durationMinutes or interview.durationMinutes.&lt;stage&gt;. Each
+ * interviewer's slots are kept in a set ordered by start; because no slot is longer than
+ * the longest configured duration, the slots that can overlap [start, end) all start in
+ * (start - longest, end), so a check is one O(log n) range lookup in the set plus the few
+ * slots inside that window, without a database range query.
+ *
+ * An interviewer's slots are loaded on first use and reloaded after interview.calendar.reloadMs,
+ * which is how interviews scheduled by other processes become visible. The interview write
+ * paths keep the calendar current: scheduling reserves the slot before the insert and
+ * confirms it on commit, cancelling and deleting remove it.
+ */
+final class InterviewerCalendar {
+    private static final Logger logger = Logger.getLogger(InterviewerCalendar.class.getName());
+
+    private static final String LOAD_SQL = """
+        SELECT interview_id, interview_stage, interview_date
+        FROM Interview
+        WHERE interviewer_id = ? AND result = 'pending' AND interview_date > ?
+        """;
+
+    private static final InterviewerCalendar shared = new InterviewerCalendar(
+            DatabaseConnection.getLongProperty("interview.durationMinutes", 60),
+            DatabaseConnection.getLongProperty("interview.calendar.reloadMs", 300_000));
+
+    private final Duration defaultDuration;
+    private final Map<String, Duration> stageDurations = new ConcurrentHashMap<>();
+    private final Duration longest;
+    private final long reloadMs;
+    private final Map<Long, Interviewer> interviewers = new ConcurrentHashMap<>();
+    private final Map<Long, Slot> byInterviewId = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private InterviewerCalendar(long defaultMinutes, long reloadMs) {
+        this.defaultDuration = Duration.ofMinutes(Math.max(1, defaultMinutes));
+        Duration max = defaultDuration;
+        for (InterviewDAO.InterviewStage stage : InterviewDAO.InterviewStage.values()) {
+            long minutes = DatabaseConnection.getLongProperty(
+                    "interview.durationMinutes." + stage.getValue(), defaultDuration.toMinutes());
+            Duration duration = Duration.ofMinutes(Math.max(1, minutes));
+            stageDurations.put(stage.getValue(), duration);
+            if (duration.compareTo(max) > 0) {
+                max = duration;
+            }
+        }
+        this.longest = max;
+        this.reloadMs = reloadMs;
+    }
+
+    static InterviewerCalendar shared() {
+        return shared;
+    }
+
+    /**
+     * Booked time of one interview, or a reservation while its insert has not committed
+     */
+    private static final class Slot {
+        final long interviewerId;
+        final LocalDateTime start;
+        final LocalDateTime end;
+        final long sequence;
+        final int row;
+        long interviewId = -1;
+        boolean confirmed;
+
+        Slot(long interviewerId, LocalDateTime start, LocalDateTime end, long sequence, int row) {
+            this.interviewerId = interviewerId;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.row = row;
+        }
+
+        boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+            return start.isBefore(otherEnd) && otherStart.isBefore(end);
+        }
+    }
+
+    private static final Comparator<Slot> BY_START =
+            Comparator.comparing((Slot slot) -> slot.start).thenComparingLong(slot -> slot.sequence);
+
+    /**
+     * Slots of one interviewer; all access is synchronized on the instance
+     */
+    private static final class Interviewer {
+        final NavigableSet<Slot> slots = new TreeSet<>(BY_START);
+        long loadedAt;
+    }
+
+    /**
+     * Outcome of {@link #book}: conflicting rows were rejected, the other rows hold a
+     * reservation until they are confirmed or released
+     */
+    final class Booking {
+        private final List<InterviewConflict> conflicts;
+        private final Slot[] reserved;
+
+        private Booking(List<InterviewConflict> conflicts, Slot[] reserved) {
+            this.conflicts = conflicts;
+            this.reserved = reserved;
+        }
+
+        /**
+         * Conflicting rows in row order
+         */
+        List<InterviewConflict> getConflicts() {
+            return conflicts;
+        }
+
+        boolean isReserved(int row) {
+            return reserved[row] != null;
+        }
+
+        /**
+         * Attach the committed interview ID to a row's reservation
+         */
+        void confirm(int row, long interviewId) {
+            Slot slot = reserved[row];
+            if (slot == null) {
+                return;
+            }
+            Interviewer interviewer = interviewers.get(slot.interviewerId);
+            synchronized (interviewer) {
+                if (!interviewer.slots.contains(slot) || byInterviewId.containsKey(interviewId)) {
+                    // Already loaded from the database by a reload that ran after the commit
+                    interviewer.slots.remove(slot);
+                    return;
+                }
+                slot.interviewId = interviewId;
+                slot.confirmed = true;
+                byInterviewId.put(interviewId, slot);
+            }
+        }
+
+        /**
+         * Drop the reservations that were not confirmed
+         */
+        void release() {
+            for (Slot slot : reserved) {
+                if (slot != null) {
+                    Interviewer interviewer = interviewers.get(slot.interviewerId);
+                    synchronized (interviewer) {
+                        if (!slot.confirmed) {
+                            interviewer.slots.remove(slot);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Length of an interview of the given stage
+     */
+    Duration durationOf(String stage) {
+        Duration duration = stage != null ? stageDurations.get(stage) : null;
+        return duration != null ? duration : defaultDuration;
+    }
+
+    /**
+     * Check proposed interviews against the calendar and against each other without booking them.
+     * When two rows overlap, the one starting later (or the later row on equal starts) conflicts.
+     */
+    List<InterviewConflict> findConflicts(List<Interview> proposed) throws SQLException {
+        return validate(proposed, false).getConflicts();
+    }
+
+    /**
+     * Check proposed interviews like {@link #findConflicts} and reserve the slots of the rows
+     * without conflicts, so concurrent bookings for the same interviewer see them
+     */
+    Booking book(List<Interview> proposed) throws SQLException {
+        return validate(proposed, true);
+    }
+
+    /**
+     * Forget an interview that was cancelled, completed or deleted
+     */
+    void remove(long interviewId) {
+        Slot slot = byInterviewId.remove(interviewId);
+        if (slot != null) {
+            Interviewer interviewer = interviewers.get(slot.interviewerId);
+            synchronized (interviewer) {
+                interviewer.slots.remove(slot);
+            }
+        }
+    }
+
+    /**
+     * Reload every interviewer on next use, e.g. after an interview was set back to pending
+     */
+    void invalidate() {
+        for (Interviewer interviewer : interviewers.values()) {
+            synchronized (interviewer) {
+                interviewer.loadedAt = 0;
+            }
+        }
+    }
+
+    private Booking validate(List<Interview> proposed, boolean reserve) throws SQLException {
+        Map<Long, List<Integer>> rowsByInterviewer = new TreeMap<>();
+        for (int i = 0; i < proposed.size(); i++) {
+            if (proposed.get(i).getInterviewDate() != null) {
+                rowsByInterviewer.computeIfAbsent(proposed.get(i).getInterviewerId(), id -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<InterviewConflict> conflicts = new ArrayList<>();
+        Slot[] reserved = new Slot[proposed.size()];
+        for (Map.Entry<Long, List<Integer>> entry : rowsByInterviewer.entrySet()) {
+            long interviewerId = entry.getKey();
+            Interviewer interviewer = interviewers.computeIfAbsent(interviewerId, id -> new Interviewer());
+            synchronized (interviewer) {
+                ensureLoaded(interviewerId, interviewer);
+
+                List<Integer> rows = entry.getValue();
+                rows.sort(Comparator.comparing((Integer row) -> proposed.get(row).getInterviewDate())
+                        .thenComparingInt(row -> row));
+                NavigableSet<Slot> batch = new TreeSet<>(BY_START);
+                for (int row : rows) {
+                    Interview interview = proposed.get(row);
+                    LocalDateTime start = interview.getInterviewDate();
+                    LocalDateTime end = start.plus(durationOf(interview.getInterviewStage()));
+                    Slot booked = firstOverlap(interviewer.slots, start, end);
+                    Slot earlierRow = booked == null ? firstOverlap(batch, start, end) : null;
+                    if (booked != null) {
+                        conflicts.add(new InterviewConflict(row, interviewerId, start, booked.interviewId, -1,
+                                booked.start, booked.end));
+                    } else if (earlierRow != null) {
+                        conflicts.add(new InterviewConflict(row, interviewerId, start, -1, earlierRow.row,
+                                earlierRow.start, earlierRow.end));
+                    } else {
+                        Slot slot = new Slot(interviewerId, start, end, sequence.incrementAndGet(), row);
+                        batch.add(slot);
+                        reserved[row] = slot;
+                    }
+                }
+                if (reserve) {
+                    interviewer.slots.addAll(batch);
+                }
+            }
+        }
+
+        conflicts.sort(Comparator.comparingInt(InterviewConflict::getRow));
+        return new Booking(conflicts, reserve ? reserved : new Slot[proposed.size()]);
+    }
+
+    /**
+     * Earliest slot overlapping [start, end); only slots starting after start - longest can
+     */
+    private Slot firstOverlap(NavigableSet<Slot> slots, LocalDateTime start, LocalDateTime end) {
+        Slot from = new Slot(0, start.minus(longest), null, Long.MAX_VALUE, -1);
+        Slot to = new Slot(0, end, null, Long.MIN_VALUE, -1);
+        for (Slot slot : slots.subSet(from, false, to, false)) {
+            if (slot.overlaps(start, end)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Load the interviewer's pending interviews if never loaded or older than reloadMs,
+     * keeping reservations that have not committed yet; past slots are pruned either way
+     */
+    private void ensureLoaded(long interviewerId, Interviewer interviewer) throws SQLException {
+        long now = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.now().minus(longest);
+        if (interviewer.loadedAt != 0 && now - interviewer.loadedAt < reloadMs) {
+            Iterator<Slot> past = interviewer.slots.headSet(new Slot(0, since, null, Long.MIN_VALUE, -1)).iterator();
+            while (past.hasNext()) {
+                Slot slot = past.next();
+                if (slot.confirmed) {
+                    past.remove();
+                    byInterviewId.remove(slot.interviewId, slot);
+                }
+            }
+            return;
+        }
+
+        List<Slot> loaded = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(LOAD_SQL)) {
+            stmt.setLong(1, interviewerId);
+            stmt.setTimestamp(2, Timestamp.valueOf(since));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    LocalDateTime start = rs.getTimestamp("interview_date").toLocalDateTime();
+                    Slot slot = new Slot(interviewerId, start, start.plus(durationOf(rs.getString("interview_stage"))),
+                            sequence.incrementAndGet(), -1);
+                    slot.interviewId = rs.getLong("interview_id");
+                    slot.confirmed = true;
+                    loaded.add(slot);
+                }
+            }
+        }
+
+        Iterator<Slot> existing = interviewer.slots.iterator();
+        while (existing.hasNext()) {
+            Slot slot = existing.next();
+            if (slot.confirmed) {
+                existing.remove();
+                byInterviewId.remove(slot.interviewId, slot);
+            }
+        }
+        for (Slot slot : loaded) {
+            interviewer.slots.add(slot);
+            byInterviewId.put(slot.interviewId, slot);
+        }
+        interviewer.loadedAt = now;
+        logger.fine("Loaded " + loaded.size() + " upcoming interviews of interviewer " + interviewerId);
+    }
+}
@@ -1,7 +1,15 @@
 package main.java.com.recruitment.dao;
 
 import main.java.com.recruitment.model.Job;
+import main.java.com.recruitment.logging.EventLogger;
 import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.util.EntityCache;
+import main.java.com.recruitment.util.EntityCacheStats;
+import main.java.com.recruitment.util.Page;
+import main.java.com.recruitment.util.PageToken;
+import main.java.com.recruitment.util.UnitOfWork;
+import main.java.com.recruitment.metrics.Metrics;
+import main.java.com.recruitment.metrics.Timer;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,6 +19,11 @@ import java.util.logging.Level;
 
 public class JobDAO {
     private static final Logger logger = Logger.getLogger(JobDAO.class.getName());
+    private static final EventLogger events = EventLogger.get("dao.job", JobDAO.class.getName());
+    
+    // Shared by all JobDAO instances; invalidated by the job and application write paths
+    private static final EntityCache<Long, Job> jobCache =
+            EntityCache.fromProperties("job", 1000, 60_000, Job::new);
     
     // Job status enum values based on schema
     public enum JobStatus {
@@ -38,32 +51,40 @@ public class JobDAO {
             VALUES (?, ?, ?, ?, ?, NOW())
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            stmt.setLong(1, companyId);
-            stmt.setLong(2, departmentId);
-            stmt.setString(3, title);
-            stmt.setString(4, description);
-            stmt.setString(5, status.getValue());
-            
-            int rowsAffected = stmt.executeUpdate();
-            
-            if (rowsAffected > 0) {
-                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        long jobId = generatedKeys.getLong(1);
-                        logger.info("Job created successfully with ID: " + jobId);
-                        return jobId;
+        Timer.Sample sample = Metrics.start("JobDAO.createJob");
+        try {
+            return UnitOfWork.execute(() -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    
+                    stmt.setLong(1, companyId);
+                    stmt.setLong(2, departmentId);
+                    stmt.setString(3, title);
+                    stmt.setString(4, description);
+                    stmt.setString(5, status.getValue());
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    
+                    if (rowsAffected > 0) {
+                        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                            if (generatedKeys.next()) {
+                                long jobId = generatedKeys.getLong(1);
+                                StatisticsCounters.jobCreated(conn, companyId, status.getValue());
+                                events.info("Job created successfully with ID: {}", jobId);
+                                return jobId;
+                            }
+                        }
                     }
+                    return -1L;
                 }
-            }
-            
+            });
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error creating job", e);
+            return -1;
+        } finally {
+            sample.stop();
         }
-        
-        return -1;
     }
     
     /**
@@ -76,21 +97,35 @@ public class JobDAO {
             WHERE job_id = ?
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setString(1, title);
-            stmt.setString(2, description);
-            stmt.setString(3, status.getValue());
-            stmt.setLong(4, jobId);
-            
-            int rowsAffected = stmt.executeUpdate();
-            logger.info("Job updated successfully: " + jobId);
-            return rowsAffected > 0;
-            
+        Timer.Sample sample = Metrics.start("JobDAO.updateJob");
+        try {
+            return UnitOfWork.execute(() -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    
+                    Job before = lockJob(conn, jobId);
+                    
+                    stmt.setString(1, title);
+                    stmt.setString(2, description);
+                    stmt.setString(3, status.getValue());
+                    stmt.setLong(4, jobId);
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    if (rowsAffected > 0 && before != null) {
+                        StatisticsCounters.jobStatusChanged(conn, before.getCompanyId(), before.getStatus(),
+                                status.getValue());
+                    }
+                    jobCache.invalidate(jobId);
+                    events.info("Job updated successfully: {}", jobId);
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error updating job: " + jobId, e);
             return false;
+        } finally {
+            sample.stop();
         }
     }
     
@@ -109,19 +144,24 @@ public class JobDAO {
             GROUP BY j.job_id
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setLong(1, jobId);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return createJobFromResultSet(rs);
+        Timer.Sample sample = Metrics.start("JobDAO.getJobById");
+        try {
+            return jobCache.get(jobId, id -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    
+                    stmt.setLong(1, id);
+                    
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        return rs.next() ? createJobFromResultSet(rs) : null;
+                    }
                 }
-            }
-            
+            });
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving job: " + jobId, e);
+        } finally {
+            sample.stop();
         }
         
         return null;
@@ -143,7 +183,7 @@ public class JobDAO {
             ORDER BY j.created_at DESC
             """;
         
-        return getJobsByQuery(sql);
+        return getJobsByQuery("JobDAO.getActiveJobs", sql);
     }
     
     /**
@@ -161,7 +201,61 @@ public class JobDAO {
             ORDER BY j.created_at DESC
             """;
         
-        return getJobsByQuery(sql);
+        return getJobsByQuery("JobDAO.getAllJobs", sql);
+    }
+    
+    /**
+     * Get one page of all jobs, newest first, using keyset pagination
+     * @param pageToken token from the previous page, or null for the first page
+     */
+    public Page<Job> getJobsPage(int pageSize, String pageToken) {
+        PageToken after = PageToken.decode(pageToken);
+        String sql = """
+            SELECT j.*, c.company_name, d.name as department_name,
+                   (SELECT COUNT(*) FROM Applications a WHERE a.job_id = j.job_id) as application_count
+            FROM Job j
+            JOIN company c ON j.company_id = c.company_id
+            JOIN department d ON j.department_id = d.department_id
+            %s
+            ORDER BY j.created_at DESC, j.job_id DESC
+            LIMIT ?
+            """.formatted(after == null ? "" 
+                : "WHERE j.created_at < ? OR (j.created_at = ? AND j.job_id < ?)");
+        
+        List<Job> jobs = new ArrayList<>();
+        
+        Timer.Sample sample = Metrics.start("JobDAO.getJobsPage");
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            if (after != null) {
+                stmt.setTimestamp(index++, Timestamp.valueOf(after.getTimestamp()));
+                stmt.setTimestamp(index++, Timestamp.valueOf(after.getTimestamp()));
+                stmt.setLong(index++, after.getId());
+            }
+            stmt.setInt(index, PageToken.checkPageSize(pageSize) + 1);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    jobs.add(createJobFromResultSet(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error retrieving jobs page", e);
+        } finally {
+            sample.stop();
+        }
+        
+        sample.rows(jobs.size());
+        if (jobs.size() <= pageSize) {
+            return new Page<>(jobs, null);
+        }
+        jobs.remove(pageSize);
+        Job last = jobs.get(pageSize - 1);
+        return new Page<>(jobs, PageToken.encode(last.getCreatedAt(), last.getJobId()));
     }
     
     /**
@@ -182,7 +276,8 @@ public class JobDAO {
         
         List<Job> jobs = new ArrayList<>();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("JobDAO.getJobsByCompany");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, companyId);
@@ -195,29 +290,28 @@ public class JobDAO {
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving jobs for company: " + companyId, e);
+        } finally {
+            sample.stop();
         }
         
+        sample.rows(jobs.size());
         return jobs;
     }
     
     /**
-     * Get job statistics for a company
+     * Get job statistics for a company from the company_stats counters
      */
     public JobStatistics getJobStatistics(long companyId) {
         String sql = """
-            SELECT 
-                COUNT(*) as total_jobs,
-                SUM(CASE WHEN status = 'open' THEN 1 ELSE 0 END) as open_jobs,
-                SUM(CASE WHEN status = 'closed' THEN 1 ELSE 0 END) as closed_jobs,
-                SUM(CASE WHEN status = 'on_hold' THEN 1 ELSE 0 END) as on_hold_jobs,
-                COUNT(DISTINCT a.application_id) as total_applications
-            FROM Job j
-            LEFT JOIN Applications a ON j.job_id = a.job_id
-            WHERE j.company_id = ?
+            SELECT total_jobs, open_jobs, closed_jobs, on_hold_jobs, total_applications
+            FROM company_stats
+            WHERE company_id = ?
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("JobDAO.getJobStatistics");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, companyId);
@@ -232,10 +326,15 @@ public class JobDAO {
                         rs.getInt("total_applications")
                     );
                 }
+                // No counter row yet: the company has no jobs
+                return new JobStatistics(0, 0, 0, 0, 0);
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving job statistics for company: " + companyId, e);
+        } finally {
+            sample.stop();
         }
         
         return null;
@@ -247,28 +346,79 @@ public class JobDAO {
     public boolean deleteJob(long jobId) {
         String sql = "DELETE FROM Job WHERE job_id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setLong(1, jobId);
-            
-            int rowsAffected = stmt.executeUpdate();
-            logger.info("Job deleted: " + jobId);
-            return rowsAffected > 0;
-            
+        Timer.Sample sample = Metrics.start("JobDAO.deleteJob");
+        try {
+            return UnitOfWork.execute(() -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    
+                    Job before = lockJob(conn, jobId);
+                    stmt.setLong(1, jobId);
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    if (rowsAffected > 0 && before != null) {
+                        // schema.sql refuses to delete a job that still has applications; rows removed
+                        // by an ON DELETE CASCADE elsewhere are repaired by StatisticsCounters.rebuild()
+                        StatisticsCounters.jobDeleted(conn, jobId, before.getCompanyId(), before.getStatus());
+                    }
+                    // A job with applications cannot be deleted, so no candidate's cached counts change
+                    jobCache.invalidate(jobId);
+                    events.info("Job deleted: {}", jobId);
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error deleting job: " + jobId, e);
             return false;
+        } finally {
+            sample.stop();
+        }
+    }
+    
+    /**
+     * Hit/miss/eviction counters of the getJobById cache
+     */
+    public static EntityCacheStats getCacheStats() {
+        return jobCache.getStats();
+    }
+    
+    /**
+     * Drop a cached job after a write elsewhere changed it, e.g. its application count
+     */
+    static void invalidateCachedJob(long jobId) {
+        jobCache.invalidate(jobId);
+    }
+    
+    /**
+     * Read and lock the company and status of a job before changing it
+     * @return job with only those fields set, or null if it does not exist
+     */
+    private Job lockJob(Connection conn, long jobId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT company_id, status FROM Job WHERE job_id = ? FOR UPDATE")) {
+            stmt.setLong(1, jobId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                Job job = new Job();
+                job.setJobId(jobId);
+                job.setCompanyId(rs.getLong("company_id"));
+                job.setStatus(rs.getString("status"));
+                return job;
+            }
         }
     }
     
     /**
      * Helper method to execute job queries
      */
-    private List<Job> getJobsByQuery(String sql) {
+    private List<Job> getJobsByQuery(String timerName, String sql) {
         List<Job> jobs = new ArrayList<>();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start(timerName);
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
             
@@ -278,9 +428,13 @@ public class JobDAO {
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error executing job query", e);
+        } finally {
+            sample.stop();
         }
         
+        sample.rows(jobs.size());
         return jobs;
     }
     
@@ -1,16 +1,28 @@
 package main.java.com.recruitment.dao;
 
 import main.java.com.recruitment.model.Offer;
+import main.java.com.recruitment.model.OutboxEvent;
+import main.java.com.recruitment.util.ColumnSlots;
+import main.java.com.recruitment.logging.EventLogger;
 import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.util.Page;
+import main.java.com.recruitment.util.PageToken;
+import main.java.com.recruitment.util.ResultSetStreams;
+import main.java.com.recruitment.util.SlotRowMapper;
+import main.java.com.recruitment.util.UnitOfWork;
+import main.java.com.recruitment.metrics.Metrics;
+import main.java.com.recruitment.metrics.Timer;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
+import java.util.stream.Stream;
 
 public class OfferDAO {
     private static final Logger logger = Logger.getLogger(OfferDAO.class.getName());
+    private static final EventLogger events = EventLogger.get("dao.offer", OfferDAO.class.getName());
     
     // Offer status enum values based on schema
     public enum OfferStatus {
@@ -38,30 +50,68 @@ public class OfferDAO {
             VALUES (?, ?, ?, NOW(), NOW())
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            stmt.setLong(1, applicationId);
-            stmt.setDouble(2, salaryOffered);
-            stmt.setString(3, status.getValue());
-            
-            int rowsAffected = stmt.executeUpdate();
-            
-            if (rowsAffected > 0) {
-                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        long offerId = generatedKeys.getLong(1);
-                        logger.info("Offer created successfully with ID: " + offerId);
-                        return offerId;
+        Timer.Sample sample = Metrics.start("OfferDAO.createOffer");
+        try {
+            return UnitOfWork.execute(() -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    
+                    stmt.setLong(1, applicationId);
+                    stmt.setDouble(2, salaryOffered);
+                    stmt.setString(3, status.getValue());
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    
+                    if (rowsAffected > 0) {
+                        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                            if (generatedKeys.next()) {
+                                long offerId = generatedKeys.getLong(1);
+                                StatisticsCounters.offerCreated(conn, applicationId, status.getValue(), salaryOffered);
+                                Outbox.append(conn, OutboxEvent.OFFER, offerId, OutboxEvent.OFFER_CREATED,
+                                        "offer_id", offerId, "application_id", applicationId,
+                                        "status", status.getValue(), "salary_offered", salaryOffered);
+                                events.info("Offer created successfully with ID: {}", offerId);
+                                return offerId;
+                            }
+                        }
                     }
+                    return -1L;
                 }
-            }
-            
+            });
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error creating offer", e);
+            return -1;
+        } finally {
+            sample.stop();
         }
+    }
+    
+    /**
+     * Create an offer and move the application to the offer stage in one transaction
+     */
+    public long extendOffer(long applicationId, double salaryOffered, OfferStatus status) {
+        ApplicationDAO applicationDAO = new ApplicationDAO();
         
-        return -1;
+        Timer.Sample sample = Metrics.start("OfferDAO.extendOffer");
+        try {
+            return UnitOfWork.execute(() -> {
+                long offerId = createOffer(applicationId, salaryOffered, status);
+                if (offerId < 0) {
+                    throw new SQLException("Offer could not be created for application: " + applicationId);
+                }
+                if (!applicationDAO.updateApplicationStatus(applicationId, ApplicationDAO.ApplicationStatus.OFFER)) {
+                    throw new SQLException("Application not found: " + applicationId);
+                }
+                return offerId;
+            });
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error extending offer for application: " + applicationId, e);
+            return -1;
+        } finally {
+            sample.stop();
+        }
     }
     
     /**
@@ -74,20 +124,36 @@ public class OfferDAO {
             WHERE offer_id = ?
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setDouble(1, salaryOffered);
-            stmt.setString(2, status.getValue());
-            stmt.setLong(3, offerId);
-            
-            int rowsAffected = stmt.executeUpdate();
-            logger.info("Offer updated successfully: " + offerId);
-            return rowsAffected > 0;
-            
+        Timer.Sample sample = Metrics.start("OfferDAO.updateOffer");
+        try {
+            return UnitOfWork.execute(() -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    
+                    LockedOffer before = lockOffer(conn, offerId);
+                    stmt.setDouble(1, salaryOffered);
+                    stmt.setString(2, status.getValue());
+                    stmt.setLong(3, offerId);
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    if (rowsAffected > 0 && before != null) {
+                        StatisticsCounters.offerChanged(conn, before.applicationId, before.status, before.salary,
+                                status.getValue(), salaryOffered);
+                        Outbox.append(conn, OutboxEvent.OFFER, offerId, OutboxEvent.OFFER_UPDATED,
+                                "offer_id", offerId, "application_id", before.applicationId,
+                                "old_status", before.status, "new_status", status.getValue(),
+                                "old_salary_offered", before.salary, "salary_offered", salaryOffered);
+                    }
+                    events.info("Offer updated successfully: {}", offerId);
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error updating offer: " + offerId, e);
             return false;
+        } finally {
+            sample.stop();
         }
     }
     
@@ -97,19 +163,36 @@ public class OfferDAO {
     public boolean updateOfferStatus(long offerId, OfferStatus status) {
         String sql = "UPDATE offer SET status = ?, updated_at = NOW() WHERE offer_id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setString(1, status.getValue());
-            stmt.setLong(2, offerId);
-            
-            int rowsAffected = stmt.executeUpdate();
-            logger.info("Offer status updated to: " + status.getValue() + " for offer: " + offerId);
-            return rowsAffected > 0;
-            
+        Timer.Sample sample = Metrics.start("OfferDAO.updateOfferStatus");
+        try {
+            return UnitOfWork.execute(() -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    
+                    LockedOffer before = lockOffer(conn, offerId);
+                    stmt.setString(1, status.getValue());
+                    stmt.setLong(2, offerId);
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    if (rowsAffected > 0 && before != null) {
+                        StatisticsCounters.offerChanged(conn, before.applicationId, before.status, before.salary,
+                                status.getValue(), before.salary);
+                        if (!status.getValue().equals(before.status)) {
+                            Outbox.append(conn, OutboxEvent.OFFER, offerId, OutboxEvent.OFFER_STATUS_CHANGED,
+                                    "offer_id", offerId, "application_id", before.applicationId,
+                                    "old_status", before.status, "new_status", status.getValue());
+                        }
+                    }
+                    events.info("Offer status updated to: {} for offer: {}", status.getValue(), offerId);
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error updating offer status", e);
             return false;
+        } finally {
+            sample.stop();
         }
     }
     
@@ -130,19 +213,23 @@ public class OfferDAO {
             WHERE o.offer_id = ?
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("OfferDAO.getOfferById");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, offerId);
             
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return createOfferFromResultSet(rs);
+                    return new OfferMapper().map(rs);
                 }
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving offer: " + offerId, e);
+        } finally {
+            sample.stop();
         }
         
         return null;
@@ -165,22 +252,28 @@ public class OfferDAO {
         
         List<Offer> offers = new ArrayList<>();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("OfferDAO.getOffersByCandidate");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, candidateId);
             
             try (ResultSet rs = stmt.executeQuery()) {
+                OfferMapper mapper = new OfferMapper();
                 while (rs.next()) {
-                    Offer offer = createOfferFromResultSet(rs);
+                    Offer offer = mapper.map(rs);
                     offers.add(offer);
                 }
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving offers for candidate: " + candidateId, e);
+        } finally {
+            sample.stop();
         }
         
+        sample.rows(offers.size());
         return offers;
     }
     
@@ -204,41 +297,130 @@ public class OfferDAO {
         
         List<Offer> offers = new ArrayList<>();
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("OfferDAO.getPendingOffers");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             try (ResultSet rs = stmt.executeQuery()) {
+                OfferMapper mapper = new OfferMapper();
                 while (rs.next()) {
-                    Offer offer = createOfferFromResultSet(rs);
+                    Offer offer = mapper.map(rs);
                     offers.add(offer);
                 }
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving pending offers", e);
+        } finally {
+            sample.stop();
         }
         
+        sample.rows(offers.size());
         return offers;
     }
     
     /**
-     * Get offer statistics for a company
+     * Stream pending offers without materializing them; close the stream when done
      */
-    public OfferStatistics getOfferStatistics(long companyId) {
+    public Stream<Offer> streamPendingOffers() {
         String sql = """
-            SELECT 
-                COUNT(*) as total_offers,
-                SUM(CASE WHEN o.status = 'pending' THEN 1 ELSE 0 END) as pending_offers,
-                SUM(CASE WHEN o.status = 'accepted' THEN 1 ELSE 0 END) as accepted_offers,
-                SUM(CASE WHEN o.status = 'declined' THEN 1 ELSE 0 END) as declined_offers,
-                AVG(o.salary_offered) as average_salary
+            SELECT o.*, a.candidate_id, a.job_id, j.title as job_title,
+                   comp.company_name, c.first_name as candidate_first_name,
+                   c.last_name as candidate_last_name
             FROM offer o
             JOIN Applications a ON o.application_id = a.application_id
             JOIN Job j ON a.job_id = j.job_id
-            WHERE j.company_id = ?
+            JOIN company comp ON j.company_id = comp.company_id
+            JOIN Candidate cand ON a.candidate_id = cand.candidate_id
+            JOIN User c ON cand.user_id = c.user_id
+            WHERE o.status = 'pending'
+            ORDER BY o.offer_date DESC
             """;
         
-        try (Connection conn = DatabaseConnection.getConnection();
+        Timer.Sample sample = Metrics.start("OfferDAO.streamPendingOffers");
+        try {
+            return ResultSetStreams.stream(sql, stmt -> {}, new OfferMapper(), sample);
+        } catch (SQLException e) {
+            sample.failed();
+            sample.stop();
+            logger.log(Level.SEVERE, "Error streaming pending offers", e);
+            return Stream.empty();
+        }
+    }
+    
+    /**
+     * Get one page of pending offers, newest first, using keyset pagination
+     * @param pageToken token from the previous page, or null for the first page
+     */
+    public Page<Offer> getPendingOffersPage(int pageSize, String pageToken) {
+        PageToken after = PageToken.decode(pageToken);
+        String sql = """
+            SELECT o.*, a.candidate_id, a.job_id, j.title as job_title,
+                   comp.company_name, c.first_name as candidate_first_name,
+                   c.last_name as candidate_last_name
+            FROM offer o
+            JOIN Applications a ON o.application_id = a.application_id
+            JOIN Job j ON a.job_id = j.job_id
+            JOIN company comp ON j.company_id = comp.company_id
+            JOIN Candidate cand ON a.candidate_id = cand.candidate_id
+            JOIN User c ON cand.user_id = c.user_id
+            WHERE o.status = 'pending'%s
+            ORDER BY o.offer_date DESC, o.offer_id DESC
+            LIMIT ?
+            """.formatted(after == null ? "" 
+                : " AND (o.offer_date < ? OR (o.offer_date = ? AND o.offer_id < ?))");
+        
+        List<Offer> offers = new ArrayList<>();
+        
+        Timer.Sample sample = Metrics.start("OfferDAO.getPendingOffersPage");
+        try (Connection conn = DatabaseConnection.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            if (after != null) {
+                stmt.setTimestamp(index++, Timestamp.valueOf(after.getTimestamp()));
+                stmt.setTimestamp(index++, Timestamp.valueOf(after.getTimestamp()));
+                stmt.setLong(index++, after.getId());
+            }
+            stmt.setInt(index, PageToken.checkPageSize(pageSize) + 1);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                OfferMapper mapper = new OfferMapper();
+                while (rs.next()) {
+                    offers.add(mapper.map(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            sample.failed();
+            logger.log(Level.SEVERE, "Error retrieving pending offers page", e);
+        } finally {
+            sample.stop();
+        }
+        
+        sample.rows(offers.size());
+        if (offers.size() <= pageSize) {
+            return new Page<>(offers, null);
+        }
+        offers.remove(pageSize);
+        Offer last = offers.get(pageSize - 1);
+        return new Page<>(offers, PageToken.encode(last.getOfferDate(), last.getOfferId()));
+    }
+    
+    /**
+     * Get offer statistics for a company from the company_stats counters
+     */
+    public OfferStatistics getOfferStatistics(long companyId) {
+        String sql = """
+            SELECT total_offers, pending_offers, accepted_offers, declined_offers,
+                   salary_sum / NULLIF(salary_count, 0) as average_salary
+            FROM company_stats
+            WHERE company_id = ?
+            """;
+        
+        Timer.Sample sample = Metrics.start("OfferDAO.getOfferStatistics");
+        try (Connection conn = DatabaseConnection.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, companyId);
@@ -253,10 +435,15 @@ public class OfferDAO {
                         rs.getDouble("average_salary")
                     );
                 }
+                // No counter row yet: the company has no jobs
+                return new OfferStatistics(0, 0, 0, 0, 0);
             }
             
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error retrieving offer statistics for company: " + companyId, e);
+        } finally {
+            sample.stop();
         }
         
         return null;
@@ -268,47 +455,108 @@ public class OfferDAO {
     public boolean deleteOffer(long offerId) {
         String sql = "DELETE FROM offer WHERE offer_id = ?";
         
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setLong(1, offerId);
-            
-            int rowsAffected = stmt.executeUpdate();
-            logger.info("Offer deleted: " + offerId);
-            return rowsAffected > 0;
-            
+        Timer.Sample sample = Metrics.start("OfferDAO.deleteOffer");
+        try {
+            return UnitOfWork.execute(() -> {
+                try (Connection conn = DatabaseConnection.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    
+                    LockedOffer before = lockOffer(conn, offerId);
+                    stmt.setLong(1, offerId);
+                    
+                    int rowsAffected = stmt.executeUpdate();
+                    if (rowsAffected > 0 && before != null) {
+                        StatisticsCounters.offerDeleted(conn, before.applicationId, before.status, before.salary);
+                    }
+                    events.info("Offer deleted: {}", offerId);
+                    return rowsAffected > 0;
+                }
+            });
         } catch (SQLException e) {
+            sample.failed();
             logger.log(Level.SEVERE, "Error deleting offer: " + offerId, e);
             return false;
+        } finally {
+            sample.stop();
         }
     }
     
     /**
-     * Helper method to create Offer object from ResultSet
+     * Application, status and salary of an offer as they were before a write
      */
-    private Offer createOfferFromResultSet(ResultSet rs) throws SQLException {
-        Offer offer = new Offer();
-        offer.setOfferId(rs.getLong("offer_id"));
-        offer.setApplicationId(rs.getLong("application_id"));
-        offer.setSalaryOffered(rs.getDouble("salary_offered"));
-        offer.setStatus(rs.getString("status"));
-        offer.setOfferDate(rs.getTimestamp("offer_date").toLocalDateTime());
-        offer.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
-        
-        // Additional fields from joins
-        try {
-            offer.setCandidateId(rs.getLong("candidate_id"));
-            offer.setJobId(rs.getLong("job_id"));
-            offer.setJobTitle(rs.getString("job_title"));
-            offer.setCompanyName(rs.getString("company_name"));
-            offer.setCandidateFirstName(rs.getString("candidate_first_name"));
-            offer.setCandidateLastName(rs.getString("candidate_last_name"));
-            offer.setCandidateEmail(rs.getString("candidate_email"));
-        } catch (SQLException e) {
-            // Fields may not be present in all queries
+    private static class LockedOffer {
+        long applicationId;
+        String status;
+        Double salary;
+    }
+    
+    /**
+     * Read and lock an offer's counted fields before changing it
+     * @return the fields, or null if the offer does not exist
+     */
+    private static LockedOffer lockOffer(Connection conn, long offerId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT application_id, status, salary_offered FROM offer WHERE offer_id = ? FOR UPDATE")) {
+            stmt.setLong(1, offerId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                LockedOffer offer = new LockedOffer();
+                offer.applicationId = rs.getLong("application_id");
+                offer.status = rs.getString("status");
+                double salary = rs.getDouble("salary_offered");
+                offer.salary = rs.wasNull() ? null : salary;
+                return offer;
+            }
+        }
+    }
+    
+    /**
+     * Maps offer rows; the application, job, company and candidate columns are only present in join queries
+     */
+    private static class OfferMapper extends SlotRowMapper<Offer> {
+        private int offerId, applicationId, salaryOffered, status, offerDate, updatedAt;
+        private int candidateId, jobId, jobTitle, companyName, candidateFirstName, candidateLastName, candidateEmail;
+
+        @Override
+        protected void resolve(ColumnSlots slots) throws SQLException {
+            offerId = slots.required("offer_id");
+            applicationId = slots.required("application_id");
+            salaryOffered = slots.required("salary_offered");
+            status = slots.required("status");
+            offerDate = slots.required("offer_date");
+            updatedAt = slots.required("updated_at");
+            candidateId = slots.optional("candidate_id");
+            jobId = slots.optional("job_id");
+            jobTitle = slots.optional("job_title");
+            companyName = slots.optional("company_name");
+            candidateFirstName = slots.optional("candidate_first_name");
+            candidateLastName = slots.optional("candidate_last_name");
+            candidateEmail = slots.optional("candidate_email");
+        }
+
+        @Override
+        protected Offer mapRow(ResultSet rs) throws SQLException {
+            Offer offer = new Offer();
+            offer.setOfferId(rs.getLong(offerId));
+            offer.setApplicationId(rs.getLong(applicationId));
+            offer.setSalaryOffered(rs.getDouble(salaryOffered));
+            offer.setStatus(rs.getString(status));
+            offer.setOfferDate(rs.getTimestamp(offerDate).toLocalDateTime());
+            offer.setUpdatedAt(rs.getTimestamp(updatedAt).toLocalDateTime());
+            
+            // Additional fields from joins
+            offer.setCandidateId(ColumnSlots.getLong(rs, candidateId));
+            offer.setJobId(ColumnSlots.getLong(rs, jobId));
+            offer.setJobTitle(ColumnSlots.getString(rs, jobTitle));
+            offer.setCompanyName(ColumnSlots.getString(rs, companyName));
+            offer.setCandidateFirstName(ColumnSlots.getString(rs, candidateFirstName));
+            offer.setCandidateLastName(ColumnSlots.getString(rs, candidateLastName));
+            offer.setCandidateEmail(ColumnSlots.getString(rs, candidateEmail));
+            
+            return offer;
         }
-        
-        return offer;
     }
     
     // Inner class for Offer Statistics
@@ -0,0 +1,40 @@
+package main.java.com.recruitment.dao;
+
+import main.java.com.recruitment.util.Json;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Appends change events to outbox_event on the connection of the change they describe, so
+ * an event commits or rolls back together with its row. Read by
+ * {@link main.java.com.recruitment.outbox.OutboxRelay}.
+ */
+final class Outbox {
+    private static final String INSERT_SQL = """
+        INSERT INTO outbox_event (aggregate_type, aggregate_id, event_type, payload, created_at)
+        VALUES (?, ?, ?, ?, NOW())
+        """;
+
+    private Outbox() {}
+
+    /**
+     * @param payload alternating field names and values, e.g. "application_id", 12L
+     */
+    static void append(Connection conn, String aggregateType, long aggregateId, String eventType,
+                       Object... payload) throws SQLException {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < payload.length; i += 2) {
+            fields.put((String) payload[i], payload[i + 1]);
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL)) {
+            stmt.setString(1, aggregateType);
+            stmt.setLong(2, aggregateId);
+            stmt.setString(3, eventType);
+            stmt.setString(4, Json.object(fields));
+            stmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package main.java.com.recruitment.dao;
+
+import main.java.com.recruitment.model.ApplicationStage;
+import main.java.com.recruitment.util.BatchInserter;
+import main.java.com.recruitment.util.BatchResult;
+import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.metrics.Metrics;
+import main.java.com.recruitment.metrics.Timer;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Group-commit writer for Application_stage rows.
+ *
+ * Status changes append their stage row to a queue after their transaction commits; a
+ * daemon thread inserts the queued rows with one JDBC batch per stageHistory.batchSize rows
+ * or stageHistory.flushIntervalMs, whichever comes first, instead of one extra insert per
+ * update. A full queue (stageHistory.queueCapacity) blocks appenders until the writer
+ * catches up. Rows still queued when the process dies are lost; {@link #flush()} waits for
+ * everything appended so far and runs on DatabaseConnection.shutdown(). A batch that fails
+ * as a whole is retried up to three times; single rows the database rejects, e.g. because
+ * their application was deleted meanwhile, are logged and dropped.
+ */
+final class StageHistoryWriter {
+    private static final Logger logger = Logger.getLogger(StageHistoryWriter.class.getName());
+    private static final String INSERT_SQL =
+        "INSERT INTO Application_stage (application_id, stage_name, stage_datetime) VALUES (?, ?, ?)";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long FLUSH_TIMEOUT_MS = 30_000;
+
+    private static final class Holder {
+        static final StageHistoryWriter INSTANCE = new StageHistoryWriter(
+                DatabaseConnection.getIntProperty("stageHistory.batchSize", 200),
+                DatabaseConnection.getLongProperty("stageHistory.flushIntervalMs", 100),
+                DatabaseConnection.getIntProperty("stageHistory.queueCapacity", 10_000));
+    }
+
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final BlockingQueue<ApplicationStage> queue;
+    private final Thread writer;
+    private final Object progress = new Object();
+    private long appended;
+    private long completed;
+    private volatile boolean flushRequested;
+
+    private StageHistoryWriter(int batchSize, long flushIntervalMs, int queueCapacity) {
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(1, flushIntervalMs);
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+        this.writer = new Thread(this::run, "stage-history-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        DatabaseConnection.addShutdownTask(this::flush);
+    }
+
+    static StageHistoryWriter shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Queue a stage row; blocks while the queue is full
+     */
+    void append(ApplicationStage stage) {
+        synchronized (progress) {
+            appended++;
+        }
+        try {
+            queue.put(stage);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while queueing stage " + stage.getStageName()
+                    + " for application " + stage.getApplicationId() + "; row dropped");
+            markCompleted(1);
+        }
+    }
+
+    /**
+     * Wait until every row appended before this call has been written or dropped; the
+     * writer stops collecting its current batch at the next poll, within flushIntervalMs
+     * @return false if the rows were not written within 30 seconds
+     */
+    boolean flush() {
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MS;
+        synchronized (progress) {
+            long target = appended;
+            flushRequested = true;
+            while (completed < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    logger.warning("Stage history flush timed out with " + (target - completed) + " rows pending");
+                    return false;
+                }
+                try {
+                    progress.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private void run() {
+        List<ApplicationStage> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.currentTimeMillis() + flushIntervalMs;
+                while (batch.size() < batchSize && !flushRequested) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    ApplicationStage next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // The writer lives as long as the JVM; write whatever was collected
+            }
+            if (flushRequested) {
+                flushRequested = false;
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                markCompleted(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<ApplicationStage> batch) {
+        Timer.Sample sample = Metrics.start("StageHistoryWriter.write");
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    BatchResult result = BatchInserter.insert(INSERT_SQL, batch, batchSize, (stmt, stage) -> {
+                        stmt.setLong(1, stage.getApplicationId());
+                        stmt.setString(2, stage.getStageName());
+                        stmt.setTimestamp(3, Timestamp.valueOf(stage.getStageDatetime()));
+                    });
+                    for (int i = 0; i < batch.size(); i++) {
+                        if (result.isSuccess(i)) {
+                            batch.get(i).setStageId(result.getGeneratedId(i));
+                        } else {
+                            logger.warning("Dropped stage history row " + batch.get(i) + ": " + result.getError(i));
+                        }
+                    }
+                    sample.rows(batch.size());
+                    return;
+                } catch (SQLException | RuntimeException e) {
+                    if (attempt == MAX_ATTEMPTS) {
+                        sample.failed();
+                        logger.log(Level.SEVERE, "Dropped " + batch.size() + " stage history rows after "
+                                + attempt + " attempts", e);
+                        return;
+                    }
+                    logger.log(Level.WARNING, "Stage history batch failed, retrying", e);
+                    sleepQuietly(flushIntervalMs * attempt);
+                }
+            }
+        } finally {
+            sample.stop();
+        }
+    }
+
+    private void markCompleted(int rows) {
+        synchronized (progress) {
+            completed += rows;
+            progress.notifyAll();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            // retry right away
+        }
+    }
+}
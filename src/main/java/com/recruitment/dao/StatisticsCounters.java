@@ -0,0 +1,332 @@
+package main.java.com.recruitment.dao;
+
+import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.util.UnitOfWork;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Maintains the company_stats, job_stats and candidate_stats counter tables read by the
+ * statistics reports.
+ *
+ * The DAO write paths call these methods with the connection of the transaction that
+ * changes the base row, so a counter can only move together with the row it counts.
+ * Rows are created on first use with INSERT ... ON DUPLICATE KEY UPDATE. Status values come
+ * from the schema ENUMs and are checked against a fixed set before becoming column names.
+ * {@link #rebuild()} recomputes every counter from the base tables to repair drift, e.g.
+ * after rows were changed outside the DAOs.
+ */
+public final class StatisticsCounters {
+    private static final Logger logger = Logger.getLogger(StatisticsCounters.class.getName());
+
+    private static final Set<String> JOB_STATUSES = Set.of("open", "closed", "on_hold");
+    private static final Set<String> APPLICATION_STATUSES = Set.of("applied", "screened", "interview", "offer", "rejected");
+    private static final Set<String> OFFER_STATUSES = Set.of("pending", "accepted", "declined");
+
+    private static final List<String> REBUILD_SQL = List.of(
+        "DELETE FROM company_stats",
+        "DELETE FROM job_stats",
+        "DELETE FROM candidate_stats",
+        """
+        INSERT INTO company_stats (company_id, total_jobs, open_jobs, closed_jobs, on_hold_jobs)
+        SELECT company_id, COUNT(*), SUM(status = 'open'), SUM(status = 'closed'), SUM(status = 'on_hold')
+        FROM Job
+        WHERE company_id IS NOT NULL
+        GROUP BY company_id
+        """,
+        """
+        INSERT INTO company_stats (company_id, total_applications)
+        SELECT * FROM (
+            SELECT j.company_id, COUNT(*) AS applications
+            FROM Applications a
+            JOIN Job j ON a.job_id = j.job_id
+            WHERE j.company_id IS NOT NULL
+            GROUP BY j.company_id
+        ) AS counted
+        ON DUPLICATE KEY UPDATE total_applications = counted.applications
+        """,
+        """
+        INSERT INTO company_stats (company_id, total_offers, pending_offers, accepted_offers, declined_offers,
+                                   salary_sum, salary_count)
+        SELECT * FROM (
+            SELECT j.company_id, COUNT(*) AS offers, SUM(o.status = 'pending') AS pending,
+                   SUM(o.status = 'accepted') AS accepted, SUM(o.status = 'declined') AS declined,
+                   COALESCE(SUM(o.salary_offered), 0) AS salaries, COUNT(o.salary_offered) AS salaried
+            FROM offer o
+            JOIN Applications a ON o.application_id = a.application_id
+            JOIN Job j ON a.job_id = j.job_id
+            WHERE j.company_id IS NOT NULL
+            GROUP BY j.company_id
+        ) AS counted
+        ON DUPLICATE KEY UPDATE total_offers = counted.offers, pending_offers = counted.pending,
+            accepted_offers = counted.accepted, declined_offers = counted.declined,
+            salary_sum = counted.salaries, salary_count = counted.salaried
+        """,
+        """
+        INSERT INTO job_stats (job_id, applied_count, screened_count, interview_count, offer_count, rejected_count)
+        SELECT job_id, SUM(current_status = 'applied'), SUM(current_status = 'screened'),
+               SUM(current_status = 'interview'), SUM(current_status = 'offer'), SUM(current_status = 'rejected')
+        FROM Applications
+        WHERE job_id IS NOT NULL
+        GROUP BY job_id
+        """,
+        """
+        INSERT INTO candidate_stats (candidate_id, applied_count, screened_count, interview_count, offer_count,
+                                     rejected_count, total_applications)
+        SELECT candidate_id, SUM(current_status = 'applied'), SUM(current_status = 'screened'),
+               SUM(current_status = 'interview'), SUM(current_status = 'offer'), SUM(current_status = 'rejected'),
+               COUNT(*)
+        FROM Applications
+        WHERE candidate_id IS NOT NULL
+        GROUP BY candidate_id
+        """,
+        """
+        INSERT INTO candidate_stats (candidate_id, total_interviews)
+        SELECT * FROM (
+            SELECT a.candidate_id, COUNT(*) AS interviews
+            FROM Interview i
+            JOIN Applications a ON i.application_id = a.application_id
+            WHERE a.candidate_id IS NOT NULL
+            GROUP BY a.candidate_id
+        ) AS counted
+        ON DUPLICATE KEY UPDATE total_interviews = counted.interviews
+        """,
+        """
+        INSERT INTO candidate_stats (candidate_id, total_offers)
+        SELECT * FROM (
+            SELECT a.candidate_id, COUNT(*) AS offers
+            FROM offer o
+            JOIN Applications a ON o.application_id = a.application_id
+            WHERE a.candidate_id IS NOT NULL
+            GROUP BY a.candidate_id
+        ) AS counted
+        ON DUPLICATE KEY UPDATE total_offers = counted.offers
+        """
+    );
+
+    private StatisticsCounters() {}
+
+    /**
+     * Recompute all counters from the base tables in one transaction. The INSERT ... SELECT
+     * statements lock the rows they read, so concurrent DAO writes wait for the rebuild.
+     */
+    public static void rebuild() throws SQLException {
+        long start = System.currentTimeMillis();
+        UnitOfWork.run(() -> {
+            try (Connection conn = DatabaseConnection.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                for (String sql : REBUILD_SQL) {
+                    stmt.executeUpdate(sql);
+                }
+            }
+        });
+        logger.info("Statistics counters rebuilt in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    // Jobs
+
+    static void jobCreated(Connection conn, long companyId, String status) throws SQLException {
+        bumpCompany(conn, companyId, 1, jobColumn(status), 1);
+    }
+
+    static void jobStatusChanged(Connection conn, long companyId, String oldStatus, String newStatus)
+            throws SQLException {
+        if (same(oldStatus, newStatus)) {
+            return;
+        }
+        bumpCompany(conn, companyId, 0, jobColumn(oldStatus), -1);
+        bumpCompany(conn, companyId, 0, jobColumn(newStatus), 1);
+    }
+
+    static void jobDeleted(Connection conn, long jobId, long companyId, String status) throws SQLException {
+        bumpCompany(conn, companyId, -1, jobColumn(status), -1);
+        delete(conn, "DELETE FROM job_stats WHERE job_id = ?", jobId);
+    }
+
+    // Applications
+
+    static void applicationCreated(Connection conn, long jobId, long candidateId, String status) throws SQLException {
+        applicationCounted(conn, jobId, candidateId, status, 1);
+    }
+
+    static void applicationDeleted(Connection conn, long jobId, long candidateId, String status) throws SQLException {
+        applicationCounted(conn, jobId, candidateId, status, -1);
+    }
+
+    static void applicationStatusChanged(Connection conn, long jobId, long candidateId, String oldStatus,
+                                         String newStatus) throws SQLException {
+        if (same(oldStatus, newStatus)) {
+            return;
+        }
+        String oldColumn = applicationColumn(oldStatus);
+        String newColumn = applicationColumn(newStatus);
+        for (String column : new String[] { oldColumn, newColumn }) {
+            if (column == null) {
+                continue;
+            }
+            int delta = column.equals(oldColumn) ? -1 : 1;
+            upsert(conn, "job_stats", "job_id", jobId, column, delta);
+            upsert(conn, "candidate_stats", "candidate_id", candidateId, column, delta);
+        }
+    }
+
+    private static void applicationCounted(Connection conn, long jobId, long candidateId, String status, int delta)
+            throws SQLException {
+        String sql = """
+            INSERT INTO company_stats (company_id, total_applications)
+            SELECT company_id, ? FROM Job WHERE job_id = ? AND company_id IS NOT NULL
+            ON DUPLICATE KEY UPDATE total_applications = total_applications + ?
+            """;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, delta);
+            stmt.setLong(2, jobId);
+            stmt.setInt(3, delta);
+            stmt.executeUpdate();
+        }
+
+        String column = applicationColumn(status);
+        if (column != null) {
+            upsert(conn, "job_stats", "job_id", jobId, column, delta);
+            upsert(conn, "candidate_stats", "candidate_id", candidateId, column, delta);
+        }
+        upsert(conn, "candidate_stats", "candidate_id", candidateId, "total_applications", delta);
+    }
+
+    static void candidateDeleted(Connection conn, long candidateId) throws SQLException {
+        delete(conn, "DELETE FROM candidate_stats WHERE candidate_id = ?", candidateId);
+    }
+
+    // Interviews
+
+    static void interviewsScheduled(Connection conn, long applicationId, int count) throws SQLException {
+        String sql = """
+            INSERT INTO candidate_stats (candidate_id, total_interviews)
+            SELECT candidate_id, ? FROM Applications WHERE application_id = ? AND candidate_id IS NOT NULL
+            ON DUPLICATE KEY UPDATE total_interviews = total_interviews + ?
+            """;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, count);
+            stmt.setLong(2, applicationId);
+            stmt.setInt(3, count);
+            stmt.executeUpdate();
+        }
+    }
+
+    // Offers
+
+    static void offerCreated(Connection conn, long applicationId, String status, Double salary) throws SQLException {
+        offerCounted(conn, applicationId, status, salary, 1);
+        bumpCandidateOffers(conn, applicationId, 1);
+    }
+
+    static void offerDeleted(Connection conn, long applicationId, String status, Double salary) throws SQLException {
+        offerCounted(conn, applicationId, status, salary, -1);
+        bumpCandidateOffers(conn, applicationId, -1);
+    }
+
+    static void offerChanged(Connection conn, long applicationId, String oldStatus, Double oldSalary,
+                             String newStatus, Double newSalary) throws SQLException {
+        if (same(oldStatus, newStatus) && same(oldSalary, newSalary)) {
+            return;
+        }
+        offerCounted(conn, applicationId, oldStatus, oldSalary, -1);
+        offerCounted(conn, applicationId, newStatus, newSalary, 1);
+    }
+
+    private static void offerCounted(Connection conn, long applicationId, String status, Double salary, int delta)
+            throws SQLException {
+        String column = offerColumn(status);
+        String statusColumn = column == null ? "" : ", " + column;
+        String statusValue = column == null ? "" : ", total_offers";
+        String statusUpdate = column == null ? ""
+                : ", " + column + " = company_stats." + column + " + delta.total_offers";
+        String sql = """
+            INSERT INTO company_stats (company_id, total_offers, salary_sum, salary_count%s)
+            SELECT company_id, total_offers, salary_sum, salary_count%s FROM (
+                SELECT j.company_id, ? AS total_offers, ? AS salary_sum, ? AS salary_count
+                FROM Applications a
+                JOIN Job j ON a.job_id = j.job_id
+                WHERE a.application_id = ? AND j.company_id IS NOT NULL
+            ) AS delta
+            ON DUPLICATE KEY UPDATE total_offers = company_stats.total_offers + delta.total_offers,
+                salary_sum = company_stats.salary_sum + delta.salary_sum,
+                salary_count = company_stats.salary_count + delta.salary_count%s
+            """.formatted(statusColumn, statusValue, statusUpdate);
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, delta);
+            stmt.setDouble(2, salary == null ? 0 : delta * salary);
+            stmt.setInt(3, salary == null ? 0 : delta);
+            stmt.setLong(4, applicationId);
+            stmt.executeUpdate();
+        }
+    }
+
+    private static void bumpCandidateOffers(Connection conn, long applicationId, int delta) throws SQLException {
+        String sql = """
+            INSERT INTO candidate_stats (candidate_id, total_offers)
+            SELECT candidate_id, ? FROM Applications WHERE application_id = ? AND candidate_id IS NOT NULL
+            ON DUPLICATE KEY UPDATE total_offers = total_offers + ?
+            """;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, delta);
+            stmt.setLong(2, applicationId);
+            stmt.setInt(3, delta);
+            stmt.executeUpdate();
+        }
+    }
+
+    // Helpers
+
+    private static void bumpCompany(Connection conn, long companyId, int totalDelta, String column, int columnDelta)
+            throws SQLException {
+        if (totalDelta != 0) {
+            upsert(conn, "company_stats", "company_id", companyId, "total_jobs", totalDelta);
+        }
+        if (column != null) {
+            upsert(conn, "company_stats", "company_id", companyId, column, columnDelta);
+        }
+    }
+
+    /**
+     * Add delta to one counter column, creating the row if it does not exist yet
+     */
+    private static void upsert(Connection conn, String table, String keyColumn, long key, String column, int delta)
+            throws SQLException {
+        String sql = "INSERT INTO " + table + " (" + keyColumn + ", " + column + ") VALUES (?, ?) "
+                + "ON DUPLICATE KEY UPDATE " + column + " = " + column + " + ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setLong(1, key);
+            stmt.setInt(2, delta);
+            stmt.setInt(3, delta);
+            stmt.executeUpdate();
+        }
+    }
+
+    private static void delete(Connection conn, String sql, long key) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setLong(1, key);
+            stmt.executeUpdate();
+        }
+    }
+
+    private static String jobColumn(String status) {
+        return status != null && JOB_STATUSES.contains(status) ? status + "_jobs" : null;
+    }
+
+    private static String applicationColumn(String status) {
+        return status != null && APPLICATION_STATUSES.contains(status) ? status + "_count" : null;
+    }
+
+    private static String offerColumn(String status) {
+        return status != null && OFFER_STATUSES.contains(status) ? status + "_offers" : null;
+    }
+
+    private static boolean same(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+}
@@ -0,0 +1,272 @@
+package main.java.com.recruitment.dao;
+
+import main.java.com.recruitment.model.Interview;
+import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.util.TimingWheel;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * In-memory, time-ordered calendar of pending upcoming interviews behind
+ * InterviewDAO.getUpcomingInterviews().
+ *
+ * The calendar is loaded with the interviewer, candidate and job join on first use and
+ * then kept current by the interview write paths: after a commit they call
+ * {@link #refresh} with the changed interview IDs, which re-reads just those rows, or
+ * {@link #remove} for deleted ones. Interviews leave the calendar when their date passes
+ * through a hashed timing wheel with one-minute ticks, and reads skip entries that passed
+ * within the current tick, so a read is a copy of the in-memory snapshot with no database
+ * round trip. Changes made by other processes or by manual SQL are picked up by the full
+ * reload every interview.upcoming.reloadMs.
+ */
+final class UpcomingInterviews {
+    private static final Logger logger = Logger.getLogger(UpcomingInterviews.class.getName());
+    private static final long TICK_MS = 60_000;
+    private static final int WHEEL_SIZE = 1440;
+    private static final int MAX_IN_LIST = 500;
+
+    private static final String SELECT_SQL = """
+        SELECT i.*, u.first_name as interviewer_first_name, u.last_name as interviewer_last_name,
+               c.first_name as candidate_first_name, c.last_name as candidate_last_name,
+               j.title as job_title
+        FROM Interview i
+        LEFT JOIN User u ON i.interviewer_id = u.user_id
+        JOIN Applications a ON i.application_id = a.application_id
+        JOIN Candidate cand ON a.candidate_id = cand.candidate_id
+        JOIN User c ON cand.user_id = c.user_id
+        JOIN Job j ON a.job_id = j.job_id
+        WHERE %s
+        ORDER BY i.interview_date ASC
+        """;
+    private static final String UPCOMING = "i.interview_date >= NOW() AND i.result = 'pending'";
+
+    private static final Comparator<Entry> BY_DATE =
+            Comparator.comparing((Entry entry) -> entry.interview.getInterviewDate())
+                      .thenComparingLong(entry -> entry.interview.getInterviewId());
+
+    private static final UpcomingInterviews shared = new UpcomingInterviews(
+            DatabaseConnection.getLongProperty("interview.upcoming.reloadMs", 300_000));
+
+    private static class Entry {
+        final Interview interview;
+        TimingWheel.Timeout<Entry> timeout;
+
+        Entry(Interview interview) {
+            this.interview = interview;
+        }
+    }
+
+    private final long reloadMs;
+    // Held while reading the database so that loads and refreshes apply in the order they read
+    private final Object refreshLock = new Object();
+    private final NavigableSet<Entry> entries = new TreeSet<>(BY_DATE);
+    private final Map<Long, Entry> byId = new HashMap<>();
+    private TimingWheel<Entry> wheel;
+    private Interview[] snapshot;
+    private volatile long loadedAt;
+
+    private UpcomingInterviews(long reloadMs) {
+        this.reloadMs = reloadMs;
+    }
+
+    static UpcomingInterviews shared() {
+        return shared;
+    }
+
+    /**
+     * Run the upcoming interviews query directly, for use when the calendar is disabled
+     */
+    static List<Interview> query(Connection conn) throws SQLException {
+        return select(conn, UPCOMING, List.of());
+    }
+
+    /**
+     * Copies of the pending interviews from now on, earliest first; loads the calendar
+     * on first use and when it is older than reloadMs
+     */
+    List<Interview> get() throws SQLException {
+        if (isStale()) {
+            load();
+        }
+
+        Interview[] current;
+        synchronized (this) {
+            wheel.advance(System.currentTimeMillis(), this::expire);
+            if (snapshot == null) {
+                snapshot = new Interview[entries.size()];
+                int i = 0;
+                for (Entry entry : entries) {
+                    snapshot[i++] = entry.interview;
+                }
+            }
+            current = snapshot;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int from = firstNotBefore(current, now);
+        List<Interview> interviews = new ArrayList<>(current.length - from);
+        for (int i = from; i < current.length; i++) {
+            interviews.add(new Interview(current[i]));
+        }
+        return interviews;
+    }
+
+    /**
+     * Re-read interviews that were scheduled or changed and committed; does nothing until
+     * the calendar has been loaded
+     */
+    void refresh(Collection<Long> interviewIds) {
+        if (loadedAt == 0 || interviewIds.isEmpty()) {
+            return;
+        }
+        synchronized (refreshLock) {
+            if (loadedAt == 0) {
+                return;
+            }
+            List<Long> ids = new ArrayList<>(interviewIds);
+            List<Interview> current = new ArrayList<>(ids.size());
+            try (Connection conn = DatabaseConnection.getConnection()) {
+                for (int start = 0; start < ids.size(); start += MAX_IN_LIST) {
+                    List<Long> chunk = ids.subList(start, Math.min(start + MAX_IN_LIST, ids.size()));
+                    String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+                    current.addAll(select(conn, "i.interview_id IN (" + placeholders + ")", chunk));
+                }
+            } catch (SQLException e) {
+                logger.log(Level.WARNING, "Could not refresh upcoming interviews " + ids + "; reloading on next read", e);
+                invalidate();
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            synchronized (this) {
+                ids.forEach(this::removeEntry);
+                for (Interview interview : current) {
+                    if (InterviewDAO.InterviewResult.PENDING.getValue().equals(interview.getResult())
+                            && interview.getInterviewDate() != null && !interview.getInterviewDate().isBefore(now)) {
+                        addEntry(interview);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop a deleted interview
+     */
+    void remove(long interviewId) {
+        synchronized (refreshLock) {
+            synchronized (this) {
+                removeEntry(interviewId);
+            }
+        }
+    }
+
+    /**
+     * Reload the whole calendar on the next read
+     */
+    void invalidate() {
+        loadedAt = 0;
+    }
+
+    private boolean isStale() {
+        long loaded = loadedAt;
+        return loaded == 0 || System.currentTimeMillis() - loaded >= reloadMs;
+    }
+
+    private void load() throws SQLException {
+        synchronized (refreshLock) {
+            if (!isStale()) {
+                return;
+            }
+            long start = System.currentTimeMillis();
+            List<Interview> interviews;
+            try (Connection conn = DatabaseConnection.getConnection()) {
+                interviews = query(conn);
+            }
+            synchronized (this) {
+                entries.clear();
+                byId.clear();
+                wheel = new TimingWheel<>(TICK_MS, WHEEL_SIZE, start);
+                interviews.forEach(this::addEntry);
+            }
+            loadedAt = start;
+            logger.fine("Loaded " + interviews.size() + " upcoming interviews in "
+                    + (System.currentTimeMillis() - start) + " ms");
+        }
+    }
+
+    private static List<Interview> select(Connection conn, String filter, List<Long> ids) throws SQLException {
+        List<Interview> interviews = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_SQL.formatted(filter))) {
+            for (int i = 0; i < ids.size(); i++) {
+                stmt.setLong(i + 1, ids.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                InterviewDAO.InterviewMapper mapper = new InterviewDAO.InterviewMapper();
+                while (rs.next()) {
+                    interviews.add(mapper.map(rs));
+                }
+            }
+        }
+        return interviews;
+    }
+
+    // Callers hold the monitor of this
+
+    private void addEntry(Interview interview) {
+        removeEntry(interview.getInterviewId());
+        Entry entry = new Entry(interview);
+        long deadline = interview.getInterviewDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        entry.timeout = wheel.schedule(entry, deadline);
+        entries.add(entry);
+        byId.put(interview.getInterviewId(), entry);
+        snapshot = null;
+    }
+
+    private void removeEntry(long interviewId) {
+        Entry entry = byId.remove(interviewId);
+        if (entry != null) {
+            wheel.cancel(entry.timeout);
+            entries.remove(entry);
+            snapshot = null;
+        }
+    }
+
+    private void expire(Entry entry) {
+        byId.remove(entry.interview.getInterviewId(), entry);
+        entries.remove(entry);
+        snapshot = null;
+    }
+
+    /**
+     * Index of the first interview at or after now in the date-ordered snapshot
+     */
+    private static int firstNotBefore(Interview[] interviews, LocalDateTime now) {
+        int low = 0;
+        int high = interviews.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (interviews[mid].getInterviewDate().isBefore(now)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,90 @@
+package main.java.com.recruitment.importer;
+
+import main.java.com.recruitment.dao.ApplicationDAO.ApplicationStatus;
+import main.java.com.recruitment.model.Application;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application rows: job_id, candidate_id or candidate_email, and an optional status
+ */
+public class ApplicationImport implements RowTransformer<Application> {
+    private final ForeignKeyResolver resolver;
+
+    public ApplicationImport(ForeignKeyResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public void prepare(List<ImportRecord> chunk) throws SQLException {
+        List<Long> jobIds = new ArrayList<>();
+        List<Long> candidateIds = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+        for (ImportRecord record : chunk) {
+            try {
+                long jobId = record.getId("job_id");
+                if (jobId > 0) {
+                    jobIds.add(jobId);
+                }
+                long candidateId = record.getId("candidate_id");
+                if (candidateId > 0) {
+                    candidateIds.add(candidateId);
+                }
+            } catch (ImportException e) {
+                // Reported when the row is transformed
+            }
+            String email = record.get("candidate_email");
+            if (email != null) {
+                emails.add(email);
+            }
+        }
+        resolver.prefetchJobIds(jobIds);
+        resolver.prefetchCandidateIds(candidateIds);
+        resolver.prefetchCandidatesByEmail(emails);
+    }
+
+    @Override
+    public Application transform(ImportRecord record) throws ImportException, SQLException {
+        long jobId = record.getId("job_id");
+        if (jobId < 0) {
+            throw new ImportException("job_id is required");
+        }
+        if (!resolver.jobExists(jobId)) {
+            throw new ImportException("Unknown job_id: " + jobId);
+        }
+
+        long candidateId = record.getId("candidate_id");
+        String email = record.get("candidate_email");
+        if (candidateId > 0) {
+            if (!resolver.candidateExists(candidateId)) {
+                throw new ImportException("Unknown candidate_id: " + candidateId);
+            }
+        } else if (email != null) {
+            candidateId = resolver.candidateIdForEmail(email);
+            if (candidateId < 0) {
+                throw new ImportException("No candidate profile for email: " + email);
+            }
+        } else {
+            throw new ImportException("Either candidate_id or candidate_email is required");
+        }
+
+        Application application = new Application();
+        application.setJobId(jobId);
+        application.setCandidateId(candidateId);
+        application.setCurrentStatus(parseStatus(record.get("status")));
+        return application;
+    }
+
+    private static String parseStatus(String value) throws ImportException {
+        if (value == null) {
+            return ApplicationStatus.APPLIED.getValue();
+        }
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            if (status.getValue().equalsIgnoreCase(value)) {
+                return status.getValue();
+            }
+        }
+        throw new ImportException("Invalid status: " + value);
+    }
+}
@@ -0,0 +1,71 @@
+package main.java.com.recruitment.importer;
+
+import main.java.com.recruitment.model.Candidate;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Candidate rows: email or user_id identifying an existing User, plus resume_url
+ */
+public class CandidateImport implements RowTransformer<Candidate> {
+    private static final int MAX_RESUME_URL_LENGTH = 255;
+
+    private final ForeignKeyResolver resolver;
+
+    public CandidateImport(ForeignKeyResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public void prepare(List<ImportRecord> chunk) throws SQLException {
+        List<String> emails = new ArrayList<>();
+        List<Long> userIds = new ArrayList<>();
+        for (ImportRecord record : chunk) {
+            String email = record.get("email");
+            if (email != null) {
+                emails.add(email);
+            }
+            try {
+                long userId = record.getId("user_id");
+                if (userId > 0) {
+                    userIds.add(userId);
+                }
+            } catch (ImportException e) {
+                // Reported when the row is transformed
+            }
+        }
+        resolver.prefetchUsersByEmail(emails);
+        resolver.prefetchUserIds(userIds);
+    }
+
+    @Override
+    public Candidate transform(ImportRecord record) throws ImportException, SQLException {
+        long userId = record.getId("user_id");
+        String email = record.get("email");
+
+        if (userId > 0) {
+            if (!resolver.userExists(userId)) {
+                throw new ImportException("Unknown user_id: " + userId);
+            }
+        } else if (email != null) {
+            userId = resolver.userIdForEmail(email);
+            if (userId < 0) {
+                throw new ImportException("No user with email: " + email);
+            }
+        } else {
+            throw new ImportException("Either user_id or email is required");
+        }
+
+        String resumeUrl = record.get("resume_url");
+        if (resumeUrl != null && resumeUrl.length() > MAX_RESUME_URL_LENGTH) {
+            throw new ImportException("resume_url is longer than " + MAX_RESUME_URL_LENGTH + " characters");
+        }
+
+        Candidate candidate = new Candidate();
+        candidate.setUserId(userId);
+        candidate.setResumeUrl(resumeUrl);
+        candidate.setEmail(email);
+        return candidate;
+    }
+}
@@ -0,0 +1,12 @@
+package main.java.com.recruitment.importer;
+
+import main.java.com.recruitment.util.BatchResult;
+import java.util.List;
+
+/**
+ * Writes one chunk of transformed rows, normally through a DAO bulk-insert method
+ */
+@FunctionalInterface
+public interface ChunkWriter<T> {
+    BatchResult write(List<T> rows);
+}
@@ -0,0 +1,154 @@
+package main.java.com.recruitment.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming CSV/TSV parser.
+ *
+ * Reads one record at a time from the underlying reader, so memory use does not depend on
+ * the file size. Supports quoted fields with embedded delimiters, doubled quotes and line
+ * breaks (RFC 4180). The first record is treated as the header.
+ */
+public class DelimitedReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    private final Map<String, Integer> header;
+    private long rowNumber;
+
+    public DelimitedReader(Reader reader, char delimiter) throws IOException {
+        this.reader = reader;
+        this.delimiter = delimiter;
+
+        String[] columns = readFields();
+        if (columns == null) {
+            throw new IOException("Input is empty; a header row is required");
+        }
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            index.put(columns[i].trim().toLowerCase(), i);
+        }
+        this.header = Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Delimiter for a file name: tab for .tsv/.tab files, comma otherwise
+     */
+    public static char delimiterFor(String fileName) {
+        String lower = fileName.toLowerCase();
+        return lower.endsWith(".tsv") || lower.endsWith(".tab") ? '\t' : ',';
+    }
+
+    public Map<String, Integer> getHeader() {
+        return header;
+    }
+
+    /**
+     * Read the next data record
+     * @return record, or null at end of input
+     */
+    public ImportRecord next() throws IOException {
+        while (true) {
+            String[] fields = readFields();
+            if (fields == null) {
+                return null;
+            }
+            rowNumber++;
+            if (fields.length == 1 && fields[0].isEmpty()) {
+                continue; // blank line
+            }
+            return new ImportRecord(rowNumber, header, fields);
+        }
+    }
+
+    /**
+     * Skip data records without building them, e.g. when resuming from a checkpoint
+     * @return number of records skipped
+     */
+    public long skip(long records) throws IOException {
+        long skipped = 0;
+        while (skipped < records && readFields() != null) {
+            rowNumber++;
+            skipped++;
+        }
+        return skipped;
+    }
+
+    private String[] readFields() throws IOException {
+        if (!ensureInput()) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (ensureInput()) {
+            char c = buffer[position++];
+            if (quoted) {
+                if (c == '"') {
+                    if (ensureInput() && buffer[position] == '"') {
+                        field.append('"');
+                        position++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                if (ensureInput() && buffer[position] == '\n') {
+                    position++;
+                }
+                break;
+            } else {
+                field.append(c);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    private boolean ensureInput() throws IOException {
+        if (position < limit) {
+            return true;
+        }
+        if (endOfInput) {
+            return false;
+        }
+        limit = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        if (limit <= 0) {
+            limit = 0;
+            endOfInput = true;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,172 @@
+package main.java.com.recruitment.importer;
+
+import main.java.com.recruitment.util.DatabaseConnection;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves User/Candidate/Job references for import rows.
+ *
+ * Lookups are done per chunk with one IN (...) query per reference type, and results
+ * (including misses) are kept in bounded LRU maps so repeated references across chunks
+ * do not go back to the database. Used by a single transformer thread; not thread-safe.
+ */
+public class ForeignKeyResolver {
+    private static final int MAX_IN_LIST = 500;
+    private static final long MISSING = -1;
+
+    private final Map<String, Long> userIdsByEmail;
+    private final Map<String, Long> candidateIdsByEmail;
+    private final Map<Long, Long> userIds;
+    private final Map<Long, Long> candidateIds;
+    private final Map<Long, Long> jobIds;
+
+    public ForeignKeyResolver(int cacheSize) {
+        this.userIdsByEmail = lruMap(cacheSize);
+        this.candidateIdsByEmail = lruMap(cacheSize);
+        this.userIds = lruMap(cacheSize);
+        this.candidateIds = lruMap(cacheSize);
+        this.jobIds = lruMap(cacheSize);
+    }
+
+    /**
+     * Load user IDs for the given emails into the cache
+     */
+    public void prefetchUsersByEmail(Collection<String> emails) throws SQLException {
+        prefetch(userIdsByEmail, normalize(emails),
+                "SELECT LOWER(email), user_id FROM User WHERE email IN (%s)");
+    }
+
+    /**
+     * Load candidate IDs for the given candidate emails into the cache
+     */
+    public void prefetchCandidatesByEmail(Collection<String> emails) throws SQLException {
+        prefetch(candidateIdsByEmail, normalize(emails), """
+            SELECT LOWER(u.email), c.candidate_id
+            FROM Candidate c
+            JOIN User u ON c.user_id = u.user_id
+            WHERE u.email IN (%s)
+            """);
+    }
+
+    public void prefetchUserIds(Collection<Long> ids) throws SQLException {
+        prefetch(userIds, ids, "SELECT user_id, user_id FROM User WHERE user_id IN (%s)");
+    }
+
+    public void prefetchCandidateIds(Collection<Long> ids) throws SQLException {
+        prefetch(candidateIds, ids, "SELECT candidate_id, candidate_id FROM Candidate WHERE candidate_id IN (%s)");
+    }
+
+    public void prefetchJobIds(Collection<Long> ids) throws SQLException {
+        prefetch(jobIds, ids, "SELECT job_id, job_id FROM Job WHERE job_id IN (%s)");
+    }
+
+    /**
+     * @return user ID, or -1 if no user has this email
+     */
+    public long userIdForEmail(String email) throws SQLException {
+        String key = email.toLowerCase();
+        if (!userIdsByEmail.containsKey(key)) {
+            prefetchUsersByEmail(List.of(key));
+        }
+        return userIdsByEmail.getOrDefault(key, MISSING);
+    }
+
+    /**
+     * @return candidate ID, or -1 if no candidate profile belongs to this email
+     */
+    public long candidateIdForEmail(String email) throws SQLException {
+        String key = email.toLowerCase();
+        if (!candidateIdsByEmail.containsKey(key)) {
+            prefetchCandidatesByEmail(List.of(key));
+        }
+        return candidateIdsByEmail.getOrDefault(key, MISSING);
+    }
+
+    public boolean userExists(long userId) throws SQLException {
+        return exists(userIds, userId, this::prefetchUserIds);
+    }
+
+    public boolean candidateExists(long candidateId) throws SQLException {
+        return exists(candidateIds, candidateId, this::prefetchCandidateIds);
+    }
+
+    public boolean jobExists(long jobId) throws SQLException {
+        return exists(jobIds, jobId, this::prefetchJobIds);
+    }
+
+    private interface Prefetcher {
+        void prefetch(Collection<Long> ids) throws SQLException;
+    }
+
+    private static boolean exists(Map<Long, Long> cache, long id, Prefetcher prefetcher) throws SQLException {
+        if (!cache.containsKey(id)) {
+            prefetcher.prefetch(List.of(id));
+        }
+        return cache.getOrDefault(id, MISSING) != MISSING;
+    }
+
+    /**
+     * Query the keys not yet cached, caching found values and remembering misses
+     */
+    private static <K> void prefetch(Map<K, Long> cache, Collection<K> keys, String sqlTemplate) throws SQLException {
+        Set<K> missing = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (!cache.containsKey(key)) {
+                missing.add(key);
+            }
+        }
+        List<K> pending = new ArrayList<>(missing);
+
+        for (int start = 0; start < pending.size(); start += MAX_IN_LIST) {
+            List<K> slice = pending.subList(start, Math.min(start + MAX_IN_LIST, pending.size()));
+            String sql = String.format(sqlTemplate, String.join(",", Collections.nCopies(slice.size(), "?")));
+
+            Map<K, Long> found = new HashMap<>();
+            try (Connection conn = DatabaseConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+                for (int i = 0; i < slice.size(); i++) {
+                    stmt.setObject(i + 1, slice.get(i));
+                }
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        @SuppressWarnings("unchecked")
+                        K key = (K) (slice.get(0) instanceof Long ? Long.valueOf(rs.getLong(1)) : rs.getString(1));
+                        found.put(key, rs.getLong(2));
+                    }
+                }
+            }
+
+            for (K key : slice) {
+                cache.put(key, found.getOrDefault(key, MISSING));
+            }
+        }
+    }
+
+    private static List<String> normalize(Collection<String> emails) {
+        List<String> normalized = new ArrayList<>(emails.size());
+        for (String email : emails) {
+            normalized.add(email.toLowerCase());
+        }
+        return normalized;
+    }
+
+    private static <K> Map<K, Long> lruMap(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package main.java.com.recruitment.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * Resumable import position stored next to the input file (&lt;file&gt;.checkpoint).
+ *
+ * Records how many data rows have been fully written, together with the input file's size
+ * and modification time so a checkpoint is never applied to a different file. Each chunk is
+ * committed before the checkpoint moves past it, so a crash between the two replays at most
+ * one chunk on restart.
+ */
+public class ImportCheckpoint {
+    private static final Logger logger = Logger.getLogger(ImportCheckpoint.class.getName());
+
+    private final Path input;
+    private final Path file;
+
+    public ImportCheckpoint(Path input) {
+        this.input = input;
+        this.file = input.resolveSibling(input.getFileName() + ".checkpoint");
+    }
+
+    /**
+     * @return rows already processed by an earlier run, or 0 if there is no usable checkpoint
+     */
+    public long load() throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+        }
+
+        String size = String.valueOf(Files.size(input));
+        String modified = String.valueOf(Files.getLastModifiedTime(input).toMillis());
+        if (!size.equals(props.getProperty("input.size")) || !modified.equals(props.getProperty("input.modified"))) {
+            logger.warning("Ignoring checkpoint " + file + ": input file has changed since it was written");
+            return 0;
+        }
+        return Long.parseLong(props.getProperty("rows.processed", "0"));
+    }
+
+    /**
+     * Atomically record that the first rowsProcessed rows are done
+     */
+    public void save(long rowsProcessed) throws IOException {
+        Properties props = new Properties();
+        props.setProperty("input.size", String.valueOf(Files.size(input)));
+        props.setProperty("input.modified", String.valueOf(Files.getLastModifiedTime(input).toMillis()));
+        props.setProperty("rows.processed", String.valueOf(rowsProcessed));
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            props.store(out, "Import checkpoint for " + input.getFileName());
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Remove the checkpoint after the import has completed
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+}
@@ -0,0 +1,12 @@
+package main.java.com.recruitment.importer;
+
+/**
+ * A row that failed validation or foreign key resolution
+ */
+public class ImportException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    public ImportException(String message) {
+        super(message);
+    }
+}
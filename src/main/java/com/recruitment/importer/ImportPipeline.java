@@ -0,0 +1,220 @@
+package main.java.com.recruitment.importer;
+
+import main.java.com.recruitment.util.BatchResult;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Logger;
+
+/**
+ * Three-stage streaming import: reader, transformer and writer run on separate threads
+ * and hand chunks to each other through bounded queues.
+ *
+ * Memory use is bounded by (2 * queueCapacity + 3) chunks regardless of file size. The
+ * writer commits one chunk at a time in file order and advances the {@link ImportCheckpoint}
+ * after each commit, so an interrupted import resumes after the last written chunk.
+ * Rejected rows are written with their row number and reason to &lt;file&gt;.rejects.
+ */
+public class ImportPipeline<T> {
+    private static final Logger logger = Logger.getLogger(ImportPipeline.class.getName());
+    private static final int PROGRESS_INTERVAL_CHUNKS = 50;
+
+    private final String name;
+    private final RowTransformer<T> transformer;
+    private final ChunkWriter<T> writer;
+    private final int chunkSize;
+    private final int queueCapacity;
+
+    public ImportPipeline(String name, RowTransformer<T> transformer, ChunkWriter<T> writer,
+                          int chunkSize, int queueCapacity) {
+        if (chunkSize < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("chunkSize and queueCapacity must be positive");
+        }
+        this.name = name;
+        this.transformer = transformer;
+        this.writer = writer;
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Chunk of records travelling through the pipeline; an empty last chunk ends the stream
+     */
+    private static class Chunk<T> {
+        final List<ImportRecord> records;
+        final long lastRowNumber;
+        final List<T> rows = new ArrayList<>();
+        final List<Long> rowNumbers = new ArrayList<>();
+        final List<String> rejects = new ArrayList<>();
+        final boolean last;
+        final Throwable error;
+
+        Chunk(List<ImportRecord> records, long lastRowNumber, boolean last, Throwable error) {
+            this.records = records;
+            this.lastRowNumber = lastRowNumber;
+            this.last = last;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Import a delimited file, resuming from its checkpoint if one exists
+     * @param restart ignore any existing checkpoint and start from the first row
+     */
+    public ImportReport run(Path input, boolean restart) throws IOException {
+        ImportCheckpoint checkpoint = new ImportCheckpoint(input);
+        long resumeFrom = restart ? 0 : checkpoint.load();
+        ImportReport report = new ImportReport(name);
+        report.recordSkipped(resumeFrom);
+        if (resumeFrom > 0) {
+            logger.info("Resuming import of " + input + " after row " + resumeFrom);
+        }
+
+        BlockingQueue<Chunk<T>> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Chunk<T>> transformed = new ArrayBlockingQueue<>(queueCapacity);
+
+        Thread readerThread = new Thread(() -> read(input, resumeFrom, parsed), "import-reader-" + name);
+        Thread transformerThread = new Thread(() -> transform(parsed, transformed), "import-transformer-" + name);
+        readerThread.setDaemon(true);
+        transformerThread.setDaemon(true);
+        readerThread.start();
+        transformerThread.start();
+
+        Path rejectsFile = input.resolveSibling(input.getFileName() + ".rejects");
+        try (BufferedWriter rejects = Files.newBufferedWriter(rejectsFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, restart ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND)) {
+
+            while (true) {
+                Chunk<T> chunk = transformed.take();
+                if (chunk.error != null) {
+                    throw new IOException("Import " + name + " failed", chunk.error);
+                }
+                if (chunk.last) {
+                    break;
+                }
+                write(chunk, report, rejects);
+                checkpoint.save(chunk.lastRowNumber);
+
+                if (report.getChunks() % PROGRESS_INTERVAL_CHUNKS == 0) {
+                    logger.info("Import " + name + " progress: " + report);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import " + name + " interrupted", e);
+        } finally {
+            readerThread.interrupt();
+            transformerThread.interrupt();
+        }
+
+        report.finish();
+        checkpoint.delete();
+        if (report.getRowsRejected() == 0) {
+            Files.deleteIfExists(rejectsFile);
+        }
+        logger.info("Import " + name + " finished: " + report);
+        return report;
+    }
+
+    /**
+     * Reader stage: parse the file into chunks of records
+     */
+    private void read(Path input, long resumeFrom, BlockingQueue<Chunk<T>> out) {
+        try (DelimitedReader reader = new DelimitedReader(
+                Files.newBufferedReader(input, StandardCharsets.UTF_8),
+                DelimitedReader.delimiterFor(input.getFileName().toString()))) {
+
+            reader.skip(resumeFrom);
+            long lastRowNumber = resumeFrom;
+            List<ImportRecord> records = new ArrayList<>(chunkSize);
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+                lastRowNumber = record.getRowNumber();
+                if (records.size() == chunkSize) {
+                    out.put(new Chunk<>(records, lastRowNumber, false, null));
+                    records = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!records.isEmpty()) {
+                out.put(new Chunk<>(records, lastRowNumber, false, null));
+            }
+            out.put(new Chunk<>(List.of(), lastRowNumber, true, null));
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            signalFailure(out, e);
+        }
+    }
+
+    /**
+     * Transformer stage: resolve foreign keys and validate each record
+     */
+    private void transform(BlockingQueue<Chunk<T>> in, BlockingQueue<Chunk<T>> out) {
+        try {
+            while (true) {
+                Chunk<T> chunk = in.take();
+                if (chunk.last || chunk.error != null) {
+                    out.put(chunk);
+                    return;
+                }
+
+                transformer.prepare(chunk.records);
+                for (ImportRecord record : chunk.records) {
+                    try {
+                        chunk.rows.add(transformer.transform(record));
+                        chunk.rowNumbers.add(record.getRowNumber());
+                    } catch (ImportException e) {
+                        chunk.rejects.add(record.getRowNumber() + "\t" + e.getMessage());
+                    }
+                }
+                out.put(chunk);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (SQLException | RuntimeException e) {
+            signalFailure(out, e);
+        }
+    }
+
+    private void signalFailure(BlockingQueue<Chunk<T>> out, Throwable error) {
+        try {
+            out.put(new Chunk<>(List.of(), 0, true, error));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writer stage: insert the chunk through the DAO and record rejected rows
+     */
+    private void write(Chunk<T> chunk, ImportReport report, BufferedWriter rejects) throws IOException {
+        int imported = 0;
+        if (!chunk.rows.isEmpty()) {
+            BatchResult result = writer.write(chunk.rows);
+            for (int i = 0; i < result.size(); i++) {
+                if (result.isSuccess(i)) {
+                    imported++;
+                } else {
+                    chunk.rejects.add(chunk.rowNumbers.get(i) + "\t" + result.getError(i));
+                }
+            }
+        }
+
+        for (String reject : chunk.rejects) {
+            rejects.write(reject);
+            rejects.newLine();
+        }
+        rejects.flush();
+        report.recordChunk(chunk.records.size(), imported, chunk.rejects.size());
+    }
+}
@@ -0,0 +1,57 @@
+package main.java.com.recruitment.importer;
+
+import java.util.Map;
+
+/**
+ * One data row of an import file
+ */
+public class ImportRecord {
+    private final long rowNumber;
+    private final Map<String, Integer> header;
+    private final String[] fields;
+
+    public ImportRecord(long rowNumber, Map<String, Integer> header, String[] fields) {
+        this.rowNumber = rowNumber;
+        this.header = header;
+        this.fields = fields;
+    }
+
+    /**
+     * 1-based data row number (the header is not counted)
+     */
+    public long getRowNumber() { return rowNumber; }
+
+    /**
+     * Get a column value
+     * @return trimmed value, or null if the column is missing or blank
+     */
+    public String get(String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= fields.length) {
+            return null;
+        }
+        String value = fields[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Get a numeric ID column
+     * @return the ID, or -1 if the column is missing or blank
+     * @throws ImportException if the value is not a positive number
+     */
+    public long getId(String column) throws ImportException {
+        String value = get(column);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            long id = Long.parseLong(value);
+            if (id <= 0) {
+                throw new ImportException(column + " must be positive: " + value);
+            }
+            return id;
+        } catch (NumberFormatException e) {
+            throw new ImportException(column + " is not a number: " + value);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package main.java.com.recruitment.importer;
+
+/**
+ * Row counts and throughput of an import run
+ */
+public class ImportReport {
+    private final String name;
+    private long rowsSkipped;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private long chunks;
+    private final long startNanos = System.nanoTime();
+    private long endNanos;
+
+    public ImportReport(String name) {
+        this.name = name;
+    }
+
+    void recordSkipped(long rows) { rowsSkipped += rows; }
+
+    void recordChunk(int read, int imported, int rejected) {
+        rowsRead += read;
+        rowsImported += imported;
+        rowsRejected += rejected;
+        chunks++;
+    }
+
+    void finish() { endNanos = System.nanoTime(); }
+
+    // Getters
+    public String getName() { return name; }
+    public long getRowsSkipped() { return rowsSkipped; }
+    public long getRowsRead() { return rowsRead; }
+    public long getRowsImported() { return rowsImported; }
+    public long getRowsRejected() { return rowsRejected; }
+    public long getChunks() { return chunks; }
+
+    public double getElapsedSeconds() {
+        long end = endNanos > 0 ? endNanos : System.nanoTime();
+        return (end - startNanos) / 1_000_000_000.0;
+    }
+
+    /**
+     * Rows read (imported or rejected) per second in this run
+     */
+    public double getRowsPerSecond() {
+        double seconds = getElapsedSeconds();
+        return seconds > 0 ? rowsRead / seconds : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportReport{" +
+                "name='" + name + '\'' +
+                ", rowsSkipped=" + rowsSkipped +
+                ", rowsRead=" + rowsRead +
+                ", rowsImported=" + rowsImported +
+                ", rowsRejected=" + rowsRejected +
+                ", chunks=" + chunks +
+                ", elapsed=" + String.format("%.2f", getElapsedSeconds()) + "s" +
+                ", rowsPerSecond=" + String.format("%.1f", getRowsPerSecond()) +
+                '}';
+    }
+}
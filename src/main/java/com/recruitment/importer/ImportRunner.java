@@ -0,0 +1,72 @@
+package main.java.com.recruitment.importer;
+
+import main.java.com.recruitment.dao.ApplicationDAO;
+import main.java.com.recruitment.dao.CandidateDAO;
+import main.java.com.recruitment.model.Application;
+import main.java.com.recruitment.model.Candidate;
+import main.java.com.recruitment.util.BatchInserter;
+import main.java.com.recruitment.util.DatabaseConnection;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Command line entry point for candidate and application imports.
+ *
+ * Usage: ImportRunner (candidates|applications) &lt;file.csv|file.tsv&gt; [--restart]
+ *
+ * Candidate files need an email or user_id column and may have resume_url.
+ * Application files need job_id and candidate_id or candidate_email, and may have status.
+ */
+public class ImportRunner {
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: ImportRunner (candidates|applications) <file> [--restart]");
+            return;
+        }
+
+        Path input = Paths.get(args[1]);
+        if (!Files.isReadable(input)) {
+            System.out.println("Cannot read input file: " + input);
+            return;
+        }
+        boolean restart = args.length > 2 && args[2].equals("--restart");
+
+        int chunkSize = DatabaseConnection.getIntProperty("import.chunkSize", BatchInserter.defaultChunkSize());
+        int queueCapacity = DatabaseConnection.getIntProperty("import.queueCapacity", 4);
+        ForeignKeyResolver resolver = new ForeignKeyResolver(
+                DatabaseConnection.getIntProperty("import.lookupCacheSize", 100_000));
+
+        try {
+            ImportReport report = switch (args[0]) {
+                case "candidates" -> {
+                    CandidateDAO candidateDAO = new CandidateDAO();
+                    yield new ImportPipeline<Candidate>("candidates", new CandidateImport(resolver),
+                            rows -> candidateDAO.createCandidates(rows, chunkSize), chunkSize, queueCapacity)
+                            .run(input, restart);
+                }
+                case "applications" -> {
+                    ApplicationDAO applicationDAO = new ApplicationDAO();
+                    yield new ImportPipeline<Application>("applications", new ApplicationImport(resolver),
+                            rows -> applicationDAO.createApplications(rows, chunkSize), chunkSize, queueCapacity)
+                            .run(input, restart);
+                }
+                default -> null;
+            };
+
+            if (report == null) {
+                System.out.println("Unknown import type: " + args[0]);
+                return;
+            }
+            System.out.println(report);
+            if (report.getRowsRejected() > 0) {
+                System.out.println("Rejected rows written to " + input + ".rejects");
+            }
+        } catch (IOException e) {
+            System.out.println("Import failed: " + e.getMessage() + ". Re-run to resume from the last checkpoint.");
+        } finally {
+            DatabaseConnection.shutdown();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package main.java.com.recruitment.importer;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Validates import records and turns them into model objects
+ */
+public interface RowTransformer<T> {
+    /**
+     * Resolve the foreign keys referenced by a whole chunk before its rows are transformed
+     */
+    void prepare(List<ImportRecord> chunk) throws SQLException;
+
+    /**
+     * Validate one record and build the object to insert
+     * @throws ImportException if the row is invalid; the row is rejected and the import continues
+     */
+    T transform(ImportRecord record) throws ImportException, SQLException;
+}
@@ -0,0 +1,317 @@
+package main.java.com.recruitment.logging;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Asynchronous, sampled logger for high-frequency informational events.
+ *
+ * Callers pass a message template with {} placeholders and its arguments; the template
+ * and argument references are copied into a preallocated slot of a lock-free ring buffer
+ * and a single background thread formats them and publishes them to java.util.logging
+ * under the original logger name and timestamp. Nothing is formatted or locked on the
+ * calling thread, and a full buffer drops the event instead of blocking.
+ *
+ * Each category can be sampled (eventlog.&lt;category&gt;.sampleRate, 0..1) and rate limited
+ * (eventlog.&lt;category&gt;.maxPerSecond); suppressed and dropped events are counted and
+ * summarised periodically. Errors should keep using the JUL logger directly so they are
+ * written synchronously.
+ */
+public final class EventLogger {
+    private static final Logger logger = Logger.getLogger(EventLogger.class.getName());
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SUMMARY_INTERVAL_MS = 60_000;
+
+    private static final Map<String, EventLogger> categories = new ConcurrentHashMap<>();
+    private static volatile Properties config = new Properties();
+    private static volatile int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    private static final Object startLock = new Object();
+    private static volatile EventRingBuffer buffer;
+    private static volatile Thread drainer;
+    private static volatile boolean running;
+
+    private final String category;
+    private final Logger target;
+    private volatile double sampleRate = 1.0;
+    private volatile int maxPerSecond;
+
+    private final AtomicLong windowStart = new AtomicLong();
+    private final AtomicLong windowCount = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong sampledOut = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private EventLogger(String category, Logger target) {
+        this.category = category;
+        this.target = target;
+        applyConfig(config);
+    }
+
+    /**
+     * Get the event logger for a category, publishing to the JUL logger with the given name
+     */
+    public static EventLogger get(String category, String loggerName) {
+        return categories.computeIfAbsent(category, c -> new EventLogger(c, Logger.getLogger(loggerName)));
+    }
+
+    /**
+     * Apply eventlog.* settings to all existing and future categories.
+     * The buffer size only takes effect if no event has been logged yet.
+     */
+    public static void configure(Properties properties) {
+        config = properties;
+        String size = properties.getProperty("eventlog.bufferSize");
+        if (size != null) {
+            try {
+                bufferSize = Math.max(2, Integer.parseInt(size.trim()));
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid eventlog.bufferSize: " + size);
+            }
+        }
+        for (EventLogger eventLogger : categories.values()) {
+            eventLogger.applyConfig(properties);
+        }
+    }
+
+    private void applyConfig(Properties properties) {
+        String prefix = "eventlog." + category + ".";
+        String rate = properties.getProperty(prefix + "sampleRate");
+        String max = properties.getProperty(prefix + "maxPerSecond");
+        try {
+            sampleRate = rate == null ? 1.0 : Math.max(0.0, Math.min(1.0, Double.parseDouble(rate.trim())));
+            maxPerSecond = max == null ? 0 : Integer.parseInt(max.trim());
+        } catch (NumberFormatException e) {
+            logger.warning("Invalid event log settings for category " + category);
+        }
+    }
+
+    public void info(String template) {
+        log(Level.INFO, template, 0, null, null, null, null);
+    }
+
+    public void info(String template, Object arg0) {
+        log(Level.INFO, template, 1, arg0, null, null, null);
+    }
+
+    public void info(String template, Object arg0, Object arg1) {
+        log(Level.INFO, template, 2, arg0, arg1, null, null);
+    }
+
+    public void info(String template, Object arg0, Object arg1, Object arg2) {
+        log(Level.INFO, template, 3, arg0, arg1, arg2, null);
+    }
+
+    /**
+     * For more than three arguments; the overloads above avoid allocating a varargs array
+     */
+    public void info(String template, Object... args) {
+        log(Level.INFO, template, args.length, null, null, null, args);
+    }
+
+    public void fine(String template, Object arg0) {
+        log(Level.FINE, template, 1, arg0, null, null, null);
+    }
+
+    public void fine(String template, Object arg0, Object arg1) {
+        log(Level.FINE, template, 2, arg0, arg1, null, null);
+    }
+
+    private void log(Level level, String template, int argCount,
+                     Object arg0, Object arg1, Object arg2, Object[] args) {
+        if (!target.isLoggable(level) || !admit()) {
+            return;
+        }
+        EventRingBuffer ring = buffer();
+        long position = ring.claim();
+        if (position < 0) {
+            dropped.incrementAndGet();
+            return;
+        }
+        EventRingBuffer.Slot slot = ring.slot(position);
+        slot.level = level;
+        slot.loggerName = target.getName();
+        slot.template = template;
+        slot.argCount = argCount;
+        slot.arg0 = arg0;
+        slot.arg1 = arg1;
+        slot.arg2 = arg2;
+        slot.args = args;
+        slot.timestampMillis = System.currentTimeMillis();
+        ring.publish(position);
+        published.incrementAndGet();
+    }
+
+    /**
+     * Apply sampling, then the per-second rate limit
+     */
+    private boolean admit() {
+        double rate = sampleRate;
+        if (rate < 1.0 && (rate <= 0.0 || ThreadLocalRandom.current().nextDouble() >= rate)) {
+            sampledOut.incrementAndGet();
+            return false;
+        }
+        int limit = maxPerSecond;
+        if (limit <= 0) {
+            return true;
+        }
+        long second = System.currentTimeMillis() / 1000;
+        long start = windowStart.get();
+        if (start != second && windowStart.compareAndSet(start, second)) {
+            windowCount.set(0);
+        }
+        if (windowCount.incrementAndGet() > limit) {
+            rateLimited.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public String getCategory() { return category; }
+    public long getPublished() { return published.get(); }
+    public long getSampledOut() { return sampledOut.get(); }
+    public long getRateLimited() { return rateLimited.get(); }
+    public long getDropped() { return dropped.get(); }
+
+    /**
+     * Counters for all categories, one line per category
+     */
+    public static String summary() {
+        StringBuilder out = new StringBuilder();
+        categories.values().stream()
+                .sorted((a, b) -> a.category.compareTo(b.category))
+                .forEach(e -> out.append(String.format("%-24s published=%d sampledOut=%d rateLimited=%d dropped=%d%n",
+                        e.category, e.getPublished(), e.getSampledOut(), e.getRateLimited(), e.getDropped())));
+        return out.toString();
+    }
+
+    /**
+     * Publish everything currently buffered; called from shutdown so no events are lost
+     */
+    public static void flush() {
+        EventRingBuffer current = buffer;
+        if (current == null) {
+            return;
+        }
+        synchronized (startLock) {
+            running = false;
+            Thread thread = drainer;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+                try {
+                    thread.join(TimeUnit.SECONDS.toMillis(5));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                drainer = null;
+            }
+            current.drain(EventLogger::publish);
+        }
+    }
+
+    private static EventRingBuffer buffer() {
+        EventRingBuffer current = buffer;
+        if (current != null && running) {
+            return current;
+        }
+        synchronized (startLock) {
+            if (buffer == null) {
+                buffer = new EventRingBuffer(bufferSize);
+            }
+            if (!running) {
+                running = true;
+                Thread thread = new Thread(EventLogger::drainLoop, "event-logger");
+                thread.setDaemon(true);
+                drainer = thread;
+                thread.start();
+            }
+            return buffer;
+        }
+    }
+
+    private static void drainLoop() {
+        EventRingBuffer ring = buffer;
+        long nextSummary = System.currentTimeMillis() + SUMMARY_INTERVAL_MS;
+        Map<String, long[]> reported = new HashMap<>();
+        while (running) {
+            try {
+                if (ring.drain(EventLogger::publish) == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                if (System.currentTimeMillis() >= nextSummary) {
+                    logSuppressed(reported);
+                    nextSummary = System.currentTimeMillis() + SUMMARY_INTERVAL_MS;
+                }
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Event logger failed to publish an event", e);
+            }
+        }
+        ring.drain(EventLogger::publish);
+    }
+
+    /**
+     * Log how many events each category suppressed since the last summary
+     */
+    private static void logSuppressed(Map<String, long[]> reported) {
+        for (EventLogger e : categories.values()) {
+            long[] last = reported.computeIfAbsent(e.category, c -> new long[3]);
+            long sampled = e.getSampledOut() - last[0];
+            long limited = e.getRateLimited() - last[1];
+            long lost = e.getDropped() - last[2];
+            if (limited > 0 || lost > 0) {
+                logger.info("Event category " + e.category + " suppressed " + limited
+                        + " rate-limited and dropped " + lost + " events (" + sampled + " sampled out)");
+            }
+            last[0] += sampled;
+            last[1] += limited;
+            last[2] += lost;
+        }
+    }
+
+    private static void publish(EventRingBuffer.Slot slot) {
+        LogRecord record = new LogRecord(slot.level, format(slot));
+        record.setLoggerName(slot.loggerName);
+        record.setInstant(Instant.ofEpochMilli(slot.timestampMillis));
+        record.setSourceClassName(slot.loggerName);
+        Logger.getLogger(slot.loggerName).log(record);
+    }
+
+    /**
+     * Replace each {} in the template with the next argument
+     */
+    static String format(EventRingBuffer.Slot slot) {
+        String template = slot.template;
+        if (slot.argCount == 0) {
+            return template;
+        }
+        StringBuilder out = new StringBuilder(template.length() + 16 * slot.argCount);
+        int from = 0;
+        int argIndex = 0;
+        int marker;
+        while (argIndex < slot.argCount && (marker = template.indexOf("{}", from)) >= 0) {
+            out.append(template, from, marker).append(argument(slot, argIndex++));
+            from = marker + 2;
+        }
+        return out.append(template, from, template.length()).toString();
+    }
+
+    private static Object argument(EventRingBuffer.Slot slot, int index) {
+        if (slot.args != null) {
+            return slot.args[index];
+        }
+        return index == 0 ? slot.arg0 : index == 1 ? slot.arg1 : slot.arg2;
+    }
+}
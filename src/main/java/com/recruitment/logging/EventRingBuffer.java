@@ -0,0 +1,124 @@
+package main.java.com.recruitment.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Level;
+
+/**
+ * Bounded lock-free multi-producer, single-consumer ring of preallocated event slots.
+ *
+ * Producers claim a position by CAS on the tail sequence, fill its slot in place and publish
+ * it by advancing the slot's sequence number; the single consumer reads slots in order and hands
+ * them back by advancing the sequence by one lap. A full buffer never blocks: the event is
+ * dropped and the caller told so.
+ */
+class EventRingBuffer {
+
+    /**
+     * Reusable event storage; only touched by the producer that claimed it and then the consumer
+     */
+    static class Slot {
+        Level level;
+        String loggerName;
+        String template;
+        Object arg0;
+        Object arg1;
+        Object arg2;
+        Object[] args;
+        int argCount;
+        long timestampMillis;
+
+        void clear() {
+            template = null;
+            arg0 = arg1 = arg2 = null;
+            args = null;
+        }
+    }
+
+    /**
+     * Processes a published slot
+     */
+    interface Reader {
+        void read(Slot slot);
+    }
+
+    private final Slot[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    EventRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new Slot[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Claim the next position; the caller fills {@link #slot} and then calls {@link #publish}
+     * @return the claimed position, or -1 if the buffer is full
+     */
+    long claim() {
+        while (true) {
+            long position = tail.get();
+            long sequence = sequences.get((int) position & mask);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            } else if (sequence < position) {
+                return -1;
+            }
+            // Another producer claimed this position; retry with the new tail
+        }
+    }
+
+    /**
+     * Slot of a claimed position
+     */
+    Slot slot(long position) {
+        return slots[(int) position & mask];
+    }
+
+    /**
+     * Hand a claimed and filled position to the consumer
+     */
+    void publish(long position) {
+        sequences.set((int) position & mask, position + 1);
+    }
+
+    /**
+     * Consume all published events; only called from the single consumer thread
+     * @return number of events consumed
+     */
+    int drain(Reader reader) {
+        int consumed = 0;
+        while (true) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                return consumed;
+            }
+            Slot slot = slots[index];
+            try {
+                reader.read(slot);
+            } finally {
+                slot.clear();
+                sequences.set(index, head + slots.length);
+                head++;
+            }
+            consumed++;
+        }
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
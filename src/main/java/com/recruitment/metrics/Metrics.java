@@ -0,0 +1,110 @@
+package main.java.com.recruitment.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Process-wide registry of {@link Timer}s, optionally exposed as JMX MXBeans under
+ * the com.recruitment domain
+ */
+public final class Metrics {
+    private static final Logger logger = Logger.getLogger(Metrics.class.getName());
+    private static final String DOMAIN = "com.recruitment";
+    private static final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private static volatile boolean jmxEnabled;
+
+    private Metrics() {}
+
+    /**
+     * Get or create the timer with the given name
+     */
+    public static Timer timer(String name) {
+        Timer timer = timers.get(name);
+        if (timer != null) {
+            return timer;
+        }
+        return timers.computeIfAbsent(name, key -> {
+            Timer created = new Timer(key);
+            if (jmxEnabled) {
+                registerTimer(created);
+            }
+            return created;
+        });
+    }
+
+    /**
+     * Start timing one invocation of the named operation
+     */
+    public static Timer.Sample start(String name) {
+        return timer(name).start();
+    }
+
+    public static List<Timer> getTimers() {
+        return new ArrayList<>(timers.values());
+    }
+
+    /**
+     * Register all current and future timers with the platform MBean server
+     */
+    public static synchronized void enableJmx() {
+        if (jmxEnabled) {
+            return;
+        }
+        jmxEnabled = true;
+        for (Timer timer : timers.values()) {
+            registerTimer(timer);
+        }
+    }
+
+    /**
+     * Register an MXBean as com.recruitment:type=&lt;type&gt;,name=&lt;name&gt;
+     */
+    public static <T> void registerMBean(String type, String name, T mbean, Class<T> mbeanInterface) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(new StandardMBean(mbean, mbeanInterface, true), objectName);
+            }
+        } catch (JMException e) {
+            logger.log(Level.WARNING, "Failed to register MBean " + type + "/" + name, e);
+        }
+    }
+
+    private static void registerTimer(Timer timer) {
+        registerMBean("Timer", timer.getName(), new TimerView(timer), TimerMXBean.class);
+    }
+
+    /**
+     * MXBean adapter; each attribute read takes a fresh snapshot
+     */
+    private static class TimerView implements TimerMXBean {
+        private final Timer timer;
+
+        TimerView(Timer timer) {
+            this.timer = timer;
+        }
+
+        private LatencyHistogram.Snapshot snapshot() {
+            return timer.getHistogram().snapshot();
+        }
+
+        @Override public long getCount() { return snapshot().getCount(); }
+        @Override public long getErrors() { return timer.getErrors(); }
+        @Override public long getRows() { return timer.getRows(); }
+        @Override public double getMeanMicros() { return snapshot().getMean() / 1_000; }
+        @Override public double getP50Micros() { return snapshot().getValueAtQuantile(0.5) / 1_000.0; }
+        @Override public double getP99Micros() { return snapshot().getValueAtQuantile(0.99) / 1_000.0; }
+        @Override public double getP999Micros() { return snapshot().getValueAtQuantile(0.999) / 1_000.0; }
+        @Override public double getMaxMicros() { return snapshot().getMax() / 1_000.0; }
+    }
+}
@@ -0,0 +1,82 @@
+package main.java.com.recruitment.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Periodic text dump of all timers, sorted by total time spent so the operations that
+ * dominate latency come first
+ */
+public final class MetricsReporter {
+    private static final Logger logger = Logger.getLogger(MetricsReporter.class.getName());
+    private static ScheduledExecutorService scheduler;
+
+    private MetricsReporter() {}
+
+    /**
+     * Log a report every intervalSeconds; 0 or less disables the periodic dump
+     */
+    public static synchronized void start(long intervalSeconds) {
+        if (scheduler != null || intervalSeconds <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> logger.info(report()), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public static synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Format all timers that have recorded at least one invocation
+     */
+    public static String report() {
+        List<Row> rows = new ArrayList<>();
+        for (Timer timer : Metrics.getTimers()) {
+            LatencyHistogram.Snapshot snapshot = timer.getHistogram().snapshot();
+            if (snapshot.getCount() > 0) {
+                rows.add(new Row(timer, snapshot));
+            }
+        }
+        rows.sort(Comparator.comparingLong((Row row) -> row.snapshot.getSum()).reversed());
+
+        StringBuilder report = new StringBuilder("Metrics (latency in ms)\n");
+        report.append(String.format("%-48s %10s %8s %10s %10s %9s %9s %9s %9s%n",
+                "name", "count", "errors", "rows", "total", "p50", "p99", "p999", "max"));
+        for (Row row : rows) {
+            LatencyHistogram.Snapshot s = row.snapshot;
+            report.append(String.format("%-48s %10d %8d %10d %10.1f %9.3f %9.3f %9.3f %9.3f%n",
+                    row.timer.getName(), s.getCount(), row.timer.getErrors(), row.timer.getRows(),
+                    millis(s.getSum()), millis(s.getValueAtQuantile(0.5)), millis(s.getValueAtQuantile(0.99)),
+                    millis(s.getValueAtQuantile(0.999)), millis(s.getMax())));
+        }
+        return report.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class Row {
+        final Timer timer;
+        final LatencyHistogram.Snapshot snapshot;
+
+        Row(Timer timer, LatencyHistogram.Snapshot snapshot) {
+            this.timer = timer;
+            this.snapshot = snapshot;
+        }
+    }
+}
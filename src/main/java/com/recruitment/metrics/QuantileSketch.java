@@ -0,0 +1,147 @@
+package main.java.com.recruitment.metrics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Compact, mergeable log-linear quantile sketch of non-negative long values.
+ *
+ * Same layout idea as {@link LatencyHistogram} at lower resolution: values below 32 are
+ * counted exactly, larger values fall into 16 linear sub-buckets per power of two, so a
+ * reported quantile is within about 3% of the true value. The bucket array only grows up
+ * to the largest value recorded (at most 592 buckets, for values clamped at 2^40), which
+ * keeps a sketch small enough to hold one per report group. Not thread-safe.
+ */
+public class QuantileSketch {
+    private static final int LINEAR_LIMIT = 32;
+    private static final int SUB_BUCKETS = 16;
+    private static final int MAX_EXPONENT = 40;
+    static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+
+    private long[] counts = new long[0];
+    private long count;
+    private long sum;
+    private long max;
+
+    public void record(long value) {
+        long clamped = Math.min(Math.max(value, 0), MAX_VALUE);
+        int index = indexOf(clamped);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, index + 1);
+        }
+        counts[index]++;
+        count++;
+        sum += clamped;
+        max = Math.max(max, clamped);
+    }
+
+    /**
+     * Add all values recorded by another sketch to this one
+     */
+    public void merge(QuantileSketch other) {
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() { return count; }
+    public long getMax() { return max; }
+
+    public double getMean() {
+        return count > 0 ? (double) sum / count : 0;
+    }
+
+    /**
+     * @param quantile between 0 and 1, e.g. 0.9
+     * @return value at the quantile, or 0 if nothing was recorded
+     */
+    public long getValueAtQuantile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(valueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Write the sketch as its totals followed by the non-empty buckets
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(count);
+        out.writeLong(sum);
+        out.writeLong(max);
+        int used = 0;
+        for (long n : counts) {
+            if (n != 0) {
+                used++;
+            }
+        }
+        out.writeInt(used);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                out.writeShort(i);
+                out.writeLong(counts[i]);
+            }
+        }
+    }
+
+    /**
+     * Read a sketch written by {@link #writeTo}
+     */
+    public static QuantileSketch readFrom(DataInput in) throws IOException {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.count = in.readLong();
+        sketch.sum = in.readLong();
+        sketch.max = in.readLong();
+        int used = in.readInt();
+        for (int i = 0; i < used; i++) {
+            int index = in.readShort();
+            if (index < 0 || index > indexOf(MAX_VALUE)) {
+                throw new IOException("Corrupt sketch bucket index: " + index);
+            }
+            if (index >= sketch.counts.length) {
+                sketch.counts = Arrays.copyOf(sketch.counts, index + 1);
+            }
+            sketch.counts[index] = in.readLong();
+        }
+        return sketch;
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - 4;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - 5) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Midpoint of the values that map to a bucket
+     */
+    static long valueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + 5;
+        int shift = exponent - 4;
+        long lower = (long) (SUB_BUCKETS + (index - LINEAR_LIMIT) % SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) - 1) / 2;
+    }
+}
@@ -0,0 +1,85 @@
+package main.java.com.recruitment.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram plus error and row counters for one operation, e.g. a DAO method.
+ *
+ * <pre>
+ * Timer.Sample sample = Metrics.start("JobDAO.getAllJobs");
+ * try (...) {
+ *     ...
+ * } catch (SQLException e) {
+ *     sample.failed();
+ * } finally {
+ *     sample.stop();
+ * }
+ * </pre>
+ */
+public class Timer {
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+
+    Timer(String name) {
+        this.name = name;
+    }
+
+    public Sample start() {
+        return new Sample(this, System.nanoTime());
+    }
+
+    public void record(long nanos, boolean failed) {
+        histogram.record(nanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    public void recordRows(long count) {
+        rows.add(count);
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public LatencyHistogram getHistogram() { return histogram; }
+    public long getErrors() { return errors.sum(); }
+    public long getRows() { return rows.sum(); }
+
+    /**
+     * One timed invocation
+     */
+    public static class Sample {
+        private final Timer timer;
+        private final long startNanos;
+        private boolean failed;
+        private boolean stopped;
+
+        Sample(Timer timer, long startNanos) {
+            this.timer = timer;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Count this invocation as an error when it stops
+         */
+        public void failed() {
+            failed = true;
+        }
+
+        /**
+         * Add to the rows-returned counter
+         */
+        public void rows(long count) {
+            timer.recordRows(count);
+        }
+
+        public void stop() {
+            if (!stopped) {
+                stopped = true;
+                timer.record(System.nanoTime() - startNanos, failed);
+            }
+        }
+    }
+}
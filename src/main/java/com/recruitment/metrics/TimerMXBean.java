@@ -0,0 +1,15 @@
+package main.java.com.recruitment.metrics;
+
+/**
+ * JMX view of a {@link Timer}; latencies are in microseconds
+ */
+public interface TimerMXBean {
+    long getCount();
+    long getErrors();
+    long getRows();
+    double getMeanMicros();
+    double getP50Micros();
+    double getP99Micros();
+    double getP999Micros();
+    double getMaxMicros();
+}
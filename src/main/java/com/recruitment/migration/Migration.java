@@ -0,0 +1,71 @@
+package main.java.com.recruitment.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One versioned schema script, named V&lt;version&gt;__&lt;description&gt;.sql
+ */
+public class Migration implements Comparable<Migration> {
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private final int version;
+    private final String description;
+    private final String script;
+    private final String sql;
+    private final String checksum;
+
+    public Migration(int version, String description, String script, String sql) {
+        this.version = version;
+        this.description = description;
+        this.script = script;
+        this.sql = sql;
+        this.checksum = checksum(sql);
+    }
+
+    /**
+     * @return migration for a V&lt;n&gt;__name.sql file, or null if the name does not match
+     */
+    static Migration fromFile(String fileName, String sql) {
+        Matcher matcher = FILE_NAME.matcher(fileName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '),
+                fileName, sql);
+    }
+
+    /**
+     * SHA-256 of the script with line endings normalized, so a checkout on another OS
+     * does not look like an edited migration
+     */
+    static String checksum(String sql) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(sql.replace("\r\n", "\n").strip().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public int getVersion() { return version; }
+    public String getDescription() { return description; }
+    public String getScript() { return script; }
+    public String getSql() { return sql; }
+    public String getChecksum() { return checksum; }
+
+    @Override
+    public int compareTo(Migration other) {
+        return Integer.compare(version, other.version);
+    }
+
+    @Override
+    public String toString() {
+        return "V" + version + " " + description + " (" + script + ")";
+    }
+}
@@ -0,0 +1,16 @@
+package main.java.com.recruitment.migration;
+
+/**
+ * A migration failed, or an applied migration no longer matches its script
+ */
+public class MigrationException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    public MigrationException(String message) {
+        super(message);
+    }
+
+    public MigrationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
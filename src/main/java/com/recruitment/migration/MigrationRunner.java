@@ -0,0 +1,377 @@
+package main.java.com.recruitment.migration;
+
+import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.util.SqlScript;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Applies versioned schema migrations and records them in the schema_version table.
+ *
+ * Version 1 is schema.sql, the original baseline. Later versions are the
+ * db/migration/V&lt;n&gt;__&lt;description&gt;.sql scripts, applied in version order, each once.
+ * The checksum of every applied script is stored and verified on each run, so an edited
+ * migration is reported instead of silently diverging; add a new version instead.
+ *
+ * A database created from schema.sql before migrations existed is baselined: version 1 is
+ * recorded without running it. MySQL DDL is not transactional, so a migration that fails
+ * halfway is not recorded and must be repaired by hand before running again. Concurrent
+ * runners are serialized with a named lock.
+ *
+ * Usage: MigrationRunner [migrate|info|validate]
+ */
+public class MigrationRunner {
+    private static final Logger logger = Logger.getLogger(MigrationRunner.class.getName());
+
+    public static final String BASELINE_SCRIPT = "schema.sql";
+    public static final String MIGRATION_DIR = "db/migration";
+    private static final String LOCK_NAME = "recruitment_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    private static final String CREATE_VERSION_TABLE = """
+        CREATE TABLE IF NOT EXISTS schema_version (
+            version INT PRIMARY KEY,
+            description VARCHAR(200) NOT NULL,
+            script VARCHAR(255) NOT NULL,
+            checksum CHAR(64) NOT NULL,
+            applied_at DATETIME NOT NULL,
+            execution_ms BIGINT NOT NULL
+        )
+        """;
+
+    private final List<Migration> migrations;
+
+    public MigrationRunner() throws IOException, MigrationException {
+        this(discover());
+    }
+
+    public MigrationRunner(List<Migration> migrations) {
+        List<Migration> sorted = new ArrayList<>(migrations);
+        Collections.sort(sorted);
+        this.migrations = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Load schema.sql as version 1 and every V&lt;n&gt;__*.sql script in db/migration
+     */
+    public static List<Migration> discover() throws IOException, MigrationException {
+        Map<Integer, Migration> byVersion = new TreeMap<>();
+        byVersion.put(1, new Migration(1, "baseline", BASELINE_SCRIPT, SqlScript.load(BASELINE_SCRIPT)));
+
+        for (String fileName : listScripts()) {
+            Migration migration = Migration.fromFile(fileName, SqlScript.load(MIGRATION_DIR + "/" + fileName));
+            if (migration == null) {
+                logger.warning("Ignoring " + fileName + ": not named V<version>__<description>.sql");
+                continue;
+            }
+            Migration previous = byVersion.putIfAbsent(migration.getVersion(), migration);
+            if (previous != null) {
+                throw new MigrationException("Duplicate migration version " + migration.getVersion()
+                        + ": " + previous.getScript() + " and " + fileName);
+            }
+        }
+        return new ArrayList<>(byVersion.values());
+    }
+
+    /**
+     * File names in db/migration, from src/main/resources when running from the source tree,
+     * otherwise from the classpath (directory or jar)
+     */
+    private static List<String> listScripts() throws IOException {
+        Path sourceDir = Paths.get("src/main/resources", MIGRATION_DIR);
+        if (Files.isDirectory(sourceDir)) {
+            return listFileNames(sourceDir);
+        }
+        URL url = MigrationRunner.class.getClassLoader().getResource("main/resources/" + MIGRATION_DIR);
+        if (url == null) {
+            return List.of();
+        }
+        try {
+            URI uri = url.toURI();
+            if (!"jar".equals(uri.getScheme())) {
+                return listFileNames(Paths.get(uri));
+            }
+            FileSystem jar;
+            try {
+                jar = FileSystems.getFileSystem(uri);
+            } catch (FileSystemNotFoundException e) {
+                jar = FileSystems.newFileSystem(uri, Map.of());
+            }
+            return listFileNames(jar.getPath("/main/resources/" + MIGRATION_DIR));
+        } catch (URISyntaxException e) {
+            throw new IOException("Cannot list migrations at " + url, e);
+        }
+    }
+
+    private static List<String> listFileNames(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(".sql"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    public List<Migration> getMigrations() {
+        return migrations;
+    }
+
+    /**
+     * Apply all pending migrations
+     * @return the migrations applied by this run
+     */
+    public List<Migration> migrate() throws SQLException, MigrationException {
+        List<Migration> applied = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            acquireLock(conn);
+            try {
+                ensureVersionTable(conn);
+                Map<Integer, String> checksums = validate(conn);
+
+                for (Migration migration : migrations) {
+                    if (checksums.containsKey(migration.getVersion())) {
+                        continue;
+                    }
+                    apply(conn, migration);
+                    applied.add(migration);
+                }
+            } finally {
+                releaseLock(conn);
+            }
+        }
+        if (applied.isEmpty()) {
+            logger.info("Schema is up to date at version " + currentVersion());
+        }
+        return applied;
+    }
+
+    /**
+     * Check that every applied migration still matches its script
+     * @throws MigrationException on a checksum mismatch or an applied version with no script
+     */
+    public void validate() throws SQLException, MigrationException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            ensureVersionTable(conn);
+            validate(conn);
+        }
+    }
+
+    private Map<Integer, String> validate(Connection conn) throws SQLException, MigrationException {
+        Map<Integer, String> checksums = appliedChecksums(conn);
+        if (checksums.isEmpty() && tableExists(conn, "Job")) {
+            baseline(conn);
+            checksums = appliedChecksums(conn);
+        }
+
+        for (Map.Entry<Integer, String> entry : checksums.entrySet()) {
+            Migration migration = find(entry.getKey());
+            if (migration == null) {
+                throw new MigrationException("Database has version " + entry.getKey()
+                        + " applied but no script for it exists");
+            }
+            if (!migration.getChecksum().equals(entry.getValue())) {
+                throw new MigrationException(migration + " was modified after it was applied (checksum "
+                        + entry.getValue() + " in schema_version, " + migration.getChecksum() + " on disk)");
+            }
+        }
+        return checksums;
+    }
+
+    /**
+     * Record the baseline for a database created from schema.sql by hand
+     */
+    private void baseline(Connection conn) throws SQLException {
+        Migration baseline = migrations.get(0);
+        record(conn, baseline, 0);
+        logger.info("Existing schema found; recorded " + baseline + " as applied without running it");
+    }
+
+    private void apply(Connection conn, Migration migration) throws MigrationException {
+        logger.info("Applying " + migration);
+        long start = System.currentTimeMillis();
+        try {
+            SqlScript.execute(conn, migration.getSql());
+            record(conn, migration, System.currentTimeMillis() - start);
+        } catch (SQLException e) {
+            logger.log(Level.SEVERE, "Migration " + migration + " failed", e);
+            throw new MigrationException(migration + " failed; earlier statements of this script are not "
+                    + "rolled back, repair the schema before running again", e);
+        } finally {
+            resetSession(conn);
+        }
+        logger.info("Applied " + migration + " in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    /**
+     * Undo session settings a script may change, such as SET FOREIGN_KEY_CHECKS = 0 left
+     * behind by a script that failed before re-enabling them, so the pooled connection does
+     * not carry them into later DAO writes; a connection that cannot be reset is closed
+     */
+    private static void resetSession(Connection conn) {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("SET FOREIGN_KEY_CHECKS = 1");
+        } catch (SQLException e) {
+            logger.log(Level.SEVERE, "Failed to re-enable foreign key checks after a migration; "
+                    + "closing the connection instead of returning it to the pool", e);
+            try {
+                conn.abort(Runnable::run);
+            } catch (SQLException abortFailure) {
+                logger.log(Level.WARNING, "Failed to close the migration connection", abortFailure);
+            }
+        }
+    }
+
+    private static void record(Connection conn, Migration migration, long executionMs) throws SQLException {
+        String sql = """
+            INSERT INTO schema_version (version, description, script, checksum, applied_at, execution_ms)
+            VALUES (?, ?, ?, ?, NOW(), ?)
+            """;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, migration.getVersion());
+            stmt.setString(2, migration.getDescription());
+            stmt.setString(3, migration.getScript());
+            stmt.setString(4, migration.getChecksum());
+            stmt.setLong(5, executionMs);
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * @return highest applied version, or 0 if none
+     */
+    public int currentVersion() throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            if (!tableExists(conn, "schema_version")) {
+                return 0;
+            }
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(version), 0) FROM schema_version")) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    /**
+     * Print each migration and whether it has been applied
+     */
+    public void printInfo() throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            Map<Integer, String> checksums = tableExists(conn, "schema_version")
+                    ? appliedChecksums(conn) : Map.of();
+            for (Migration migration : migrations) {
+                String state = !checksums.containsKey(migration.getVersion()) ? "pending"
+                        : checksums.get(migration.getVersion()).equals(migration.getChecksum()) ? "applied"
+                        : "MODIFIED";
+                System.out.printf("%-4d %-40s %s%n", migration.getVersion(), migration.getDescription(), state);
+            }
+        }
+    }
+
+    private Migration find(int version) {
+        for (Migration migration : migrations) {
+            if (migration.getVersion() == version) {
+                return migration;
+            }
+        }
+        return null;
+    }
+
+    private static void ensureVersionTable(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(CREATE_VERSION_TABLE);
+        }
+    }
+
+    private static Map<Integer, String> appliedChecksums(Connection conn) throws SQLException {
+        Map<Integer, String> checksums = new TreeMap<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM schema_version ORDER BY version")) {
+            while (rs.next()) {
+                checksums.put(rs.getInt("version"), rs.getString("checksum"));
+            }
+        }
+        return checksums;
+    }
+
+    private static boolean tableExists(Connection conn, String table) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, table);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() && rs.getLong(1) > 0;
+            }
+        }
+    }
+
+    private static void acquireLock(Connection conn) throws SQLException, MigrationException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new MigrationException("Another migration run holds the lock " + LOCK_NAME);
+                }
+            }
+        }
+    }
+
+    private static void releaseLock(Connection conn) {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.executeQuery().close();
+        } catch (SQLException e) {
+            logger.log(Level.WARNING, "Failed to release migration lock", e);
+        }
+    }
+
+    public static void main(String[] args) {
+        String command = args.length > 0 ? args[0] : "migrate";
+        try {
+            MigrationRunner runner = new MigrationRunner();
+            switch (command) {
+                case "migrate" -> {
+                    for (Migration migration : runner.migrate()) {
+                        System.out.println("Applied " + migration);
+                    }
+                    System.out.println("Schema version: " + runner.currentVersion());
+                }
+                case "info" -> runner.printInfo();
+                case "validate" -> {
+                    runner.validate();
+                    System.out.println("All applied migrations match their scripts");
+                }
+                default -> {
+                    System.err.println("Usage: MigrationRunner [migrate|info|validate]");
+                    System.exit(2);
+                }
+            }
+        } catch (IOException | SQLException | MigrationException e) {
+            logger.log(Level.SEVERE, "Migration " + command + " failed", e);
+            System.exit(1);
+        } finally {
+            DatabaseConnection.shutdown();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package main.java.com.recruitment.model;
+
+import java.time.LocalDateTime;
+
+public class ApplicationStage {
+    private long stageId;
+    private long applicationId;
+    private String stageName;
+    private LocalDateTime stageDatetime;
+    
+    // Constructors
+    public ApplicationStage() {}
+    
+    public ApplicationStage(long applicationId, String stageName, LocalDateTime stageDatetime) {
+        this.applicationId = applicationId;
+        this.stageName = stageName;
+        this.stageDatetime = stageDatetime;
+    }
+    
+    // Getters and Setters
+    public long getStageId() { return stageId; }
+    public void setStageId(long stageId) { this.stageId = stageId; }
+    
+    public long getApplicationId() { return applicationId; }
+    public void setApplicationId(long applicationId) { this.applicationId = applicationId; }
+    
+    public String getStageName() { return stageName; }
+    public void setStageName(String stageName) { this.stageName = stageName; }
+    
+    public LocalDateTime getStageDatetime() { return stageDatetime; }
+    public void setStageDatetime(LocalDateTime stageDatetime) { this.stageDatetime = stageDatetime; }
+    
+    @Override
+    public String toString() {
+        return "ApplicationStage{" +
+                "stageId=" + stageId +
+                ", applicationId=" + applicationId +
+                ", stageName='" + stageName + '\'' +
+                ", stageDatetime=" + stageDatetime +
+                '}';
+    }
+}
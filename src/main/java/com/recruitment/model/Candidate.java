@@ -31,6 +31,22 @@ public class Candidate {
         this.email = email;
     }
     
+    public Candidate(Candidate other) {
+        this.candidateId = other.candidateId;
+        this.userId = other.userId;
+        this.resumeUrl = other.resumeUrl;
+        this.createdAt = other.createdAt;
+        this.firstName = other.firstName;
+        this.lastName = other.lastName;
+        this.email = other.email;
+        this.phone = other.phone;
+        this.applicationCount = other.applicationCount;
+        this.applicationStatus = other.applicationStatus;
+        this.appliedDate = other.appliedDate;
+        this.applicationId = other.applicationId;
+        this.lastApplicationDate = other.lastApplicationDate;
+    }
+    
     // Getters and Setters
     public long getCandidateId() { return candidateId; }
     public void setCandidateId(long candidateId) { this.candidateId = candidateId; }
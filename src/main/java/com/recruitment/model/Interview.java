@@ -22,6 +22,22 @@ public class Interview {
     // Constructors
     public Interview() {}
     
+    public Interview(Interview other) {
+        this.interviewId = other.interviewId;
+        this.interviewTitle = other.interviewTitle;
+        this.interviewerId = other.interviewerId;
+        this.applicationId = other.applicationId;
+        this.interviewStage = other.interviewStage;
+        this.interviewDate = other.interviewDate;
+        this.result = other.result;
+        this.createdAt = other.createdAt;
+        this.interviewerFirstName = other.interviewerFirstName;
+        this.interviewerLastName = other.interviewerLastName;
+        this.candidateFirstName = other.candidateFirstName;
+        this.candidateLastName = other.candidateLastName;
+        this.jobTitle = other.jobTitle;
+    }
+    
     // Getters and Setters
     public long getInterviewId() { return interviewId; }
     public void setInterviewId(long interviewId) { this.interviewId = interviewId; }
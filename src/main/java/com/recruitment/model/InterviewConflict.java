@@ -0,0 +1,76 @@
+package main.java.com.recruitment.model;
+
+import java.time.LocalDateTime;
+
+public class InterviewConflict {
+    private int row;
+    private long interviewerId;
+    private LocalDateTime proposedDate;
+    private long conflictingInterviewId;
+    private int conflictingRow;
+    private LocalDateTime conflictingStart;
+    private LocalDateTime conflictingEnd;
+
+    // Constructors
+    public InterviewConflict() {}
+
+    public InterviewConflict(int row, long interviewerId, LocalDateTime proposedDate, long conflictingInterviewId,
+                             int conflictingRow, LocalDateTime conflictingStart, LocalDateTime conflictingEnd) {
+        this.row = row;
+        this.interviewerId = interviewerId;
+        this.proposedDate = proposedDate;
+        this.conflictingInterviewId = conflictingInterviewId;
+        this.conflictingRow = conflictingRow;
+        this.conflictingStart = conflictingStart;
+        this.conflictingEnd = conflictingEnd;
+    }
+
+    // Getters and Setters
+
+    /** Index of the proposed slot in the validated batch, -1 for a single check */
+    public int getRow() { return row; }
+    public void setRow(int row) { this.row = row; }
+
+    public long getInterviewerId() { return interviewerId; }
+    public void setInterviewerId(long interviewerId) { this.interviewerId = interviewerId; }
+
+    public LocalDateTime getProposedDate() { return proposedDate; }
+    public void setProposedDate(LocalDateTime proposedDate) { this.proposedDate = proposedDate; }
+
+    /** Booked interview the slot overlaps; -1 if it overlaps another row of the batch or a booking not yet committed */
+    public long getConflictingInterviewId() { return conflictingInterviewId; }
+    public void setConflictingInterviewId(long conflictingInterviewId) { this.conflictingInterviewId = conflictingInterviewId; }
+
+    /** Row of the batch starting no later than this one that the slot overlaps, -1 if none */
+    public int getConflictingRow() { return conflictingRow; }
+    public void setConflictingRow(int conflictingRow) { this.conflictingRow = conflictingRow; }
+
+    public LocalDateTime getConflictingStart() { return conflictingStart; }
+    public void setConflictingStart(LocalDateTime conflictingStart) { this.conflictingStart = conflictingStart; }
+
+    public LocalDateTime getConflictingEnd() { return conflictingEnd; }
+    public void setConflictingEnd(LocalDateTime conflictingEnd) { this.conflictingEnd = conflictingEnd; }
+
+    /**
+     * Short description for logs and batch results
+     */
+    public String describe() {
+        String other = conflictingRow >= 0 ? "row " + conflictingRow
+                : conflictingInterviewId >= 0 ? "interview " + conflictingInterviewId : "booking in progress";
+        return "Interviewer " + interviewerId + " is already booked from " + conflictingStart
+                + " to " + conflictingEnd + " (" + other + ")";
+    }
+
+    @Override
+    public String toString() {
+        return "InterviewConflict{" +
+                "row=" + row +
+                ", interviewerId=" + interviewerId +
+                ", proposedDate=" + proposedDate +
+                ", conflictingInterviewId=" + conflictingInterviewId +
+                ", conflictingRow=" + conflictingRow +
+                ", conflictingStart=" + conflictingStart +
+                ", conflictingEnd=" + conflictingEnd +
+                '}';
+    }
+}
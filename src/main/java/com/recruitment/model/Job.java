@@ -19,6 +19,19 @@ public class Job {
     // Constructors
     public Job() {}
     
+    public Job(Job other) {
+        this.jobId = other.jobId;
+        this.title = other.title;
+        this.departmentId = other.departmentId;
+        this.description = other.description;
+        this.status = other.status;
+        this.createdAt = other.createdAt;
+        this.companyId = other.companyId;
+        this.companyName = other.companyName;
+        this.departmentName = other.departmentName;
+        this.applicationCount = other.applicationCount;
+    }
+    
     // Getters and Setters
     public long getJobId() { return jobId; }
     public void setJobId(long jobId) { this.jobId = jobId; }
@@ -0,0 +1,59 @@
+package main.java.com.recruitment.model;
+
+import java.time.LocalDateTime;
+
+public class OutboxEvent {
+    // Aggregate types
+    public static final String APPLICATION = "application";
+    public static final String INTERVIEW = "interview";
+    public static final String OFFER = "offer";
+    
+    // Event types
+    public static final String APPLICATION_STATUS_CHANGED = "application.status_changed";
+    public static final String INTERVIEW_SCHEDULED = "interview.scheduled";
+    public static final String OFFER_CREATED = "offer.created";
+    public static final String OFFER_UPDATED = "offer.updated";
+    public static final String OFFER_STATUS_CHANGED = "offer.status_changed";
+    
+    private long eventId;
+    private String aggregateType;
+    private long aggregateId;
+    private String eventType;
+    private String payload;
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public OutboxEvent() {}
+    
+    // Getters and Setters
+    public long getEventId() { return eventId; }
+    public void setEventId(long eventId) { this.eventId = eventId; }
+    
+    public String getAggregateType() { return aggregateType; }
+    public void setAggregateType(String aggregateType) { this.aggregateType = aggregateType; }
+    
+    public long getAggregateId() { return aggregateId; }
+    public void setAggregateId(long aggregateId) { this.aggregateId = aggregateId; }
+    
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+    
+    /** Event fields as a JSON object */
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    @Override
+    public String toString() {
+        return "OutboxEvent{" +
+                "eventId=" + eventId +
+                ", aggregateType='" + aggregateType + '\'' +
+                ", aggregateId=" + aggregateId +
+                ", eventType='" + eventType + '\'' +
+                ", payload=" + payload +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -0,0 +1,19 @@
+package main.java.com.recruitment.outbox;
+
+import main.java.com.recruitment.model.OutboxEvent;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of the events relayed by {@link OutboxRelay}.
+ *
+ * Delivery is at least once: a batch is published again if the relay stops before it
+ * saved the consumer offset, so sinks should ignore event IDs they have already seen.
+ */
+public interface EventSink {
+
+    /**
+     * Publish a batch of events in event_id order; throwing makes the relay retry the batch
+     */
+    void publish(List<OutboxEvent> events) throws IOException;
+}
@@ -0,0 +1,114 @@
+package main.java.com.recruitment.outbox;
+
+import main.java.com.recruitment.model.OutboxEvent;
+import main.java.com.recruitment.util.Json;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Appends relayed events to a file as JSON lines, for consumers that tail or batch-load it:
+ * {"event_id":..,"aggregate_type":..,"aggregate_id":..,"event_type":..,"created_at":..,"payload":{..}}
+ *
+ * Each batch is forced to disk before the relay saves its offset. The last event ID in the
+ * file is read when the sink opens, and events up to it are skipped, so a batch that is
+ * redelivered after a crash is not written twice.
+ */
+public class FileSink implements EventSink, AutoCloseable {
+    private static final Pattern EVENT_ID = Pattern.compile("^\\{\"event_id\":(\\d+),");
+    private static final int TAIL_BYTES = 64 * 1024;
+
+    private final Path file;
+    private final FileChannel channel;
+    private long lastEventId;
+
+    public FileSink(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.READ);
+        this.lastEventId = readLastEventId();
+        channel.position(channel.size());
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        long last = lastEventId;
+        for (OutboxEvent event : events) {
+            if (event.getEventId() <= last) {
+                continue;
+            }
+            sb.append("{\"event_id\":").append(event.getEventId());
+            sb.append(",\"aggregate_type\":");
+            Json.quote(sb, event.getAggregateType());
+            sb.append(",\"aggregate_id\":").append(event.getAggregateId());
+            sb.append(",\"event_type\":");
+            Json.quote(sb, event.getEventType());
+            sb.append(",\"created_at\":");
+            Json.value(sb, event.getCreatedAt());
+            sb.append(",\"payload\":").append(event.getPayload()).append("}\n");
+            last = event.getEventId();
+        }
+        if (sb.length() == 0) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        lastEventId = last;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Event ID of the last complete line; a torn last line from a crash is cut off
+     */
+    private long readLastEventId() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return 0;
+        }
+        int length = (int) Math.min(size, TAIL_BYTES);
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        channel.read(buffer, size - length);
+        byte[] tail = buffer.array();
+        int read = buffer.position();
+
+        int end = lastNewline(tail, read);
+        if (end < 0 && size > length) {
+            throw new IOException("No complete line in the last " + length + " bytes of " + file);
+        }
+        if (end < read - 1) {
+            channel.truncate(size - read + end + 1);
+        }
+        if (end < 0) {
+            return 0;
+        }
+        int start = lastNewline(tail, end) + 1;
+        Matcher matcher = EVENT_ID.matcher(new String(tail, start, end - start, StandardCharsets.UTF_8));
+        if (!matcher.find()) {
+            throw new IOException("Last line of " + file + " is not an outbox event");
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static int lastNewline(byte[] bytes, int before) {
+        for (int i = before - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
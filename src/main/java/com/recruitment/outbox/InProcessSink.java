@@ -0,0 +1,32 @@
+package main.java.com.recruitment.outbox;
+
+import main.java.com.recruitment.model.OutboxEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Hands relayed events to listeners in the same process, e.g. a notification sender.
+ * Listeners run on the relay thread in event order; one that throws makes the relay retry
+ * the whole batch, so every listener may see an event more than once.
+ */
+public class InProcessSink implements EventSink {
+    private final List<Consumer<OutboxEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    public void subscribe(Consumer<OutboxEvent> listener) {
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(Consumer<OutboxEvent> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            for (Consumer<OutboxEvent> listener : listeners) {
+                listener.accept(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package main.java.com.recruitment.outbox;
+
+import main.java.com.recruitment.model.OutboxEvent;
+import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.metrics.Metrics;
+import main.java.com.recruitment.metrics.Timer;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Delivers outbox_event rows to an {@link EventSink} for one named consumer.
+ *
+ * Each run reads up to outbox.batchSize events after the consumer's offset in event_id
+ * order, publishes them and then saves the last delivered ID in outbox_offset, so a
+ * consumer only ever sees the changes since its previous run. Delivery is at least once.
+ *
+ * Event IDs are assigned at insert but become visible at commit, so a transaction that
+ * commits late can leave a temporary hole below events already visible. The relay stops
+ * at the first hole and waits up to outbox.gapTimeoutMs for it to fill before skipping
+ * it; holes left by rolled-back transactions therefore cost one gap timeout each. Run one
+ * relay per consumer.
+ */
+public class OutboxRelay {
+    private static final Logger logger = Logger.getLogger(OutboxRelay.class.getName());
+
+    private static final String SELECT_SQL = """
+        SELECT event_id, aggregate_type, aggregate_id, event_type, payload, created_at
+        FROM outbox_event
+        WHERE event_id > ?
+        ORDER BY event_id
+        LIMIT ?
+        """;
+    private static final String OFFSET_SQL = "SELECT last_event_id FROM outbox_offset WHERE consumer = ?";
+    private static final String SAVE_OFFSET_SQL = """
+        INSERT INTO outbox_offset (consumer, last_event_id, updated_at) VALUES (?, ?, NOW())
+        ON DUPLICATE KEY UPDATE last_event_id = ?, updated_at = NOW()
+        """;
+    private static final String PURGE_SQL = """
+        DELETE FROM outbox_event
+        WHERE event_id <= (SELECT MIN(last_event_id) FROM outbox_offset)
+          AND created_at < NOW() - INTERVAL ? HOUR
+        ORDER BY event_id
+        LIMIT ?
+        """;
+    private static final int PURGE_CHUNK = 10_000;
+
+    private final String consumer;
+    private final EventSink sink;
+    private final int batchSize;
+    private final long gapTimeoutMs;
+    private long offset = -1;
+    private long gapAt = -1;
+    private long gapSeenAt;
+    private volatile Thread poller;
+
+    /**
+     * Relay with outbox.batchSize and outbox.gapTimeoutMs from database.properties
+     */
+    public OutboxRelay(String consumer, EventSink sink) {
+        this(consumer, sink,
+             DatabaseConnection.getIntProperty("outbox.batchSize", 500),
+             DatabaseConnection.getLongProperty("outbox.gapTimeoutMs", 5000));
+    }
+
+    public OutboxRelay(String consumer, EventSink sink, int batchSize, long gapTimeoutMs) {
+        if (consumer == null || consumer.isEmpty() || consumer.length() > 64) {
+            throw new IllegalArgumentException("Consumer name must be 1 to 64 characters: " + consumer);
+        }
+        this.consumer = consumer;
+        this.sink = sink;
+        this.batchSize = Math.max(1, batchSize);
+        this.gapTimeoutMs = Math.max(0, gapTimeoutMs);
+    }
+
+    /**
+     * Deliver the next batch of events
+     * @return number of events delivered
+     */
+    public synchronized int relayOnce() throws SQLException, IOException {
+        Timer.Sample sample = Metrics.start("OutboxRelay.relayOnce");
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            if (offset < 0) {
+                offset = readOffset(conn);
+            }
+            List<OutboxEvent> events = deliverable(fetch(conn));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            sink.publish(events);
+            long last = events.get(events.size() - 1).getEventId();
+            try (PreparedStatement stmt = conn.prepareStatement(SAVE_OFFSET_SQL)) {
+                stmt.setString(1, consumer);
+                stmt.setLong(2, last);
+                stmt.setLong(3, last);
+                stmt.executeUpdate();
+            }
+            offset = last;
+            sample.rows(events.size());
+            return events.size();
+        } catch (SQLException | IOException | RuntimeException e) {
+            sample.failed();
+            throw e;
+        } finally {
+            sample.stop();
+        }
+    }
+
+    /**
+     * Deliver events until the consumer has caught up or reached a hole that has not timed out
+     * @return number of events delivered
+     */
+    public int drain() throws SQLException, IOException {
+        int total = 0;
+        int delivered;
+        do {
+            delivered = relayOnce();
+            total += delivered;
+        } while (delivered == batchSize);
+        return total;
+    }
+
+    /**
+     * Drain every pollIntervalMs on a daemon thread until {@link #stop()} or
+     * DatabaseConnection.shutdown(); failures are logged and retried on the next poll
+     */
+    public synchronized void start(long pollIntervalMs) {
+        if (poller != null) {
+            throw new IllegalStateException("Relay for " + consumer + " already started");
+        }
+        Thread thread = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    drain();
+                } catch (SQLException | IOException | RuntimeException e) {
+                    logger.log(Level.WARNING, "Outbox relay for " + consumer + " failed, retrying", e);
+                }
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "outbox-relay-" + consumer);
+        thread.setDaemon(true);
+        poller = thread;
+        thread.start();
+        DatabaseConnection.addShutdownTask(this::stop);
+    }
+
+    /**
+     * Stop the polling thread after its current batch
+     */
+    public void stop() {
+        Thread thread = poller;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join(30_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        poller = null;
+    }
+
+    /**
+     * Delete events that every consumer with an offset has passed and that are older than
+     * retentionHours; consumers without an offset row are not waited for
+     * @return number of events deleted
+     */
+    public static int purge(int retentionHours) throws SQLException {
+        int total = 0;
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(PURGE_SQL)) {
+            int deleted;
+            do {
+                stmt.setInt(1, retentionHours);
+                stmt.setInt(2, PURGE_CHUNK);
+                deleted = stmt.executeUpdate();
+                total += deleted;
+            } while (deleted == PURGE_CHUNK);
+        }
+        return total;
+    }
+
+    private long readOffset(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(OFFSET_SQL)) {
+            stmt.setString(1, consumer);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong("last_event_id") : 0;
+            }
+        }
+    }
+
+    private List<OutboxEvent> fetch(Connection conn) throws SQLException {
+        List<OutboxEvent> events = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_SQL)) {
+            stmt.setLong(1, offset);
+            stmt.setInt(2, batchSize);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    OutboxEvent event = new OutboxEvent();
+                    event.setEventId(rs.getLong("event_id"));
+                    event.setAggregateType(rs.getString("aggregate_type"));
+                    event.setAggregateId(rs.getLong("aggregate_id"));
+                    event.setEventType(rs.getString("event_type"));
+                    event.setPayload(rs.getString("payload"));
+                    event.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Leading events without a hole before them, or past a hole that has timed out. A new
+     * consumer starts at the oldest event still in the table.
+     */
+    private List<OutboxEvent> deliverable(List<OutboxEvent> events) {
+        long expected = offset + 1;
+        int count = 0;
+        for (OutboxEvent event : events) {
+            long eventId = event.getEventId();
+            if (eventId != expected && !(offset == 0 && count == 0)) {
+                if (!gapTimedOut(expected)) {
+                    break;
+                }
+                logger.warning("Outbox consumer " + consumer + " skipping event IDs " + expected + " to "
+                        + (eventId - 1) + " after waiting " + gapTimeoutMs + " ms");
+            }
+            expected = eventId + 1;
+            count++;
+        }
+        if (count > 0 && gapAt >= 0 && gapAt < expected) {
+            gapAt = -1;
+        }
+        return events.subList(0, count);
+    }
+
+    private boolean gapTimedOut(long missingId) {
+        long now = System.currentTimeMillis();
+        if (gapAt != missingId) {
+            gapAt = missingId;
+            gapSeenAt = now;
+        }
+        return now - gapSeenAt >= gapTimeoutMs;
+    }
+
+    /**
+     * Relay to a JSON lines file until the process is stopped:
+     * OutboxRelay &lt;consumer&gt; &lt;file&gt; [poll interval ms]
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: OutboxRelay <consumer> <file> [poll interval ms]");
+            System.exit(2);
+        }
+        long pollIntervalMs = args.length > 2 ? Long.parseLong(args[2])
+                : DatabaseConnection.getLongProperty("outbox.pollIntervalMs", 1000);
+        int retentionHours = DatabaseConnection.getIntProperty("outbox.retentionHours", 168);
+        try (FileSink sink = new FileSink(Path.of(args[1]))) {
+            OutboxRelay relay = new OutboxRelay(args[0], sink);
+            long lastPurge = 0;
+            while (true) {
+                try {
+                    int delivered = relay.drain();
+                    if (delivered > 0) {
+                        logger.info("Relayed " + delivered + " outbox events to " + args[1]);
+                    }
+                    if (retentionHours > 0 && System.currentTimeMillis() - lastPurge >= 3_600_000) {
+                        lastPurge = System.currentTimeMillis();
+                        logger.info("Purged " + purge(retentionHours) + " outbox events");
+                    }
+                } catch (SQLException e) {
+                    logger.log(Level.WARNING, "Outbox relay failed, retrying", e);
+                }
+                Thread.sleep(pollIntervalMs);
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Outbox relay to " + args[1] + " failed", e);
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            DatabaseConnection.shutdown();
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package main.java.com.recruitment;
 
+import main.java.com.recruitment.analytics.FunnelAnalytics;
 import main.java.com.recruitment.dao.*;
 import main.java.com.recruitment.model.*;
 import main.java.com.recruitment.util.DatabaseConnection;
+import java.io.IOException;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 import java.util.logging.Logger;
 
@@ -71,6 +76,7 @@ public class recruitmentApp {
         System.out.println("3. View applications by candidate");
         System.out.println("4. Update application status");
         System.out.println("5. Create new application");
+        System.out.println("6. View application stage history");
         System.out.println("0. Back to main menu");
         
         int choice = scanner.nextInt();
@@ -82,6 +88,7 @@ public class recruitmentApp {
             case 3 -> viewApplicationsByCandidate();
             case 4 -> updateApplicationStatus();
             case 5 -> createNewApplication();
+            case 6 -> viewStageHistory();
         }
     }
     
@@ -91,6 +98,19 @@ public class recruitmentApp {
         applications.forEach(System.out::println);
     }
     
+    private static void viewStageHistory() {
+        System.out.print("Enter Application ID: ");
+        long applicationId = scanner.nextLong();
+        
+        System.out.println("\nStage history for Application " + applicationId + ":");
+        String pageToken = null;
+        do {
+            var page = applicationDAO.getStageHistoryByApplication(applicationId, 100, pageToken);
+            page.getItems().forEach(System.out::println);
+            pageToken = page.getNextToken();
+        } while (pageToken != null);
+    }
+    
     private static void viewApplicationsByJob() {
         System.out.print("Enter Job ID: ");
         long jobId = scanner.nextLong();
@@ -376,6 +396,10 @@ public class recruitmentApp {
                 long interviewId = interviewDAO.scheduleInterview(title, interviewerId, applicationId, stage, interviewDate);
                 System.out.println(interviewId > 0 ? "Interview scheduled successfully with ID: " + interviewId : 
                                  "Failed to schedule interview.");
+                if (interviewId <= 0) {
+                    interviewDAO.findConflicts(interviewerId, stage, interviewDate)
+                            .forEach(conflict -> System.out.println(conflict.describe()));
+                }
             } else {
                 System.out.println("Invalid stage choice.");
             }
@@ -464,7 +488,7 @@ public class recruitmentApp {
         OfferDAO.OfferStatus[] statuses = OfferDAO.OfferStatus.values();
         if (statusChoice >= 1 && statusChoice <= statuses.length) {
             OfferDAO.OfferStatus status = statuses[statusChoice - 1];
-            long offerId = offerDAO.createOffer(applicationId, salary, status);
+            long offerId = offerDAO.extendOffer(applicationId, salary, status);
             System.out.println(offerId > 0 ? "Offer created successfully with ID: " + offerId : "Failed to create offer.");
         } else {
             System.out.println("Invalid status choice.");
@@ -528,6 +552,9 @@ public class recruitmentApp {
         System.out.println("1. Candidate Statistics");
         System.out.println("2. Job Statistics");
         System.out.println("3. Offer Statistics");
+        System.out.println("4. Rebuild statistics counters");
+        System.out.println("5. Company dashboard (all companies)");
+        System.out.println("6. Hiring funnel analytics");
         System.out.println("0. Back to main menu");
         
         int choice = scanner.nextInt();
@@ -537,13 +564,28 @@ public class recruitmentApp {
             case 1 -> showCandidateStatistics();
             case 2 -> showJobStatistics();
             case 3 -> showOfferStatistics();
+            case 4 -> rebuildStatistics();
+            case 5 -> showDashboard();
+            case 6 -> showFunnelAnalytics();
         }
     }
     
     private static void showCandidateStatistics() {
-        System.out.print("Enter Candidate ID: ");
-        long candidateId = scanner.nextLong();
+        System.out.print("Enter Candidate ID(s), comma separated: ");
+        String input = scanner.nextLine().trim();
+        
+        if (input.contains(",")) {
+            List<Long> candidateIds = new ArrayList<>();
+            for (String id : input.split(",")) {
+                candidateIds.add(Long.parseLong(id.trim()));
+            }
+            System.out.println("\nCandidate Statistics:");
+            candidateDAO.computeCandidateStatistics(candidateIds)
+                    .forEach((id, stats) -> System.out.println(id + ": " + stats));
+            return;
+        }
         
+        long candidateId = Long.parseLong(input);
         var stats = candidateDAO.getCandidateStatistics(candidateId);
         if (stats != null) {
             System.out.println("\nCandidate Statistics:");
@@ -578,4 +620,36 @@ public class recruitmentApp {
             System.out.println("No statistics found for company " + companyId);
         }
     }
+    
+    private static void showDashboard() {
+        var report = new DashboardDAO().getDashboard();
+        if (report == null) {
+            System.out.println("Dashboard could not be computed");
+            return;
+        }
+        System.out.println("\nCompany Dashboard (" + report.getCompanies().size() + " companies, "
+                + report.getElapsedMillis() + " ms):");
+        report.getCompanies().forEach(System.out::println);
+        System.out.println(report.getTotals());
+    }
+    
+    private static void showFunnelAnalytics() {
+        try {
+            var report = new FunnelAnalytics().refresh();
+            System.out.println("\nHiring Funnel (stage rows up to " + report.getHighWaterMark() + "):");
+            report.getCompanies().forEach((id, metrics) -> System.out.println("Company " + id + ": " + metrics));
+            System.out.println("All companies: " + report.getTotal());
+        } catch (SQLException | IOException e) {
+            System.out.println("Funnel analytics failed: " + e.getMessage());
+        }
+    }
+    
+    private static void rebuildStatistics() {
+        try {
+            StatisticsCounters.rebuild();
+            System.out.println("Statistics counters rebuilt.");
+        } catch (SQLException e) {
+            System.out.println("Rebuilding statistics counters failed: " + e.getMessage());
+        }
+    }
 }
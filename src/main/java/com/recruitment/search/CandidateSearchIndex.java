@@ -0,0 +1,600 @@
+package main.java.com.recruitment.search;
+
+import main.java.com.recruitment.util.DatabaseConnection;
+import main.java.com.recruitment.util.UnitOfWork;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * In-memory trigram index over candidate first name, last name and email.
+ *
+ * Each indexed word is padded with two start markers and split into trigrams; every trigram
+ * maps to the sorted list of documents containing it. A query token of three or more
+ * characters matches words containing it anywhere (like LIKE '%token%'); a shorter token
+ * matches words starting with it. All query tokens must match. Results are ranked by how
+ * well each token matches (whole word, word prefix, substring), newest candidate first on ties.
+ *
+ * The index is built in the background on first use and kept current by the candidate write
+ * paths through {@link #refresh(long)} and {@link #remove(long)}. A background build that
+ * fails, e.g. because the database is not up yet, is retried with backoff until it succeeds.
+ * Until the first build finishes {@link #isReady()} is false and callers should fall back to
+ * a database query. Builds read the primary, like the refreshes, so a lagging replica cannot
+ * leave out candidates that no refresh would add back.
+ * Removed and replaced documents leave tombstones that are compacted by the next rebuild.
+ */
+public final class CandidateSearchIndex {
+    private static final Logger logger = Logger.getLogger(CandidateSearchIndex.class.getName());
+
+    private static final char START = '\u0001';
+    private static final int MAX_IN_LIST = 500;
+    private static final double COMPACT_RATIO = 0.25;
+    private static final int SCORE_SHIFT = 48;
+    private static final long RETRY_INITIAL_MS = 1_000;
+    private static final long RETRY_MAX_MS = 60_000;
+
+    private static final String LOAD_SQL = """
+        SELECT c.candidate_id, u.first_name, u.last_name, u.email
+        FROM Candidate c
+        JOIN User u ON c.user_id = u.user_id
+        """;
+
+    private static final CandidateSearchIndex shared = new CandidateSearchIndex();
+
+    /**
+     * Candidate IDs in rank order
+     */
+    public static class Result {
+        private final List<Long> candidateIds;
+        private final long elapsedNanos;
+
+        Result(List<Long> candidateIds, long elapsedNanos) {
+            this.candidateIds = candidateIds;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public List<Long> getCandidateIds() { return candidateIds; }
+        public long getElapsedNanos() { return elapsedNanos; }
+    }
+
+    private static class Doc {
+        final long candidateId;
+        final String[] words;
+        boolean deleted;
+
+        Doc(long candidateId, String[] words) {
+            this.candidateId = candidateId;
+            this.words = words;
+        }
+    }
+
+    /**
+     * Growable int array; document IDs are appended in increasing order so it stays sorted
+     */
+    private static class Postings {
+        int[] docs = new int[4];
+        int size;
+
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+
+    /**
+     * Documents and postings; replaced as a whole by a rebuild
+     */
+    private static class Segment {
+        final List<Doc> docs = new ArrayList<>();
+        final Map<Long, Postings> postings = new HashMap<>();
+        final Map<Long, Integer> docByCandidate = new HashMap<>();
+        int deleted;
+
+        void add(long candidateId, String[] words) {
+            Integer previous = docByCandidate.get(candidateId);
+            if (previous != null) {
+                delete(previous);
+            }
+            int doc = docs.size();
+            docs.add(new Doc(candidateId, words));
+            docByCandidate.put(candidateId, doc);
+            for (String word : words) {
+                String padded = "" + START + START + word;
+                for (int i = 0; i + 3 <= padded.length(); i++) {
+                    postings.computeIfAbsent(trigram(padded, i), k -> new Postings()).add(doc);
+                }
+            }
+        }
+
+        void remove(long candidateId) {
+            Integer doc = docByCandidate.remove(candidateId);
+            if (doc != null) {
+                delete(doc);
+            }
+        }
+
+        private void delete(int doc) {
+            Doc entry = docs.get(doc);
+            if (!entry.deleted) {
+                entry.deleted = true;
+                deleted++;
+            }
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Segment segment;
+    private final Set<Long> changedDuringBuild = new LinkedHashSet<>();
+    private boolean building;
+    private boolean backgroundBuild;
+
+    private CandidateSearchIndex() {}
+
+    /**
+     * The index shared by the DAOs
+     */
+    public static CandidateSearchIndex shared() {
+        return shared;
+    }
+
+    public boolean isReady() {
+        return segment != null;
+    }
+
+    /**
+     * Build the index on a background thread if it has not been built yet
+     */
+    public void buildInBackground() {
+        if (segment == null) {
+            startBuild();
+        }
+    }
+
+    private void startBuild() {
+        synchronized (changedDuringBuild) {
+            if (building || backgroundBuild) {
+                return;
+            }
+            backgroundBuild = true;
+        }
+        Thread thread = new Thread(() -> {
+            long delay = RETRY_INITIAL_MS;
+            try {
+                while (true) {
+                    try {
+                        rebuild();
+                        return;
+                    } catch (SQLException e) {
+                        logger.log(Level.SEVERE, "Error building candidate search index, retrying in "
+                                + delay + " ms", e);
+                    }
+                    Thread.sleep(delay);
+                    delay = Math.min(delay * 2, RETRY_MAX_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                synchronized (changedDuringBuild) {
+                    backgroundBuild = false;
+                }
+            }
+        }, "candidate-search-index");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Load every candidate into a new segment and swap it in; candidates written while the
+     * load ran are reloaded afterwards so none of their changes are lost
+     */
+    public void rebuild() throws SQLException {
+        long start = System.currentTimeMillis();
+        synchronized (changedDuringBuild) {
+            building = true;
+            changedDuringBuild.clear();
+        }
+
+        Segment fresh = new Segment();
+        try (Connection conn = DatabaseConnection.getConnection();
+             Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet rs = stmt.executeQuery(LOAD_SQL)) {
+                while (rs.next()) {
+                    fresh.add(rs.getLong(1), words(rs.getString(2), rs.getString(3), rs.getString(4)));
+                }
+            }
+        } catch (SQLException e) {
+            synchronized (changedDuringBuild) {
+                building = false;
+            }
+            throw e;
+        }
+
+        List<Long> changed;
+        lock.writeLock().lock();
+        try {
+            segment = fresh;
+            synchronized (changedDuringBuild) {
+                building = false;
+                changed = new ArrayList<>(changedDuringBuild);
+                changedDuringBuild.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!changed.isEmpty()) {
+            refreshAll(changed);
+        }
+        logger.info("Candidate search index built: " + fresh.docs.size() + " candidates in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    /**
+     * Re-read a candidate's name and email after a write. Inside a {@link UnitOfWork} the
+     * reload happens after the transaction completes, so rolled-back changes are not indexed.
+     */
+    public void refresh(long candidateId) {
+        refreshAll(List.of(candidateId));
+    }
+
+    /**
+     * Re-read several candidates with batched queries
+     */
+    public void refreshAll(Collection<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return;
+        }
+        if (UnitOfWork.isActive()) {
+            List<Long> ids = new ArrayList<>(candidateIds);
+            UnitOfWork.afterCompletion(() -> refreshAll(ids));
+            return;
+        }
+        synchronized (changedDuringBuild) {
+            if (building) {
+                changedDuringBuild.addAll(candidateIds);
+            }
+        }
+        if (segment == null) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>(candidateIds);
+        for (int from = 0; from < ids.size(); from += MAX_IN_LIST) {
+            List<Long> slice = ids.subList(from, Math.min(from + MAX_IN_LIST, ids.size()));
+            String sql = LOAD_SQL + "WHERE c.candidate_id IN ("
+                    + String.join(",", Collections.nCopies(slice.size(), "?")) + ")";
+            Map<Long, String[]> found = new HashMap<>();
+            try (Connection conn = DatabaseConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int i = 0; i < slice.size(); i++) {
+                    stmt.setLong(i + 1, slice.get(i));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        found.put(rs.getLong(1), words(rs.getString(2), rs.getString(3), rs.getString(4)));
+                    }
+                }
+            } catch (SQLException e) {
+                logger.log(Level.WARNING, "Error refreshing candidate search index for " + slice, e);
+                continue;
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (Long id : slice) {
+                    String[] words = found.get(id);
+                    if (words == null) {
+                        segment.remove(id);
+                    } else {
+                        segment.add(id, words);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Drop a deleted candidate
+     */
+    public void remove(long candidateId) {
+        if (UnitOfWork.isActive()) {
+            UnitOfWork.afterCompletion(() -> refresh(candidateId));
+            return;
+        }
+        synchronized (changedDuringBuild) {
+            if (building) {
+                changedDuringBuild.add(candidateId);
+            }
+        }
+        if (segment == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            segment.remove(candidateId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactIfNeeded() {
+        Segment current = segment;
+        if (current != null && current.deleted > 1000 && current.deleted > current.docs.size() * COMPACT_RATIO) {
+            startBuild();
+        }
+    }
+
+    /**
+     * Find candidates matching every token of the query
+     * @param limit maximum number of IDs to return
+     * @return ranked IDs; empty if the query has no tokens
+     * @throws IllegalStateException if the index is not built yet
+     */
+    public Result search(String query, int limit) {
+        long start = System.nanoTime();
+        String[] tokens = tokens(query);
+        if (tokens.length == 0) {
+            return new Result(List.of(), System.nanoTime() - start);
+        }
+
+        lock.readLock().lock();
+        try {
+            Segment current = segment;
+            if (current == null) {
+                throw new IllegalStateException("Candidate search index is not built yet");
+            }
+
+            int[] matches = null;
+            for (String token : tokens) {
+                matches = intersect(matches, candidates(current, token));
+                if (matches.length == 0) {
+                    return new Result(List.of(), System.nanoTime() - start);
+                }
+            }
+
+            // Top-k by (score, candidate ID) packed into one long, kept in a min-heap
+            TopK top = new TopK(limit);
+            for (int doc : matches) {
+                Doc entry = current.docs.get(doc);
+                if (entry.deleted) {
+                    continue;
+                }
+                int score = score(entry, tokens);
+                if (score > 0) {
+                    top.offer(((long) score << SCORE_SHIFT) | entry.candidateId);
+                }
+            }
+
+            long[] ranked = top.sortedDescending();
+            List<Long> ids = new ArrayList<>(ranked.length);
+            for (long packed : ranked) {
+                ids.add(packed & ((1L << SCORE_SHIFT) - 1));
+            }
+            return new Result(ids, System.nanoTime() - start);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documents containing every trigram of the token, smallest posting list first
+     */
+    private static int[] candidates(Segment segment, String token) {
+        String gramSource = token.length() >= 3 ? token
+                : token.length() == 2 ? START + token : "" + START + START + token;
+        List<Postings> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= gramSource.length(); i++) {
+            Postings postings = segment.postings.get(trigram(gramSource, i));
+            if (postings == null) {
+                return new int[0];
+            }
+            lists.add(postings);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+        Postings smallest = lists.get(0);
+        int[] result = Arrays.copyOf(smallest.docs, smallest.size);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            Postings next = lists.get(i);
+            result = intersect(result, result.length, next.docs, next.size);
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        return a == null ? b : intersect(a, a.length, b, b.length);
+    }
+
+    /**
+     * Intersect two sorted arrays; binary-searches the longer one when the sizes differ a lot
+     */
+    private static int[] intersect(int[] a, int aSize, int[] b, int bSize) {
+        if (aSize > bSize) {
+            return intersect(b, bSize, a, aSize);
+        }
+        int[] out = new int[aSize];
+        int n = 0;
+        if ((long) aSize * 16 < bSize) {
+            int from = 0;
+            for (int i = 0; i < aSize && from < bSize; i++) {
+                int found = Arrays.binarySearch(b, from, bSize, a[i]);
+                if (found >= 0) {
+                    out[n++] = a[i];
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            return Arrays.copyOf(out, n);
+        }
+        int i = 0, j = 0;
+        while (i < aSize && j < bSize) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * Bounded min-heap keeping the largest values offered
+     */
+    private static class TopK {
+        private final long[] heap;
+        private int size;
+
+        TopK(int limit) {
+            this.heap = new long[Math.max(0, limit)];
+        }
+
+        void offer(long value) {
+            if (heap.length == 0) {
+                return;
+            }
+            if (size < heap.length) {
+                int i = size++;
+                heap[i] = value;
+                while (i > 0 && heap[(i - 1) / 2] > heap[i]) {
+                    swap(i, (i - 1) / 2);
+                    i = (i - 1) / 2;
+                }
+            } else if (value > heap[0]) {
+                heap[0] = value;
+                int i = 0;
+                while (true) {
+                    int smallest = i, left = 2 * i + 1, right = left + 1;
+                    if (left < size && heap[left] < heap[smallest]) {
+                        smallest = left;
+                    }
+                    if (right < size && heap[right] < heap[smallest]) {
+                        smallest = right;
+                    }
+                    if (smallest == i) {
+                        break;
+                    }
+                    swap(i, smallest);
+                    i = smallest;
+                }
+            }
+        }
+
+        long[] sortedDescending() {
+            long[] sorted = Arrays.copyOf(heap, size);
+            Arrays.sort(sorted);
+            for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+                long tmp = sorted[i];
+                sorted[i] = sorted[j];
+                sorted[j] = tmp;
+            }
+            return sorted;
+        }
+
+        private void swap(int a, int b) {
+            long tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+
+    /**
+     * Sum over tokens of the best match: 4 whole word, 3 word prefix, 1 substring
+     * (only for tokens of three or more characters); 0 if any token does not match
+     */
+    private static int score(Doc doc, String[] tokens) {
+        int total = 0;
+        for (String token : tokens) {
+            int best = 0;
+            for (String word : doc.words) {
+                if (word.equals(token)) {
+                    best = 4;
+                } else if (word.startsWith(token)) {
+                    best = Math.max(best, 3);
+                } else if (token.length() >= 3 && word.contains(token)) {
+                    best = Math.max(best, 1);
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private static String[] words(String firstName, String lastName, String email) {
+        List<String> words = new ArrayList<>(3);
+        for (String value : new String[] { firstName, lastName, email }) {
+            String normalized = normalize(value);
+            if (!normalized.isEmpty()) {
+                words.add(normalized);
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    private static String[] tokens(String query) {
+        String normalized = normalize(query);
+        return normalized.isEmpty() ? new String[0] : normalized.split("\\s+");
+    }
+
+    /**
+     * Lower-case and strip accents so an accented name such as "Jos\u00e9" matches "jose"
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value.strip(), Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}+", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static long trigram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    /**
+     * Number of live candidates in the index, or -1 before the first build
+     */
+    public int size() {
+        Segment current = segment;
+        if (current == null) {
+            return -1;
+        }
+        lock.readLock().lock();
+        try {
+            return current.docs.size() - current.deleted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package main.java.com.recruitment.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * JDBC batch insert helper used by the DAO bulk APIs.
+ *
+ * Rows are sent in chunks of batch.chunkSize with one executeBatch() per chunk; with
+ * jdbc.rewriteBatchedStatements=true the driver turns each chunk into multi-row INSERTs.
+ * Outside a {@link UnitOfWork} every chunk is committed on its own, and a chunk that fails
+ * is rolled back and retried row by row so that only the offending rows are reported as
+ * failed. Inside a unit of work the rows join the caller's transaction and a failure
+ * rolls the whole unit back. An optional {@link ChunkListener} runs in the same transaction
+ * as each chunk (or retried row), so derived data such as counters commits with the rows.
+ */
+public final class BatchInserter {
+    private static final Logger logger = Logger.getLogger(BatchInserter.class.getName());
+
+    /**
+     * Binds one input row to the insert statement's parameters
+     */
+    @FunctionalInterface
+    public interface RowBinder<T> {
+        void bind(PreparedStatement stmt, T row) throws SQLException;
+    }
+
+    /**
+     * Runs on the insert connection after rows [start, end) were inserted, before they are
+     * committed; only rows with result.isSuccess(i) were inserted
+     */
+    @FunctionalInterface
+    public interface ChunkListener<T> {
+        void inserted(Connection conn, List<T> rows, int start, int end, BatchResult result) throws SQLException;
+    }
+
+    private BatchInserter() {}
+
+    /**
+     * Default chunk size from database.properties (batch.chunkSize)
+     */
+    public static int defaultChunkSize() {
+        return DatabaseConnection.getIntProperty("batch.chunkSize", 1000);
+    }
+
+    /**
+     * Insert rows in JDBC batches
+     * @return per-row results with generated keys in input order
+     * @throws SQLException if no connection could be obtained or the transaction could not be managed
+     */
+    public static <T> BatchResult insert(String sql, List<T> rows, int chunkSize, RowBinder<T> binder)
+            throws SQLException {
+        return insert(sql, rows, chunkSize, binder, null);
+    }
+
+    /**
+     * Insert rows in JDBC batches, calling listener in each chunk's transaction
+     */
+    public static <T> BatchResult insert(String sql, List<T> rows, int chunkSize, RowBinder<T> binder,
+                                         ChunkListener<T> listener) throws SQLException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        BatchResult result = new BatchResult(rows.size());
+        if (rows.isEmpty()) {
+            return result;
+        }
+
+        boolean managed = UnitOfWork.isActive();
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            if (!managed) {
+                conn.setAutoCommit(false);
+            }
+
+            for (int start = 0; start < rows.size(); start += chunkSize) {
+                int end = Math.min(start + chunkSize, rows.size());
+                try {
+                    executeChunk(stmt, rows, start, end, binder, result);
+                    if (listener != null) {
+                        listener.inserted(conn, rows, start, end, result);
+                    }
+                    if (!managed) {
+                        conn.commit();
+                        DatabaseConnection.recordWrite();
+                    }
+                } catch (SQLException e) {
+                    stmt.clearBatch();
+                    if (managed) {
+                        markFailed(result, start, end, e.getMessage());
+                        throw e;
+                    }
+                    conn.rollback();
+                    logger.log(Level.WARNING, "Batch chunk [" + start + ", " + end + ") failed, retrying rows individually", e);
+                    retryIndividually(conn, stmt, rows, start, end, binder, listener, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static <T> void executeChunk(PreparedStatement stmt, List<T> rows, int start, int end,
+                                         RowBinder<T> binder, BatchResult result) throws SQLException {
+        boolean[] queued = new boolean[end - start];
+        int queuedCount = 0;
+        for (int i = start; i < end; i++) {
+            try {
+                binder.bind(stmt, rows.get(i));
+                stmt.addBatch();
+                queued[i - start] = true;
+                queuedCount++;
+            } catch (SQLException | RuntimeException e) {
+                stmt.clearParameters();
+                result.failed(i, e.getMessage());
+            }
+        }
+        if (queuedCount == 0) {
+            return;
+        }
+
+        int[] counts = stmt.executeBatch();
+        try (ResultSet keys = stmt.getGeneratedKeys()) {
+            int countIndex = 0;
+            for (int i = start; i < end; i++) {
+                if (!queued[i - start]) {
+                    continue;
+                }
+                int count = countIndex < counts.length ? counts[countIndex] : Statement.SUCCESS_NO_INFO;
+                countIndex++;
+                if (count == Statement.EXECUTE_FAILED || count == 0) {
+                    result.failed(i, "Row was not inserted");
+                } else if (keys.next()) {
+                    result.succeeded(i, keys.getLong(1));
+                } else {
+                    result.succeeded(i, -1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Insert each row of a failed chunk on its own so that good rows still go in
+     */
+    private static <T> void retryIndividually(Connection conn, PreparedStatement stmt, List<T> rows, int start,
+                                              int end, RowBinder<T> binder, ChunkListener<T> listener,
+                                              BatchResult result) throws SQLException {
+        for (int i = start; i < end; i++) {
+            try {
+                binder.bind(stmt, rows.get(i));
+                stmt.executeUpdate();
+                long id = -1;
+                try (ResultSet keys = stmt.getGeneratedKeys()) {
+                    if (keys.next()) {
+                        id = keys.getLong(1);
+                    }
+                }
+                result.succeeded(i, id);
+                if (listener != null) {
+                    listener.inserted(conn, rows, i, i + 1, result);
+                }
+                conn.commit();
+                DatabaseConnection.recordWrite();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                stmt.clearParameters();
+                result.failed(i, e.getMessage());
+            }
+        }
+    }
+
+    private static void markFailed(BatchResult result, int start, int end, String error) {
+        for (int i = start; i < end; i++) {
+            result.failed(i, error);
+        }
+    }
+}
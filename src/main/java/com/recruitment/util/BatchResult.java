@@ -0,0 +1,110 @@
+package main.java.com.recruitment.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-row outcome of a bulk insert, in the same order as the input rows
+ */
+public class BatchResult {
+    private static final String NOT_INSERTED = "Not inserted";
+
+    private final long[] generatedIds;
+    private final String[] errors;
+
+    public BatchResult(int size) {
+        this.generatedIds = new long[size];
+        this.errors = new String[size];
+        Arrays.fill(generatedIds, -1);
+        Arrays.fill(errors, NOT_INSERTED);
+    }
+
+    /**
+     * Result where every row failed with the same error
+     */
+    public static BatchResult allFailed(int size, String error) {
+        BatchResult result = new BatchResult(size);
+        Arrays.fill(result.errors, error);
+        return result;
+    }
+
+    /**
+     * Result for rows of which some were rejected before the insert
+     * @param rejections one entry per input row: the rejection error, or null if the row was inserted
+     * @param inserted result of inserting the rows with a null rejection, in input order
+     */
+    public static BatchResult withRejected(String[] rejections, BatchResult inserted) {
+        BatchResult result = new BatchResult(rejections.length);
+        int next = 0;
+        for (int row = 0; row < rejections.length; row++) {
+            if (rejections[row] != null) {
+                result.failed(row, rejections[row]);
+            } else {
+                result.generatedIds[row] = inserted.generatedIds[next];
+                result.errors[row] = inserted.errors[next];
+                next++;
+            }
+        }
+        return result;
+    }
+
+    void succeeded(int row, long generatedId) {
+        generatedIds[row] = generatedId;
+        errors[row] = null;
+    }
+
+    void failed(int row, String error) {
+        generatedIds[row] = -1;
+        errors[row] = error != null ? error : NOT_INSERTED;
+    }
+
+    // Getters
+    public int size() { return generatedIds.length; }
+    public boolean isSuccess(int row) { return errors[row] == null; }
+    public long getGeneratedId(int row) { return generatedIds[row]; }
+    public String getError(int row) { return errors[row]; }
+
+    /**
+     * Generated IDs in input order; -1 for rows that failed
+     */
+    public long[] getGeneratedIds() {
+        return generatedIds.clone();
+    }
+
+    public int getSuccessCount() {
+        int count = 0;
+        for (String error : errors) {
+            if (error == null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getFailureCount() {
+        return size() - getSuccessCount();
+    }
+
+    /**
+     * Indexes of the input rows that were not inserted
+     */
+    public List<Integer> getFailedRows() {
+        List<Integer> failed = new ArrayList<>();
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                failed.add(i);
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{" +
+                "rows=" + size() +
+                ", succeeded=" + getSuccessCount() +
+                ", failed=" + getFailureCount() +
+                '}';
+    }
+}
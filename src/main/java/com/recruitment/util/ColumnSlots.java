@@ -0,0 +1,65 @@
+package main.java.com.recruitment.util;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Column label to index lookup, resolved once per ResultSet from its metadata.
+ * Labels are matched case-insensitively and the first column with a label wins,
+ * as with ResultSet.findColumn.
+ */
+public final class ColumnSlots {
+    /** Index returned for a column that is not in the result */
+    public static final int ABSENT = 0;
+
+    private final Map<String, Integer> indexes;
+
+    private ColumnSlots(Map<String, Integer> indexes) {
+        this.indexes = indexes;
+    }
+
+    public static ColumnSlots of(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        int count = metaData.getColumnCount();
+        Map<String, Integer> indexes = new HashMap<>(count * 2);
+        for (int i = 1; i <= count; i++) {
+            indexes.putIfAbsent(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+        return new ColumnSlots(indexes);
+    }
+
+    /**
+     * Index of a column the query must return
+     * @throws SQLException if the column is missing
+     */
+    public int required(String label) throws SQLException {
+        int index = optional(label);
+        if (index == ABSENT) {
+            throw new SQLException("Column not found in result: " + label);
+        }
+        return index;
+    }
+
+    /**
+     * Index of a column that only some queries return
+     * @return column index, or {@link #ABSENT}
+     */
+    public int optional(String label) {
+        return indexes.getOrDefault(label.toLowerCase(Locale.ROOT), ABSENT);
+    }
+
+    public static String getString(ResultSet rs, int index) throws SQLException {
+        return index == ABSENT ? null : rs.getString(index);
+    }
+
+    /**
+     * @return the column value, or 0 if the column is absent or NULL
+     */
+    public static long getLong(ResultSet rs, int index) throws SQLException {
+        return index == ABSENT ? 0 : rs.getLong(index);
+    }
+}
@@ -0,0 +1,288 @@
+package main.java.com.recruitment.util;
+
+import main.java.com.recruitment.metrics.Metrics;
+import main.java.com.recruitment.metrics.Timer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded JDBC connection pool.
+ *
+ * A semaphore caps the number of borrowed connections at pool.maxSize; idle connections are
+ * kept in a LIFO deque so the most recently used (warmest) connection is handed out first.
+ * A background housekeeper evicts idle and expired connections and tops the pool back up
+ * to pool.minSize. Each pooled connection keeps an LRU cache of up to
+ * pool.statementCacheSize prepared statements, dropped when the connection is evicted.
+ * Time spent waiting in borrow() is recorded by the pool.&lt;name&gt;.borrowWait timer.
+ */
+public class ConnectionPool implements ConnectionPoolMXBean {
+    private static final Logger logger = Logger.getLogger(ConnectionPool.class.getName());
+
+    private final String name;
+    private final String url;
+    private final Properties connectionProperties;
+    private final PoolConfig config;
+
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final StatementCacheStats statementCacheStats = new StatementCacheStats();
+    private final ScheduledExecutorService housekeeper;
+    private final Timer borrowWait;
+    private volatile SlowQueryLog slowQueryLog;
+    private volatile boolean closed;
+
+    public ConnectionPool(String name, String url, String username, String password, PoolConfig config) {
+        this(name, url, username, password, config, new Properties());
+    }
+
+    /**
+     * @param driverProperties extra properties passed to the JDBC driver, e.g. rewriteBatchedStatements
+     */
+    public ConnectionPool(String name, String url, String username, String password, PoolConfig config,
+                          Properties driverProperties) {
+        this.name = name;
+        this.url = url;
+        this.config = config;
+        this.connectionProperties = new Properties();
+        this.connectionProperties.putAll(driverProperties);
+        this.connectionProperties.setProperty("user", username);
+        this.connectionProperties.setProperty("password", password);
+        this.permits = new Semaphore(config.getMaxSize(), true);
+        this.borrowWait = Metrics.timer("pool." + name + ".borrowWait");
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pool-housekeeper-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.housekeeper.scheduleWithFixedDelay(this::housekeep, 0,
+                config.getHousekeepingIntervalMs(), TimeUnit.MILLISECONDS);
+
+        logger.info("Connection pool '" + name + "' created: " + config);
+    }
+
+    /**
+     * Borrow a connection, waiting up to pool.borrowTimeoutMs for one to become free
+     * @return Connection handle; closing it returns the connection to the pool
+     * @throws SQLException if the pool is exhausted or a connection cannot be opened
+     */
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool '" + name + "' is closed");
+        }
+
+        Timer.Sample wait = borrowWait.start();
+        try {
+            return acquire();
+        } catch (SQLException e) {
+            wait.failed();
+            throw e;
+        } finally {
+            wait.stop();
+        }
+    }
+
+    private Connection acquire() throws SQLException {
+        long timeoutMs = config.getBorrowTimeoutMs();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        try {
+            if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                throw timeout(timeoutMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+
+        try {
+            while (true) {
+                PooledConnection pooled = idle.pollFirst();
+                if (pooled == null) {
+                    pooled = tryCreate(config.getMaxSize());
+                }
+                if (pooled == null) {
+                    // Every slot is held by an idle connection that is being evicted or refilled
+                    long remaining = deadline - System.nanoTime();
+                    pooled = remaining > 0 ? idle.pollFirst(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (pooled == null) {
+                        throw timeout(timeoutMs);
+                    }
+                }
+                if (!isUsable(pooled)) {
+                    destroy(pooled);
+                    continue;
+                }
+                activeConnections.incrementAndGet();
+                return pooled.newHandle();
+            }
+        } catch (SQLException e) {
+            permits.release();
+            throw e;
+        } catch (InterruptedException e) {
+            permits.release();
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    /**
+     * Return a borrowed connection; called from the handle's close()
+     */
+    void release(PooledConnection pooled) {
+        activeConnections.decrementAndGet();
+        try {
+            if (closed || pooled.isBroken() || pooled.isExpired(System.currentTimeMillis(), config.getMaxLifetimeMs())) {
+                destroy(pooled);
+                return;
+            }
+            try {
+                pooled.reset();
+                idle.offerFirst(pooled);
+            } catch (SQLException e) {
+                logger.log(Level.WARNING, "Discarding connection that could not be reset", e);
+                destroy(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Close all idle connections and stop handing out new ones.
+     * Borrowed connections are closed as they are returned.
+     */
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        if (slowQueryLog != null) {
+            slowQueryLog.close();
+        }
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            destroy(pooled);
+        }
+        logger.info("Connection pool '" + name + "' closed");
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        long now = System.currentTimeMillis();
+        if (pooled.isBroken() || pooled.isExpired(now, config.getMaxLifetimeMs())) {
+            return false;
+        }
+        if (now - pooled.getLastUsedAt() < config.getValidationSkipWindowMs()) {
+            return true;
+        }
+        try {
+            return pooled.getPhysical().isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Open a new physical connection if the pool holds fewer than the given number
+     * @return new connection, or null if the limit has been reached
+     */
+    private PooledConnection tryCreate(int limit) throws SQLException {
+        while (true) {
+            int current = totalConnections.get();
+            if (current >= limit) {
+                return null;
+            }
+            if (totalConnections.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+
+        try {
+            Connection physical = DriverManager.getConnection(url, connectionProperties);
+            logger.fine("Opened new connection for pool '" + name + "'");
+            return new PooledConnection(this, physical, config.getStatementCacheSize(), statementCacheStats);
+        } catch (SQLException | RuntimeException e) {
+            totalConnections.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void destroy(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        pooled.closePhysical();
+    }
+
+    /**
+     * Evict idle and expired connections, then refill up to the minimum size
+     */
+    private void housekeep() {
+        try {
+            long now = System.currentTimeMillis();
+            for (PooledConnection pooled : idle) {
+                boolean idleTooLong = config.getIdleTimeoutMs() > 0
+                        && now - pooled.getLastUsedAt() >= config.getIdleTimeoutMs()
+                        && totalConnections.get() > config.getMinSize();
+                if ((idleTooLong || pooled.isExpired(now, config.getMaxLifetimeMs())) && idle.remove(pooled)) {
+                    destroy(pooled);
+                }
+            }
+
+            while (!closed) {
+                PooledConnection pooled = tryCreate(config.getMinSize());
+                if (pooled == null) {
+                    break;
+                }
+                idle.offerLast(pooled);
+            }
+        } catch (SQLException e) {
+            logger.log(Level.WARNING, "Connection pool '" + name + "' could not refill to minimum size", e);
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Connection pool '" + name + "' housekeeping failed", e);
+        }
+    }
+
+    private SQLException timeout(long timeoutMs) {
+        return new SQLTransientConnectionException("Timed out after " + timeoutMs
+                + " ms waiting for a connection from pool '" + name + "' (active=" + activeConnections.get()
+                + ", max=" + config.getMaxSize() + ")", "08001");
+    }
+
+    // Pool statistics
+    public String getName() { return name; }
+    public PoolConfig getConfig() { return config; }
+    public int getTotalConnections() { return totalConnections.get(); }
+    public int getActiveConnections() { return activeConnections.get(); }
+    public int getIdleConnections() { return idle.size(); }
+    public int getWaitingThreads() { return permits.getQueueLength(); }
+    public StatementCacheStats getStatementCacheStats() { return statementCacheStats; }
+    public double getStatementCacheHitRate() { return statementCacheStats.getHitRate(); }
+    public SlowQueryLog getSlowQueryLog() { return slowQueryLog; }
+
+    /**
+     * Time statements executed on this pool's connections; null disables the slow-query log
+     */
+    public void setSlowQueryLog(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPool{" +
+                "name='" + name + '\'' +
+                ", total=" + getTotalConnections() +
+                ", active=" + getActiveConnections() +
+                ", idle=" + getIdleConnections() +
+                ", waiting=" + getWaitingThreads() +
+                '}';
+    }
+}
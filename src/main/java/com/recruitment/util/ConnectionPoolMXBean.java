@@ -0,0 +1,13 @@
+package main.java.com.recruitment.util;
+
+/**
+ * JMX view of a {@link ConnectionPool}
+ */
+public interface ConnectionPoolMXBean {
+    String getName();
+    int getTotalConnections();
+    int getActiveConnections();
+    int getIdleConnections();
+    int getWaitingThreads();
+    double getStatementCacheHitRate();
+}
@@ -1,38 +1,97 @@
 package main.java.com.recruitment.util;
 
+import main.java.com.recruitment.logging.EventLogger;
+import main.java.com.recruitment.metrics.Metrics;
+import main.java.com.recruitment.metrics.MetricsReporter;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
 /**
- * Database connection utility class using DriverManager
+ * Database connection utility class backed by a bounded connection pool.
+ *
+ * getConnection() always uses the primary. getReadConnection() is for read-only work and
+ * uses a replica when db.replica.* pools are configured, except within
+ * replica.readYourWritesMs of the calling thread's last write, so a thread always sees its
+ * own writes. A write is recorded when a {@link UnitOfWork} commits and by DAO mutations
+ * that run outside one; borrowing a primary connection to read does not count. The write
+ * clock is per thread: work handed to another thread only shares it when wrapped with
+ * {@link #withWriteClock}, as AsyncDAOFacade does.
  */
 public class DatabaseConnection {
     private static final Logger logger = Logger.getLogger(DatabaseConnection.class.getName());
+    private static final EventLogger connectionEvents =
+            EventLogger.get("db.connection", DatabaseConnection.class.getName());
     private static String dbUrl;
     private static String dbUsername;
     private static String dbPassword;
     private static String dbDriver;
+    private static Properties properties;
+    private static ConnectionPool pool;
+    private static ReplicaRouter replicaRouter;
+    private static long readYourWritesMs;
+    private static final ThreadLocal<AtomicLong> lastWriteAt = ThreadLocal.withInitial(AtomicLong::new);
+    private static final List<Runnable> shutdownTasks = new CopyOnWriteArrayList<>();
 
     static {
         try {
-            initializeConnectionProperties();
+            properties = initializeConnectionProperties();
+            EventLogger.configure(properties);
+            pool = new ConnectionPool("primary", dbUrl, dbUsername, dbPassword, new PoolConfig(properties),
+                    driverProperties(properties));
+            pool.setSlowQueryLog(SlowQueryLog.create(pool, properties));
+            initializeReplicas();
+            initializeMetrics();
+            Runtime.getRuntime().addShutdownHook(new Thread(DatabaseConnection::shutdown, "pool-shutdown"));
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Failed to initialize database connection properties", e);
             throw new RuntimeException("Database initialization failed", e);
         }
     }
 
+    /**
+     * Create replica pools from db.replica.* keys; replicas share the primary's slow-query log
+     */
+    private static void initializeReplicas() {
+        replicaRouter = ReplicaRouter.create(properties, dbUsername, dbPassword, driverProperties(properties));
+        readYourWritesMs = getLongProperty("replica.readYourWritesMs", 2_000);
+        if (replicaRouter != null) {
+            for (ReplicaRouter.Replica replica : replicaRouter.getReplicas()) {
+                replica.getPool().setSlowQueryLog(pool.getSlowQueryLog());
+            }
+        }
+    }
+
+    /**
+     * Expose DAO timers and the pool through JMX and start the periodic metrics dump
+     */
+    private static void initializeMetrics() {
+        if (Boolean.parseBoolean(properties.getProperty("metrics.jmx.enabled", "true"))) {
+            Metrics.enableJmx();
+            Metrics.registerMBean("ConnectionPool", pool.getName(), pool, ConnectionPoolMXBean.class);
+            if (replicaRouter != null) {
+                for (ReplicaRouter.Replica replica : replicaRouter.getReplicas()) {
+                    Metrics.registerMBean("ConnectionPool", replica.getPool().getName(), replica.getPool(),
+                            ConnectionPoolMXBean.class);
+                }
+            }
+        }
+        MetricsReporter.start(getLongProperty("metrics.dumpIntervalSeconds", 60));
+    }
+
     /**
      * Initializing the database connection properties
      */
-    private static void initializeConnectionProperties() throws IOException {
+    private static Properties initializeConnectionProperties() throws IOException {
         Properties props = new Properties();
         InputStream input = null;
 
@@ -40,12 +99,21 @@ public class DatabaseConnection {
             // Try multiple paths to find the properties file
             logger.info("Attempting to load database.properties...");
             
-            // Method 1: Try classpath resource (for compiled resources)
-            input = DatabaseConnection.class.getClassLoader()
-                    .getResourceAsStream("main/resources/database.properties");
+            // Method 0: Explicit location, e.g. -Dconfig.path=/path/to/database.properties
+            String configPath = System.getProperty("config.path");
+            if (configPath != null) {
+                input = new FileInputStream(configPath);
+                logger.info("Found database.properties at config.path: " + configPath);
+            }
             
-            if (input != null) {
-                logger.info("Found database.properties in classpath: main/resources/database.properties");
+            // Method 1: Try classpath resource (for compiled resources)
+            if (input == null) {
+                input = DatabaseConnection.class.getClassLoader()
+                        .getResourceAsStream("main/resources/database.properties");
+                
+                if (input != null) {
+                    logger.info("Found database.properties in classpath: main/resources/database.properties");
+                }
             }
             
             // Method 2: Try without main/resources prefix
@@ -129,17 +197,62 @@ public class DatabaseConnection {
         
         logger.info("Database connection properties initialized successfully");
         logger.info("Connecting to: " + dbUrl + " as user: " + dbUsername);
+        return props;
     }
 
     /**
-     * Get a database connection
-     * @return Connection object
+     * Collect jdbc.* keys from database.properties as JDBC driver properties
+     */
+    private static Properties driverProperties(Properties props) {
+        Properties driverProps = new Properties();
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith("jdbc.")) {
+                driverProps.setProperty(key.substring("jdbc.".length()), props.getProperty(key));
+            }
+        }
+        return driverProps;
+    }
+
+    /**
+     * Get a setting from database.properties
+     * @return the value, or defaultValue if the key is not set
+     */
+    public static String getProperty(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    /**
+     * Get an integer setting from database.properties
+     */
+    public static int getIntProperty(String key, int defaultValue) {
+        return PoolConfig.intProperty(properties, key, defaultValue);
+    }
+
+    /**
+     * Get a long setting from database.properties
+     */
+    public static long getLongProperty(String key, long defaultValue) {
+        return PoolConfig.longProperty(properties, key, defaultValue);
+    }
+
+    /**
+     * Get a database connection from the pool, or the connection bound to the
+     * current {@link UnitOfWork} if one is active
+     * @return Connection object; closing it returns the connection to the pool
      * @throws SQLException if connection cannot be obtained
      */
     public static Connection getConnection() throws SQLException {
+        Connection bound = UnitOfWork.currentConnection();
+        if (bound != null) {
+            return bound;
+        }
+        return borrowPrimary();
+    }
+
+    private static Connection borrowPrimary() throws SQLException {
         try {
-            Connection conn = DriverManager.getConnection(dbUrl, dbUsername, dbPassword);
-            logger.info("Database connection established successfully");
+            Connection conn = pool.borrow();
+            connectionEvents.info("Database connection established successfully");
             return conn;
         } catch (SQLException e) {
             logger.log(Level.SEVERE, "Failed to establish database connection", e);
@@ -147,6 +260,109 @@ public class DatabaseConnection {
         }
     }
 
+    /**
+     * Get a connection for read-only work: a replica connection when replicas are configured
+     * and healthy, otherwise the same connection getConnection() would return.
+     * Falls back to the primary within replica.readYourWritesMs of this thread's last write,
+     * while a {@link UnitOfWork} is active, and if no replica can hand out a connection.
+     */
+    public static Connection getReadConnection() throws SQLException {
+        Connection bound = UnitOfWork.currentConnection();
+        if (bound != null) {
+            return bound;
+        }
+        if (replicaRouter == null
+                || System.currentTimeMillis() - lastWriteAt.get().get() < readYourWritesMs) {
+            return borrowPrimary();
+        }
+        ConnectionPool replica = replicaRouter.choose();
+        if (replica == null) {
+            return borrowPrimary();
+        }
+        try {
+            Connection conn = replica.borrow();
+            connectionEvents.info("Read connection established from {}", replica.getName());
+            return conn;
+        } catch (SQLException e) {
+            logger.log(Level.WARNING, "Replica " + replica.getName() + " unavailable, reading from primary", e);
+            replicaRouter.markFailed(replica);
+            return borrowPrimary();
+        }
+    }
+
+    /**
+     * Start this thread's read-your-writes window; called when a unit of work commits and
+     * after DAO writes made outside one
+     */
+    public static void recordWrite() {
+        if (replicaRouter != null) {
+            lastWriteAt.get().set(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Wrap a call to run on another thread so that it shares the calling thread's write
+     * clock: it reads from the primary within the caller's read-your-writes window, and
+     * its writes open that window for the caller
+     */
+    public static <T> Supplier<T> withWriteClock(Supplier<T> call) {
+        AtomicLong callerClock = lastWriteAt.get();
+        return () -> {
+            AtomicLong ownClock = lastWriteAt.get();
+            lastWriteAt.set(callerClock);
+            try {
+                return call.get();
+            } finally {
+                lastWriteAt.set(ownClock);
+            }
+        };
+    }
+
+    /**
+     * Get the replica router, or null if no replicas are configured
+     */
+    public static ReplicaRouter getReplicaRouter() {
+        return replicaRouter;
+    }
+
+    /**
+     * Get the connection pool backing getConnection()
+     */
+    public static ConnectionPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Run a task at the start of shutdown(), while the pool is still open, e.g. to flush
+     * buffered writes
+     */
+    public static void addShutdownTask(Runnable task) {
+        shutdownTasks.add(task);
+    }
+
+    /**
+     * Close the connection pool and all idle connections
+     */
+    public static void shutdown() {
+        for (Runnable task : shutdownTasks) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Shutdown task failed", e);
+            }
+        }
+        if (pool != null) {
+            logger.info("Statement cache: " + pool.getStatementCacheStats());
+            MetricsReporter.stop();
+            logger.info(MetricsReporter.report());
+            if (replicaRouter != null) {
+                replicaRouter.close();
+            }
+            pool.close();
+        }
+        EventLogger.flush();
+    }
+
     /**
      * Test database connectivity
      * @return true if connection is successful
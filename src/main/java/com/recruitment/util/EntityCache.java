@@ -0,0 +1,164 @@
+package main.java.com.recruitment.util;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded read-through cache for entities loaded by ID.
+ *
+ * Entries are evicted least-recently-used once maxSize is reached and expire ttlMs after
+ * loading. Values are copied on the way in and out so callers never share a cached instance.
+ *
+ * DAO write paths call {@link #invalidate} after changing a row. A load that started before
+ * an invalidation is not cached, so a slow reader cannot put back a value read before the
+ * write. Inside a {@link UnitOfWork} the key is invalidated again once the unit completes,
+ * and nothing is cached while the unit is active, because it may still roll back.
+ */
+public class EntityCache<K, V> {
+
+    /**
+     * Loads a value on a miss
+     */
+    @FunctionalInterface
+    public interface Loader<K, V> {
+        /**
+         * @return the value, or null if there is none (nulls are not cached)
+         */
+        V load(K key) throws SQLException;
+    }
+
+    private static class Entry<V> {
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final UnaryOperator<V> copier;
+    private final EntityCacheStats stats;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private long generation;
+
+    /**
+     * @param maxSize maximum number of entries; 0 disables caching
+     * @param ttlMs time to live of an entry; 0 means entries do not expire
+     * @param copier copies a value, e.g. a copy constructor
+     */
+    public EntityCache(String name, int maxSize, long ttlMs, UnaryOperator<V> copier) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMs > 0 ? ttlMs * 1_000_000 : Long.MAX_VALUE;
+        this.copier = copier;
+        this.stats = new EntityCacheStats(name);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > EntityCache.this.maxSize) {
+                    stats.recordEviction();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Create a cache configured by cache.&lt;name&gt;.maxSize and cache.&lt;name&gt;.ttlMs
+     */
+    public static <K, V> EntityCache<K, V> fromProperties(String name, int defaultMaxSize, long defaultTtlMs,
+                                                          UnaryOperator<V> copier) {
+        return new EntityCache<>(name,
+                DatabaseConnection.getIntProperty("cache." + name + ".maxSize", defaultMaxSize),
+                DatabaseConnection.getLongProperty("cache." + name + ".ttlMs", defaultTtlMs),
+                copier);
+    }
+
+    /**
+     * Get a cached value, loading and caching it on a miss
+     */
+    public V get(K key, Loader<K, V> loader) throws SQLException {
+        if (maxSize <= 0) {
+            return loader.load(key);
+        }
+
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.expiresAt < 0) {
+                    stats.recordHit();
+                    return copier.apply(entry.value);
+                }
+                entries.remove(key);
+                stats.recordExpiration();
+            }
+            stats.recordMiss();
+            loadGeneration = generation;
+        }
+
+        V value = loader.load(key);
+        if (value != null && !UnitOfWork.isActive()) {
+            V cached = copier.apply(value);
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(key, new Entry<>(cached, expiry()));
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drop a key after its row changed
+     */
+    public void invalidate(K key) {
+        remove(key);
+        if (UnitOfWork.isActive()) {
+            UnitOfWork.afterCompletion(() -> remove(key));
+        }
+    }
+
+    /**
+     * Drop every entry, e.g. after a write that affects an unknown set of keys
+     */
+    public void invalidateAll() {
+        clear();
+        if (UnitOfWork.isActive()) {
+            UnitOfWork.afterCompletion(this::clear);
+        }
+    }
+
+    private synchronized void remove(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            stats.recordInvalidation();
+        }
+    }
+
+    private synchronized void clear() {
+        generation++;
+        if (!entries.isEmpty()) {
+            stats.recordInvalidation();
+            entries.clear();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public EntityCacheStats getStats() {
+        return stats;
+    }
+
+    private long expiry() {
+        long now = System.nanoTime();
+        return ttlNanos == Long.MAX_VALUE ? now + Long.MAX_VALUE / 2 : now + ttlNanos;
+    }
+}
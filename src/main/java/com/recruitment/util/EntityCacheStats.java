@@ -0,0 +1,52 @@
+package main.java.com.recruitment.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit/miss/eviction counters of one {@link EntityCache}
+ */
+public class EntityCacheStats {
+    private final String name;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    EntityCacheStats(String name) {
+        this.name = name;
+    }
+
+    void recordHit() { hits.increment(); }
+    void recordMiss() { misses.increment(); }
+    void recordEviction() { evictions.increment(); }
+    void recordExpiration() { expirations.increment(); }
+    void recordInvalidation() { invalidations.increment(); }
+
+    // Getters
+    public String getName() { return name; }
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+    public long getExpirations() { return expirations.sum(); }
+    public long getInvalidations() { return invalidations.sum(); }
+
+    public double getHitRate() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total > 0 ? (double) hitCount / total * 100 : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCacheStats{" +
+                "name='" + name + '\'' +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                ", evictions=" + getEvictions() +
+                ", expirations=" + getExpirations() +
+                ", invalidations=" + getInvalidations() +
+                ", hitRate=" + String.format("%.2f", getHitRate()) + "%" +
+                '}';
+    }
+}
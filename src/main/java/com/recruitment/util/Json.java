@@ -0,0 +1,63 @@
+package main.java.com.recruitment.util;
+
+import java.util.Map;
+
+/**
+ * Minimal JSON writer for flat event payloads
+ */
+public final class Json {
+
+    private Json() {}
+
+    /**
+     * JSON object of the entries in iteration order; numbers and booleans are written
+     * as is, null as null and everything else as its toString() in quotes
+     */
+    public static String object(Map<String, ?> fields) {
+        StringBuilder sb = new StringBuilder("{");
+        for (Map.Entry<String, ?> field : fields.entrySet()) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            quote(sb, field.getKey());
+            sb.append(':');
+            value(sb, field.getValue());
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Append a value as written by {@link #object}
+     */
+    public static void value(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            sb.append(value);
+        } else {
+            quote(sb, value.toString());
+        }
+    }
+
+    public static void quote(StringBuilder sb, String text) {
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
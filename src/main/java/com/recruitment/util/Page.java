@@ -0,0 +1,34 @@
+package main.java.com.recruitment.util;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated query.
+ * Pass getNextToken() back to the same DAO method to fetch the following page.
+ */
+public class Page<T> {
+    private final List<T> items;
+    private final String nextToken;
+
+    public Page(List<T> items, String nextToken) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextToken = nextToken;
+    }
+
+    // Getters
+    public List<T> getItems() { return items; }
+    public String getNextToken() { return nextToken; }
+
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+
+    @Override
+    public String toString() {
+        return "Page{" +
+                "items=" + items.size() +
+                ", hasNext=" + hasNext() +
+                '}';
+    }
+}
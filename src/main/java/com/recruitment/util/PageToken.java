@@ -0,0 +1,69 @@
+package main.java.com.recruitment.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination.
+ *
+ * Holds the ORDER BY values of the last row on a page (a timestamp plus the primary key as
+ * tie-breaker), so the next page costs the same no matter how deep the caller has paged.
+ * The token does not record the direction; the query that issued it decides. Newest-first
+ * lists read the next page with
+ * {@code WHERE ts < ? OR (ts = ? AND id < ?) ORDER BY ts DESC, id DESC LIMIT ?}
+ * and oldest-first lists, such as an application's stage history, with
+ * {@code WHERE ts > ? OR (ts = ? AND id > ?) ORDER BY ts ASC, id ASC LIMIT ?}.
+ */
+public final class PageToken {
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final LocalDateTime timestamp;
+    private final long id;
+
+    private PageToken(LocalDateTime timestamp, long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public long getId() { return id; }
+
+    /**
+     * Build the token pointing after the given row
+     */
+    public static String encode(LocalDateTime timestamp, long id) {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token from a previous page
+     * @return the position, or null for the first page
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static PageToken decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new PageToken(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page token: " + token, e);
+        }
+    }
+
+    /**
+     * Validate a requested page size
+     */
+    public static int checkPageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + pageSize);
+        }
+        return pageSize;
+    }
+}
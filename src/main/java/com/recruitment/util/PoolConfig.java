@@ -0,0 +1,67 @@
+package main.java.com.recruitment.util;
+
+import java.util.Properties;
+
+/**
+ * Connection pool settings read from database.properties (pool.* keys)
+ */
+public class PoolConfig {
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMs;
+    private final long maxLifetimeMs;
+    private final long borrowTimeoutMs;
+    private final int validationTimeoutSeconds;
+    private final long validationSkipWindowMs;
+    private final long housekeepingIntervalMs;
+    private final int statementCacheSize;
+
+    public PoolConfig(Properties props) {
+        this.minSize = intProperty(props, "pool.minSize", 2);
+        this.maxSize = intProperty(props, "pool.maxSize", 10);
+        this.idleTimeoutMs = longProperty(props, "pool.idleTimeoutMs", 600_000L);
+        this.maxLifetimeMs = longProperty(props, "pool.maxLifetimeMs", 1_800_000L);
+        this.borrowTimeoutMs = longProperty(props, "pool.borrowTimeoutMs", 30_000L);
+        this.validationTimeoutSeconds = intProperty(props, "pool.validationTimeoutSeconds", 2);
+        this.validationSkipWindowMs = longProperty(props, "pool.validationSkipWindowMs", 500L);
+        this.housekeepingIntervalMs = longProperty(props, "pool.housekeepingIntervalMs", 30_000L);
+        this.statementCacheSize = intProperty(props, "pool.statementCacheSize", 64);
+
+        if (maxSize < 1 || minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size: minSize=" + minSize + ", maxSize=" + maxSize);
+        }
+    }
+
+    static int intProperty(Properties props, String key, int defaultValue) {
+        String value = props.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    static long longProperty(Properties props, String key, long defaultValue) {
+        String value = props.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    // Getters
+    public int getMinSize() { return minSize; }
+    public int getMaxSize() { return maxSize; }
+    public long getIdleTimeoutMs() { return idleTimeoutMs; }
+    public long getMaxLifetimeMs() { return maxLifetimeMs; }
+    public long getBorrowTimeoutMs() { return borrowTimeoutMs; }
+    public int getValidationTimeoutSeconds() { return validationTimeoutSeconds; }
+    public long getValidationSkipWindowMs() { return validationSkipWindowMs; }
+    public long getHousekeepingIntervalMs() { return housekeepingIntervalMs; }
+    public int getStatementCacheSize() { return statementCacheSize; }
+
+    @Override
+    public String toString() {
+        return "PoolConfig{" +
+                "minSize=" + minSize +
+                ", maxSize=" + maxSize +
+                ", idleTimeoutMs=" + idleTimeoutMs +
+                ", maxLifetimeMs=" + maxLifetimeMs +
+                ", borrowTimeoutMs=" + borrowTimeoutMs +
+                ", statementCacheSize=" + statementCacheSize +
+                '}';
+    }
+}
@@ -0,0 +1,189 @@
+package main.java.com.recruitment.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * A physical connection owned by a {@link ConnectionPool}.
+ *
+ * Callers never see the physical connection directly: every borrow hands out a fresh
+ * proxy handle whose close() returns the connection to the pool instead of closing it.
+ * prepareStatement() calls are served from a per-connection {@link StatementCache}, and
+ * statements are timed by the pool's {@link SlowQueryLog} when one is configured.
+ */
+class PooledConnection {
+    private final ConnectionPool pool;
+    private final Connection physical;
+    private final StatementCache statementCache;
+    private final long createdAt;
+    private volatile long lastUsedAt;
+    private volatile boolean broken;
+
+    // Session state changed by the current borrower, reset on return
+    private boolean autoCommitChanged;
+    private boolean readOnlyChanged;
+    private boolean isolationChanged;
+    private int defaultIsolation;
+
+    PooledConnection(ConnectionPool pool, Connection physical, int statementCacheSize,
+                     StatementCacheStats statementCacheStats) throws SQLException {
+        this.pool = pool;
+        this.physical = physical;
+        this.statementCache = statementCacheSize > 0
+                ? new StatementCache(this, statementCacheSize, statementCacheStats)
+                : null;
+        this.createdAt = System.currentTimeMillis();
+        this.lastUsedAt = createdAt;
+        this.defaultIsolation = physical.getTransactionIsolation();
+    }
+
+    Connection getPhysical() { return physical; }
+    long getCreatedAt() { return createdAt; }
+    long getLastUsedAt() { return lastUsedAt; }
+    boolean isBroken() { return broken; }
+
+    boolean isExpired(long now, long maxLifetimeMs) {
+        return maxLifetimeMs > 0 && now - createdAt >= maxLifetimeMs;
+    }
+
+    /**
+     * Create a new caller-facing handle for this connection
+     */
+    Connection newHandle() {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new Handle());
+    }
+
+    /**
+     * Restore the session to the state the pool handed it out in
+     */
+    void reset() throws SQLException {
+        if (autoCommitChanged) {
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            autoCommitChanged = false;
+        }
+        if (readOnlyChanged) {
+            physical.setReadOnly(false);
+            readOnlyChanged = false;
+        }
+        if (isolationChanged) {
+            physical.setTransactionIsolation(defaultIsolation);
+            isolationChanged = false;
+        }
+        physical.clearWarnings();
+        lastUsedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Mark this connection broken if the error means the session is unusable
+     */
+    void checkFatal(SQLException e) {
+        if (isFatal(e)) {
+            broken = true;
+        }
+    }
+
+    void closePhysical() {
+        if (statementCache != null) {
+            statementCache.clear();
+        }
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            // Connection is being discarded anyway
+        }
+    }
+
+    /**
+     * Proxy handler backing each borrowed handle
+     */
+    private class Handle implements InvocationHandler {
+        private boolean closed;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        pool.release(PooledConnection.this);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + physical + (closed ? ", closed]" : "]");
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Connection is closed", "08003");
+            }
+
+            switch (name) {
+                case "setAutoCommit" -> autoCommitChanged = true;
+                case "setReadOnly" -> readOnlyChanged = true;
+                case "setTransactionIsolation" -> isolationChanged = true;
+                default -> { }
+            }
+
+            try {
+                Object result;
+                if (statementCache != null && name.equals("prepareStatement") && isCacheable(args)) {
+                    int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+                    result = statementCache.prepare(physical, (String) args[0], autoGeneratedKeys);
+                } else {
+                    result = method.invoke(physical, args);
+                }
+
+                SlowQueryLog slowQueryLog = pool.getSlowQueryLog();
+                if (slowQueryLog != null && result instanceof Statement statement) {
+                    String sql = name.startsWith("prepare") ? (String) args[0] : null;
+                    return SlowQueryStatement.wrap(statement, method.getReturnType(), sql, slowQueryLog);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sqlException) {
+                    checkFatal(sqlException);
+                }
+                throw cause;
+            } catch (SQLException e) {
+                checkFatal(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Only prepareStatement(sql) and prepareStatement(sql, autoGeneratedKeys) are cached;
+     * variants with cursor type or column lists are rare and always prepared fresh
+     */
+    private static boolean isCacheable(Object[] args) {
+        return args.length == 1 || (args.length == 2 && args[1] instanceof Integer);
+    }
+
+    /**
+     * SQLState class 08 means the connection itself is unusable
+     */
+    private static boolean isFatal(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && state.startsWith("08");
+    }
+}
@@ -0,0 +1,226 @@
+package main.java.com.recruitment.util;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Routes read-only work to replica connection pools.
+ *
+ * Replicas are configured as db.replica.&lt;n&gt;.url/username/password (n = 1, 2, ...; username
+ * and password default to the primary's) and share the pool.* settings. A replica is chosen
+ * round-robin or by fewest borrowed connections (replica.selection). A background check runs
+ * SHOW REPLICA STATUS every replica.lagCheckIntervalMs and takes replicas whose lag exceeds
+ * replica.maxLagSeconds, or whose replication is stopped, out of rotation until they catch up.
+ * A replica that is not replicating at all (empty status) is treated as current. A replica
+ * that fails to hand out a connection is taken out of rotation until the next lag check
+ * reaches it, or, with the lag check off, for replica.lagCheckIntervalMs before the next
+ * read tries it again.
+ */
+public class ReplicaRouter {
+    private static final Logger logger = Logger.getLogger(ReplicaRouter.class.getName());
+
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_LOADED
+    }
+
+    /**
+     * A replica pool and its last observed lag
+     */
+    public static class Replica {
+        private final ConnectionPool pool;
+        private volatile long lagSeconds;
+        private volatile boolean healthy = true;
+        private volatile long retryAt;
+
+        Replica(ConnectionPool pool) {
+            this.pool = pool;
+        }
+
+        public ConnectionPool getPool() { return pool; }
+        public long getLagSeconds() { return lagSeconds; }
+        public boolean isHealthy() { return healthy; }
+
+        @Override
+        public String toString() {
+            return pool.getName() + "{healthy=" + healthy + ", lagSeconds=" + lagSeconds
+                    + ", active=" + pool.getActiveConnections() + "}";
+        }
+    }
+
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final long maxLagSeconds;
+    private final long retryMs;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+
+    private ReplicaRouter(List<Replica> replicas, Selection selection, long maxLagSeconds, long checkIntervalMs) {
+        this.replicas = Collections.unmodifiableList(replicas);
+        this.selection = selection;
+        this.maxLagSeconds = maxLagSeconds;
+        this.retryMs = checkIntervalMs > 0 ? checkIntervalMs : 5_000;
+
+        if (maxLagSeconds > 0 && checkIntervalMs > 0) {
+            this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-lag-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.lagChecker.scheduleWithFixedDelay(this::checkLag, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.lagChecker = null;
+        }
+    }
+
+    /**
+     * Create replica pools from db.replica.* properties
+     * @return router, or null if no replica is configured
+     */
+    public static ReplicaRouter create(Properties props, String defaultUsername, String defaultPassword,
+                                       Properties driverProperties) {
+        List<Replica> replicas = new ArrayList<>();
+        PoolConfig config = new PoolConfig(props);
+        for (int n = 1; props.getProperty("db.replica." + n + ".url") != null; n++) {
+            String prefix = "db.replica." + n + ".";
+            ConnectionPool pool = new ConnectionPool("replica" + n, props.getProperty(prefix + "url"),
+                    props.getProperty(prefix + "username", defaultUsername),
+                    props.getProperty(prefix + "password", defaultPassword),
+                    config, driverProperties);
+            replicas.add(new Replica(pool));
+        }
+        if (replicas.isEmpty()) {
+            return null;
+        }
+
+        Selection selection = Selection.valueOf(
+                props.getProperty("replica.selection", "round_robin").trim().toUpperCase());
+        ReplicaRouter router = new ReplicaRouter(replicas, selection,
+                PoolConfig.longProperty(props, "replica.maxLagSeconds", 5),
+                PoolConfig.longProperty(props, "replica.lagCheckIntervalMs", 5_000));
+        logger.info("Routing reads to " + replicas.size() + " replica(s) using " + selection);
+        return router;
+    }
+
+    /**
+     * Pick a healthy replica
+     * @return replica pool, or null if every replica is lagging or down
+     */
+    public ConnectionPool choose() {
+        int size = replicas.size();
+        if (selection == Selection.LEAST_LOADED) {
+            Replica best = null;
+            for (Replica replica : replicas) {
+                if (isAvailable(replica) && (best == null
+                        || replica.pool.getActiveConnections() < best.pool.getActiveConnections())) {
+                    best = replica;
+                }
+            }
+            return best == null ? null : best.pool;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (isAvailable(replica)) {
+                return replica.pool;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Without a lag check, a replica marked failed comes back into rotation once its
+     * back-off has passed; the next borrow from it is the probe
+     */
+    private boolean isAvailable(Replica replica) {
+        if (replica.healthy) {
+            return true;
+        }
+        if (lagChecker == null && System.currentTimeMillis() >= replica.retryAt) {
+            replica.healthy = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Mark a replica down after it failed to hand out a connection; the next lag check, or
+     * the back-off when lag checking is off, brings it back once it answers again
+     */
+    void markFailed(ConnectionPool pool) {
+        for (Replica replica : replicas) {
+            if (replica.pool == pool) {
+                replica.retryAt = System.currentTimeMillis() + retryMs;
+                replica.healthy = false;
+            }
+        }
+    }
+
+    private void checkLag() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try {
+                long lag = readLag(replica.pool);
+                replica.lagSeconds = lag;
+                replica.healthy = lag >= 0 && lag <= maxLagSeconds;
+            } catch (SQLException | RuntimeException e) {
+                replica.healthy = false;
+                logger.log(Level.FINE, "Replica lag check failed for " + replica.pool.getName(), e);
+            }
+            if (wasHealthy != replica.healthy) {
+                logger.warning("Replica " + replica + (replica.healthy ? " back in rotation" : " out of rotation"));
+            }
+        }
+    }
+
+    /**
+     * @return seconds behind the source, 0 if the server is not a replica, -1 if replication is stopped
+     */
+    private static long readLag(ConnectionPool pool) throws SQLException {
+        try (Connection conn = pool.borrow();
+             Statement stmt = conn.createStatement()) {
+            ResultSet rs;
+            String column;
+            try {
+                rs = stmt.executeQuery("SHOW REPLICA STATUS");
+                column = "Seconds_Behind_Source";
+            } catch (SQLException e) {
+                // MySQL before 8.0.22
+                rs = stmt.executeQuery("SHOW SLAVE STATUS");
+                column = "Seconds_Behind_Master";
+            }
+            try (ResultSet status = rs) {
+                if (!status.next()) {
+                    return 0;
+                }
+                long lag = status.getLong(column);
+                return status.wasNull() ? -1 : lag;
+            }
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void close() {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+    }
+}
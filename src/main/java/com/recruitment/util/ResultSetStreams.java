@@ -0,0 +1,156 @@
+package main.java.com.recruitment.util;
+
+import main.java.com.recruitment.metrics.Timer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily evaluated query results backed by a streaming server-side result.
+ *
+ * With stream.fetchSize=0 (the default) MySQL row streaming is used: the driver reads one row
+ * at a time off the socket. A positive stream.fetchSize uses cursor fetch instead, which needs
+ * jdbc.useCursorFetch=true. Either way heap use stays flat however many rows the query returns.
+ *
+ * The stream holds a pooled connection until it is closed or fully consumed, so always use it
+ * in try-with-resources. While a streaming result is open, MySQL cannot run other statements
+ * on the same connection, so do not issue other DAO calls from inside the stream pipeline of
+ * a {@link UnitOfWork}.
+ */
+public final class ResultSetStreams {
+    private static final Logger logger = Logger.getLogger(ResultSetStreams.class.getName());
+
+    /**
+     * Binds query parameters
+     */
+    @FunctionalInterface
+    public interface StatementBinder {
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    private ResultSetStreams() {}
+
+    /**
+     * Open a query as a Stream
+     * @throws SQLException if the query cannot be started
+     */
+    public static <T> Stream<T> stream(String sql, StatementBinder binder, RowMapper<T> mapper) throws SQLException {
+        return open(DatabaseConnection.getReadConnection(), sql, binder, mapper, null);
+    }
+
+    /**
+     * Open a query as a Stream timed by sample: the sample stops when the stream is closed
+     * or exhausted, so it covers reading the rows, and records how many rows were read. A
+     * read error marks it failed. If the query cannot be started the caller still owns the
+     * sample.
+     */
+    public static <T> Stream<T> stream(String sql, StatementBinder binder, RowMapper<T> mapper, Timer.Sample sample)
+            throws SQLException {
+        return open(DatabaseConnection.getReadConnection(), sql, binder, mapper, sample);
+    }
+
+    /**
+     * Open a query as a Stream on a connection the caller has already used, e.g. to read a
+     * bound that the streamed rows must be consistent with; the stream takes ownership of the
+     * connection and closes it with itself, also if the query cannot be started
+     */
+    public static <T> Stream<T> stream(Connection conn, String sql, StatementBinder binder, RowMapper<T> mapper)
+            throws SQLException {
+        return open(conn, sql, binder, mapper, null);
+    }
+
+    private static <T> Stream<T> open(Connection conn, String sql, StatementBinder binder, RowMapper<T> mapper,
+                                      Timer.Sample sample) throws SQLException {
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            int fetchSize = DatabaseConnection.getIntProperty("stream.fetchSize", 0);
+            stmt.setFetchSize(fetchSize > 0 ? fetchSize : Integer.MIN_VALUE);
+            binder.bind(stmt);
+            rs = stmt.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            closeAll(rs, stmt, conn);
+            throw e;
+        }
+
+        Resources resources = new Resources(conn, stmt, rs, sample);
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (resources.closed) {
+                    return false;
+                }
+                try {
+                    if (!resources.rs.next()) {
+                        resources.close();
+                        return false;
+                    }
+                    T row = mapper.map(resources.rs);
+                    resources.rows++;
+                    action.accept(row);
+                    return true;
+                } catch (SQLException e) {
+                    if (sample != null) {
+                        sample.failed();
+                    }
+                    resources.close();
+                    throw new UncheckedSQLException("Error reading streamed result", e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(resources::close);
+    }
+
+    /**
+     * JDBC resources and timing sample owned by one stream; released once
+     */
+    private static class Resources {
+        private final Connection conn;
+        private final PreparedStatement stmt;
+        private final ResultSet rs;
+        private final Timer.Sample sample;
+        private long rows;
+        private boolean closed;
+
+        Resources(Connection conn, PreparedStatement stmt, ResultSet rs, Timer.Sample sample) {
+            this.conn = conn;
+            this.stmt = stmt;
+            this.rs = rs;
+            this.sample = sample;
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                closeAll(rs, stmt, conn);
+                if (sample != null) {
+                    sample.rows(rows);
+                    sample.stop();
+                }
+            }
+        }
+    }
+
+    private static void closeAll(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "Failed to close streaming resource", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package main.java.com.recruitment.util;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * RowMapper that resolves its column indexes from the ResultSet metadata on the first row
+ * and reads every row by index. Create one instance per query; not thread-safe.
+ */
+public abstract class SlotRowMapper<T> implements RowMapper<T> {
+    private ResultSet resolvedFor;
+
+    @Override
+    public final T map(ResultSet rs) throws SQLException {
+        if (rs != resolvedFor) {
+            resolve(ColumnSlots.of(rs));
+            resolvedFor = rs;
+        }
+        return mapRow(rs);
+    }
+
+    /**
+     * Look up the column indexes used by {@link #mapRow}
+     */
+    protected abstract void resolve(ColumnSlots slots) throws SQLException;
+
+    protected abstract T mapRow(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,183 @@
+package main.java.com.recruitment.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Records statements slower than slowQuery.thresholdMs, with their bound parameters and
+ * elapsed time, to a rolling log file (slowQuery.file, rotated at slowQuery.maxFileBytes,
+ * keeping slowQuery.maxFiles files).
+ *
+ * For each slow statement an EXPLAIN FORMAT=JSON is run in the background with the same
+ * parameters, at most once per SQL text per slowQuery.explainIntervalMs, and written to the
+ * log as a PLAN line carrying the same entry number as the SLOW line it belongs to.
+ *
+ * Timing covers the execute call only; rows read later from a streaming ResultSet are not
+ * included.
+ */
+public class SlowQueryLog {
+    private static final Logger logger = Logger.getLogger(SlowQueryLog.class.getName());
+    private static final ThreadLocal<Boolean> explaining = ThreadLocal.withInitial(() -> false);
+
+    private final ConnectionPool pool;
+    private final long thresholdNanos;
+    private final long explainIntervalNanos;
+    private final int maxParameterLength;
+    private final Logger slowLogger;
+    private final ThreadPoolExecutor explainExecutor;
+    private final Map<String, Long> lastExplained = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private SlowQueryLog(ConnectionPool pool, Properties props) throws IOException {
+        this.pool = pool;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(PoolConfig.longProperty(props, "slowQuery.thresholdMs", 500));
+        this.explainIntervalNanos = TimeUnit.MILLISECONDS.toNanos(
+                PoolConfig.longProperty(props, "slowQuery.explainIntervalMs", 600_000));
+        this.maxParameterLength = PoolConfig.intProperty(props, "slowQuery.maxParameterLength", 200);
+
+        String file = props.getProperty("slowQuery.file", "logs/slow-query.%g.log");
+        File parent = new File(file).getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        FileHandler handler = new FileHandler(file,
+                PoolConfig.intProperty(props, "slowQuery.maxFileBytes", 10 * 1024 * 1024),
+                PoolConfig.intProperty(props, "slowQuery.maxFiles", 5), true);
+        handler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + System.lineSeparator();
+            }
+        });
+        this.slowLogger = Logger.getLogger(SlowQueryLog.class.getName() + ".file");
+        this.slowLogger.setUseParentHandlers(false);
+        this.slowLogger.addHandler(handler);
+
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(100), runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * Create the log for a pool, or return null if slowQuery.thresholdMs is 0 or less
+     */
+    public static SlowQueryLog create(ConnectionPool pool, Properties props) throws IOException {
+        if (PoolConfig.longProperty(props, "slowQuery.thresholdMs", 500) <= 0) {
+            return null;
+        }
+        return new SlowQueryLog(pool, props);
+    }
+
+    public long getThresholdNanos() {
+        return thresholdNanos;
+    }
+
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos && !explaining.get();
+    }
+
+    /**
+     * Record a statement that took longer than the threshold
+     * @param parameters bound parameters by index (index 0 unused), may be empty
+     */
+    void record(String sql, Object[] parameters, int batchSize, long elapsedNanos) {
+        long entry = sequence.incrementAndGet();
+        String shape = sql.replaceAll("\\s+", " ").trim();
+
+        StringBuilder line = new StringBuilder();
+        line.append("SLOW #").append(entry).append(' ').append(LocalDateTime.now())
+                .append(String.format(Locale.ROOT, " %.1f ms", elapsedNanos / 1_000_000.0));
+        if (batchSize > 0) {
+            line.append(" batch=").append(batchSize);
+        }
+        line.append(" | ").append(shape).append(" | params=[");
+        for (int i = 1; i < parameters.length; i++) {
+            if (i > 1) {
+                line.append(", ");
+            }
+            line.append(formatParameter(parameters[i]));
+        }
+        line.append(']');
+        slowLogger.info(line.toString());
+
+        if (shouldExplain(shape)) {
+            explainExecutor.execute(() -> explain(entry, sql, parameters));
+        }
+    }
+
+    public void close() {
+        explainExecutor.shutdownNow();
+        for (java.util.logging.Handler handler : slowLogger.getHandlers()) {
+            handler.close();
+            slowLogger.removeHandler(handler);
+        }
+    }
+
+    private boolean shouldExplain(String shape) {
+        String verb = shape.length() >= 6 ? shape.substring(0, 6).toUpperCase(Locale.ROOT) : "";
+        if (!verb.equals("SELECT") && !verb.equals("UPDATE") && !verb.equals("DELETE") && !verb.equals("INSERT")) {
+            return false;
+        }
+        long now = System.nanoTime();
+        Long previous = lastExplained.putIfAbsent(shape, now);
+        if (previous == null) {
+            return true;
+        }
+        return now - previous >= explainIntervalNanos && lastExplained.replace(shape, previous, now);
+    }
+
+    private void explain(long entry, String sql, Object[] parameters) {
+        explaining.set(true);
+        try (Connection conn = pool.borrow();
+             PreparedStatement stmt = conn.prepareStatement("EXPLAIN FORMAT=JSON " + sql)) {
+
+            for (int i = 1; i < parameters.length; i++) {
+                stmt.setObject(i, parameters[i]);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                String plan = rs.next() ? rs.getString(1) : null;
+                slowLogger.info("PLAN #" + entry + " " + (plan != null ? plan.replaceAll("\\s+", " ") : "empty"));
+            }
+
+        } catch (SQLException e) {
+            logger.log(Level.FINE, "EXPLAIN failed for slow query #" + entry, e);
+            slowLogger.info("PLAN #" + entry + " unavailable: " + e.getMessage());
+        } finally {
+            explaining.set(false);
+        }
+    }
+
+    private String formatParameter(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof InputStream || value instanceof Reader) {
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+        String text = value instanceof String ? "'" + value + "'" : String.valueOf(value);
+        return text.length() > maxParameterLength ? text.substring(0, maxParameterLength) + "..." : text;
+    }
+}
@@ -0,0 +1,122 @@
+package main.java.com.recruitment.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Statement proxy that captures bound parameters and reports slow executions to a
+ * {@link SlowQueryLog}.
+ *
+ * Every call through the proxy, including each setXxx, already passes its arguments boxed
+ * in an Object[]; the handler keeps a reference to each bound value by parameter index so
+ * the values are at hand if the execution turns out slow. That index array is allocated on
+ * the first bind, sized from the statement's placeholders, and reused for re-executions;
+ * plain Statements never allocate it. The values are only copied out for slow executions.
+ */
+class SlowQueryStatement implements InvocationHandler {
+    private final Statement target;
+    private final String preparedSql;
+    private final SlowQueryLog log;
+    private Object[] parameters;
+    private int parameterCount;
+    private int batchSize;
+
+    private SlowQueryStatement(Statement target, String preparedSql, SlowQueryLog log) {
+        this.target = target;
+        this.preparedSql = preparedSql;
+        this.log = log;
+    }
+
+    /**
+     * Wrap a statement returned by the connection
+     * @param preparedSql SQL of a PreparedStatement, or null for a plain Statement
+     */
+    static Statement wrap(Statement statement, Class<?> type, String preparedSql, SlowQueryLog log) {
+        return (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                new SlowQueryStatement(statement, preparedSql, log));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        switch (name) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "clearParameters":
+                if (parameters != null) {
+                    Arrays.fill(parameters, 0, parameterCount + 1, null);
+                }
+                parameterCount = 0;
+                break;
+            case "addBatch":
+                batchSize++;
+                break;
+            case "clearBatch":
+                batchSize = 0;
+                break;
+            default:
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index
+                        && method.getDeclaringClass() == PreparedStatement.class) {
+                    bind(index, name.equals("setNull") ? null : args[1]);
+                }
+                break;
+        }
+
+        if (!name.startsWith("execute")) {
+            return invokeTarget(method, args);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return invokeTarget(method, args);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (log.isSlow(elapsed)) {
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String text ? text : "?";
+                Object[] bound = parameters != null ? Arrays.copyOf(parameters, parameterCount + 1) : new Object[1];
+                log.record(sql, bound, name.equals("executeBatch") ? batchSize : 0, elapsed);
+            }
+            if (name.equals("executeBatch")) {
+                batchSize = 0;
+            }
+        }
+    }
+
+    private void bind(int index, Object value) {
+        if (parameters == null) {
+            parameters = new Object[Math.max(index, placeholders(preparedSql)) + 1];
+        } else if (index >= parameters.length) {
+            parameters = Arrays.copyOf(parameters, Math.max(index + 1, parameters.length * 2));
+        }
+        parameters[index] = value;
+        parameterCount = Math.max(parameterCount, index);
+    }
+
+    private static int placeholders(String sql) {
+        int count = 0;
+        if (sql != null) {
+            for (int i = 0; i < sql.length(); i++) {
+                if (sql.charAt(i) == '?') {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
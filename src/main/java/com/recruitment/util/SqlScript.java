@@ -0,0 +1,72 @@
+package main.java.com.recruitment.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the statements of a .sql file such as schema.sql or sample_data.sql.
+ * Statements end with ';' at the end of a line; lines starting with '--' are comments.
+ */
+public final class SqlScript {
+    private SqlScript() {}
+
+    /**
+     * Load a script from src/main/resources or, failing that, the classpath
+     */
+    public static String load(String name) throws IOException {
+        Path path = Paths.get("src/main/resources", name);
+        if (Files.isReadable(path)) {
+            return Files.readString(path, StandardCharsets.UTF_8);
+        }
+        try (InputStream input = SqlScript.class.getClassLoader().getResourceAsStream("main/resources/" + name)) {
+            if (input == null) {
+                throw new IOException("SQL script not found: " + name);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Split a script into statements
+     */
+    public static List<String> statements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                String sql = current.toString().trim();
+                statements.add(sql.substring(0, sql.length() - 1));
+                current.setLength(0);
+            }
+        }
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+
+    /**
+     * Execute every statement of a script on the given connection
+     */
+    public static void execute(Connection conn, String script) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : statements(script)) {
+                stmt.execute(sql);
+            }
+        }
+    }
+}
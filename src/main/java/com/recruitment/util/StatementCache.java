@@ -0,0 +1,200 @@
+package main.java.com.recruitment.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LRU cache of prepared statements for a single pooled connection, keyed by SQL text.
+ *
+ * DAOs still close their statements in try-with-resources; closing a cached statement only
+ * clears its parameters and makes it available to the next prepareStatement() with the same SQL.
+ * A pooled connection is used by one thread at a time, so the cache itself is not thread-safe.
+ */
+class StatementCache {
+    private final PooledConnection owner;
+    private final int maxSize;
+    private final StatementCacheStats stats;
+    private final LinkedHashMap<Key, Entry> entries;
+
+    StatementCache(PooledConnection owner, int maxSize, StatementCacheStats stats) {
+        this.owner = owner;
+        this.maxSize = maxSize;
+        this.stats = stats;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() <= StatementCache.this.maxSize) {
+                    return false;
+                }
+                stats.recordEviction();
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Get a prepared statement for the given SQL, reusing a cached one when it is free
+     */
+    PreparedStatement prepare(Connection physical, String sql, int autoGeneratedKeys) throws SQLException {
+        Key key = new Key(sql, autoGeneratedKeys);
+        Entry entry = entries.get(key);
+
+        if (entry != null && !entry.inUse) {
+            stats.recordHit();
+            return entry.checkout();
+        }
+
+        stats.recordMiss();
+        PreparedStatement statement = physical.prepareStatement(sql, autoGeneratedKeys);
+        if (entry != null) {
+            // Same SQL is already open on this connection (nested use); hand out an uncached statement
+            return statement;
+        }
+
+        entry = new Entry(statement);
+        entries.put(key, entry);
+        return entry.checkout();
+    }
+
+    /**
+     * Close every cached statement; statements still in use are closed when they are returned
+     */
+    void clear() {
+        List<Entry> removed = new ArrayList<>(entries.values());
+        entries.clear();
+        for (Entry entry : removed) {
+            entry.evict();
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private record Key(String sql, int autoGeneratedKeys) { }
+
+    /**
+     * A cached physical statement and whether a caller currently holds it
+     */
+    private class Entry {
+        private final PreparedStatement statement;
+        private boolean inUse;
+        private boolean evicted;
+
+        Entry(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        PreparedStatement checkout() {
+            inUse = true;
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class },
+                    new Handle(this));
+        }
+
+        void checkin(Handle handle) {
+            inUse = false;
+            if (evicted) {
+                closeQuietly();
+                return;
+            }
+            try {
+                statement.clearParameters();
+                if (handle.batched) {
+                    statement.clearBatch();
+                }
+                if (handle.limitsChanged) {
+                    statement.setFetchSize(0);
+                    statement.setMaxRows(0);
+                    statement.setQueryTimeout(0);
+                }
+            } catch (SQLException e) {
+                entries.values().remove(this);
+                closeQuietly();
+            }
+        }
+
+        void evict() {
+            evicted = true;
+            if (!inUse) {
+                closeQuietly();
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                // Statement is being discarded anyway
+            }
+        }
+    }
+
+    /**
+     * Proxy handler for a checked-out cached statement
+     */
+    private class Handle implements InvocationHandler {
+        private final Entry entry;
+        private boolean closed;
+        private boolean batched;
+        private boolean limitsChanged;
+
+        Handle(Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        entry.checkin(this);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || entry.statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + entry.statement + "]";
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+
+            switch (name) {
+                case "addBatch" -> batched = true;
+                case "setFetchSize", "setMaxRows", "setQueryTimeout" -> limitsChanged = true;
+                default -> { }
+            }
+
+            try {
+                return method.invoke(entry.statement, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sqlException) {
+                    owner.checkFatal(sqlException);
+                }
+                throw cause;
+            }
+        }
+    }
+}
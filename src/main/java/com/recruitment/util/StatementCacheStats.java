@@ -0,0 +1,37 @@
+package main.java.com.recruitment.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit/miss/eviction counters shared by the statement caches of one connection pool
+ */
+public class StatementCacheStats {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    void recordHit() { hits.increment(); }
+    void recordMiss() { misses.increment(); }
+    void recordEviction() { evictions.increment(); }
+
+    // Getters
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+
+    public double getHitRate() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total > 0 ? (double) hitCount / total * 100 : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementCacheStats{" +
+                "hits=" + getHits() +
+                ", misses=" + getMisses() +
+                ", evictions=" + getEvictions() +
+                ", hitRate=" + String.format("%.2f", getHitRate()) + "%" +
+                '}';
+    }
+}
@@ -0,0 +1,132 @@
+package main.java.com.recruitment.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel for expiring many items at their own deadlines.
+ *
+ * Time is cut into ticks of tickMs; an item is put in bucket (deadline tick % wheel size),
+ * so scheduling and cancelling are O(1). {@link #advance} walks the buckets of the ticks
+ * that have passed and expires the items whose deadline tick is among them; items further
+ * away than one turn of the wheel stay in their bucket for later turns. An item expires
+ * after its deadline, at most one tick late, never early. The wheel has no thread of its
+ * own: the owner calls advance, e.g. on every access. Not thread-safe.
+ */
+public final class TimingWheel<T> {
+
+    /**
+     * Handle of a scheduled item, used to cancel it
+     */
+    public static final class Timeout<T> {
+        private final T item;
+        private final long deadlineTick;
+        private final int bucket;
+
+        private Timeout(T item, long deadlineTick, int bucket) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+            this.bucket = bucket;
+        }
+
+        public T getItem() { return item; }
+    }
+
+    private final long tickMs;
+    private final Set<Timeout<T>>[] buckets;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMs length of a tick
+     * @param wheelSize number of buckets; one turn of the wheel covers tickMs * wheelSize
+     * @param nowMs current time in epoch milliseconds
+     */
+    public TimingWheel(long tickMs, int wheelSize, long nowMs) {
+        if (tickMs < 1 || wheelSize < 1) {
+            throw new IllegalArgumentException("Tick and wheel size must be positive: " + tickMs + ", " + wheelSize);
+        }
+        this.tickMs = tickMs;
+        this.buckets = newBuckets(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new LinkedHashSet<>();
+        }
+        this.currentTick = nowMs / tickMs;
+    }
+
+    // Java cannot create a generic array; the raw array only ever holds Set<Timeout<T>>
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Set<Timeout<T>>[] newBuckets(int wheelSize) {
+        return new Set[wheelSize];
+    }
+
+    /**
+     * Schedule an item to expire at deadlineMs; a deadline already passed expires with the current tick
+     */
+    public Timeout<T> schedule(T item, long deadlineMs) {
+        long deadlineTick = Math.max(deadlineMs / tickMs, currentTick);
+        Timeout<T> timeout = new Timeout<>(item, deadlineTick, (int) (deadlineTick % buckets.length));
+        buckets[timeout.bucket].add(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * @return false if the item already expired or was cancelled
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (buckets[timeout.bucket].remove(timeout)) {
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Expire the items of every tick that ended before nowMs
+     * @return number of items expired
+     */
+    public int advance(long nowMs, Consumer<T> expired) {
+        long nowTick = nowMs / tickMs;
+        if (nowTick <= currentTick) {
+            return 0;
+        }
+        int count = 0;
+        if (nowTick - currentTick >= buckets.length) {
+            // Slept for at least a whole turn: one pass over every bucket does it
+            for (Set<Timeout<T>> bucket : buckets) {
+                count += expire(bucket, nowTick - 1, expired);
+            }
+        } else {
+            for (long tick = currentTick; tick < nowTick; tick++) {
+                count += expire(buckets[(int) (tick % buckets.length)], tick, expired);
+            }
+        }
+        currentTick = nowTick;
+        return count;
+    }
+
+    private int expire(Set<Timeout<T>> bucket, long upToTick, Consumer<T> expired) {
+        int count = 0;
+        Iterator<Timeout<T>> timeouts = bucket.iterator();
+        while (timeouts.hasNext()) {
+            Timeout<T> timeout = timeouts.next();
+            if (timeout.deadlineTick <= upToTick) {
+                timeouts.remove();
+                size--;
+                count++;
+                expired.accept(timeout.item);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Number of items scheduled and not yet expired or cancelled
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,19 @@
+package main.java.com.recruitment.util;
+
+import java.sql.SQLException;
+
+/**
+ * SQLException raised while consuming a lazily evaluated result, e.g. inside a Stream
+ */
+public class UncheckedSQLException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public UncheckedSQLException(String message, SQLException cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
@@ -0,0 +1,240 @@
+package main.java.com.recruitment.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Transaction template that binds one pooled connection to the current thread.
+ *
+ * While a unit of work is active, DatabaseConnection.getConnection() returns the bound
+ * connection, so every DAO call made inside the work joins the same transaction without
+ * any change to the DAO code. The transaction commits once when the outermost unit of
+ * work completes and rolls back if the work throws or any statement fails, even when the
+ * DAO swallowed the SQLException and returned false/-1.
+ *
+ * <pre>
+ * long offerId = UnitOfWork.execute(() -> {
+ *     long id = offerDAO.createOffer(applicationId, salary, OfferStatus.PENDING);
+ *     applicationDAO.updateApplicationStatus(applicationId, ApplicationStatus.OFFER);
+ *     return id;
+ * });
+ * </pre>
+ */
+public final class UnitOfWork {
+    private static final Logger logger = Logger.getLogger(UnitOfWork.class.getName());
+    private static final ThreadLocal<UnitOfWork> current = new ThreadLocal<>();
+
+    private final Connection connection;
+    private final Connection sharedHandle;
+    private boolean rollbackOnly;
+    private final List<Runnable> completionActions = new ArrayList<>();
+    private final List<Runnable> commitActions = new ArrayList<>();
+
+    /**
+     * Work executed inside a unit of work
+     */
+    @FunctionalInterface
+    public interface Work<T> {
+        T execute() throws SQLException;
+    }
+
+    /**
+     * Work executed inside a unit of work that produces no result
+     */
+    @FunctionalInterface
+    public interface VoidWork {
+        void execute() throws SQLException;
+    }
+
+    private UnitOfWork(Connection connection) {
+        this.connection = connection;
+        this.sharedHandle = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new SharedConnectionHandler());
+    }
+
+    /**
+     * Run work in a transaction, joining the current unit of work if one is active
+     * @return the work's result
+     * @throws SQLException if the work fails or the transaction is rolled back
+     */
+    public static <T> T execute(Work<T> work) throws SQLException {
+        UnitOfWork active = current.get();
+        if (active != null) {
+            try {
+                return work.execute();
+            } catch (SQLException | RuntimeException | Error e) {
+                active.rollbackOnly = true;
+                throw e;
+            }
+        }
+
+        Connection conn = DatabaseConnection.getPool().borrow();
+        UnitOfWork unitOfWork = new UnitOfWork(conn);
+        try {
+            conn.setAutoCommit(false);
+            current.set(unitOfWork);
+
+            T result = work.execute();
+
+            if (unitOfWork.rollbackOnly) {
+                conn.rollback();
+                throw new SQLException("Unit of work rolled back because a statement failed");
+            }
+            conn.commit();
+            DatabaseConnection.recordWrite();
+            unitOfWork.completionActions.addAll(0, unitOfWork.commitActions);
+            return result;
+        } catch (SQLException | RuntimeException | Error e) {
+            rollbackQuietly(conn);
+            throw e;
+        } finally {
+            current.remove();
+            unitOfWork.runCompletionActions();
+            conn.close();
+        }
+    }
+
+    /**
+     * Run work that produces no result in a transaction
+     */
+    public static void run(VoidWork work) throws SQLException {
+        execute(() -> {
+            work.execute();
+            return null;
+        });
+    }
+
+    /**
+     * Check whether the current thread is inside a unit of work
+     */
+    public static boolean isActive() {
+        return current.get() != null;
+    }
+
+    /**
+     * Force the current unit of work to roll back when it completes
+     */
+    public static void setRollbackOnly() {
+        UnitOfWork active = current.get();
+        if (active == null) {
+            throw new IllegalStateException("No active unit of work");
+        }
+        active.rollbackOnly = true;
+    }
+
+    /**
+     * Run an action once the current unit of work has committed or rolled back,
+     * or immediately if no unit of work is active
+     */
+    public static void afterCompletion(Runnable action) {
+        UnitOfWork active = current.get();
+        if (active != null) {
+            active.completionActions.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Run an action once the current unit of work has committed, or immediately if no
+     * unit of work is active; the action is dropped if the unit of work rolls back
+     */
+    public static void afterCommit(Runnable action) {
+        UnitOfWork active = current.get();
+        if (active != null) {
+            active.commitActions.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Connection handle bound to the current thread, or null outside a unit of work.
+     * The handle ignores close() and does not allow transaction control.
+     */
+    static Connection currentConnection() {
+        UnitOfWork active = current.get();
+        return active != null ? active.sharedHandle : null;
+    }
+
+    private void runCompletionActions() {
+        for (Runnable action : completionActions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Unit of work completion action failed", e);
+            }
+        }
+    }
+
+    private static void rollbackQuietly(Connection conn) {
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            logger.log(Level.WARNING, "Failed to roll back unit of work", e);
+        }
+    }
+
+    /**
+     * Handle given to DAOs inside the unit of work
+     */
+    private class SharedConnectionHandler implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    return null;
+                case "isClosed":
+                    return connection.isClosed();
+                case "commit", "rollback", "setAutoCommit", "releaseSavepoint":
+                    throw new SQLException("Transaction is managed by the active unit of work");
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "UnitOfWorkConnection[" + connection + "]";
+                default:
+                    break;
+            }
+
+            Object result = invokeTracking(connection, method, args);
+            if (result instanceof Statement statement) {
+                Class<?> type = method.getReturnType();
+                return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                        (statementProxy, statementMethod, statementArgs) -> {
+                            if (statementMethod.getName().equals("getConnection")) {
+                                return proxy;
+                            }
+                            return invokeTracking(statement, statementMethod, statementArgs);
+                        });
+            }
+            return result;
+        }
+
+        /**
+         * Invoke a method and mark the unit of work rollback-only if it fails
+         */
+        private Object invokeTracking(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException) {
+                    rollbackOnly = true;
+                }
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- The DAO create methods insert without an ID and read back the generated key.
+-- Foreign keys reference these columns, so checks are off while they are redefined.
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE Job MODIFY job_id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE Candidate MODIFY candidate_id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE Applications MODIFY application_id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE Interview MODIFY interview_id BIGINT NOT NULL AUTO_INCREMENT;
+ALTER TABLE offer MODIFY offer_id BIGINT NOT NULL AUTO_INCREMENT;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,25 @@
+-- Indexes for the DAO filter predicates and sort keys. InnoDB appends the primary key to
+-- every secondary index, so these also serve the (sort key, id) keyset pagination order.
+
+-- getApplicationsByStatus / getApplicationsByStatusPage
+CREATE INDEX idx_applications_status_applied ON Applications (current_status, applied_date);
+-- getApplicationsByJob
+CREATE INDEX idx_applications_job_applied ON Applications (job_id, applied_date);
+-- getApplicationsByCandidate
+CREATE INDEX idx_applications_candidate_applied ON Applications (candidate_id, applied_date);
+
+-- getUpcomingInterviews
+CREATE INDEX idx_interview_result_date ON Interview (result, interview_date);
+
+-- getPendingOffers / getPendingOffersPage
+CREATE INDEX idx_offer_status_date ON offer (status, offer_date);
+
+-- getActiveJobs
+CREATE INDEX idx_job_status_created ON Job (status, created_at);
+-- getJobsByCompany
+CREATE INDEX idx_job_company_created ON Job (company_id, created_at);
+-- getAllJobs / getJobsPage
+CREATE INDEX idx_job_created ON Job (created_at);
+
+-- getAllCandidates / getCandidatesPage
+CREATE INDEX idx_candidate_created ON Candidate (created_at);
@@ -0,0 +1,109 @@
+-- Counters behind the job, offer and candidate statistics reports. The DAO write paths
+-- update them in the same transaction as the row they change; StatisticsCounters.rebuild()
+-- recomputes them from the base tables.
+
+CREATE TABLE company_stats (
+    company_id BIGINT PRIMARY KEY,
+    total_jobs INT NOT NULL DEFAULT 0,
+    open_jobs INT NOT NULL DEFAULT 0,
+    closed_jobs INT NOT NULL DEFAULT 0,
+    on_hold_jobs INT NOT NULL DEFAULT 0,
+    total_applications INT NOT NULL DEFAULT 0,
+    total_offers INT NOT NULL DEFAULT 0,
+    pending_offers INT NOT NULL DEFAULT 0,
+    accepted_offers INT NOT NULL DEFAULT 0,
+    declined_offers INT NOT NULL DEFAULT 0,
+    salary_sum DOUBLE NOT NULL DEFAULT 0,
+    salary_count INT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE job_stats (
+    job_id BIGINT PRIMARY KEY,
+    applied_count INT NOT NULL DEFAULT 0,
+    screened_count INT NOT NULL DEFAULT 0,
+    interview_count INT NOT NULL DEFAULT 0,
+    offer_count INT NOT NULL DEFAULT 0,
+    rejected_count INT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE candidate_stats (
+    candidate_id BIGINT PRIMARY KEY,
+    applied_count INT NOT NULL DEFAULT 0,
+    screened_count INT NOT NULL DEFAULT 0,
+    interview_count INT NOT NULL DEFAULT 0,
+    offer_count INT NOT NULL DEFAULT 0,
+    rejected_count INT NOT NULL DEFAULT 0,
+    total_applications INT NOT NULL DEFAULT 0,
+    total_interviews INT NOT NULL DEFAULT 0,
+    total_offers INT NOT NULL DEFAULT 0
+);
+
+-- Backfill from the existing rows (same statements as StatisticsCounters.rebuild())
+
+INSERT INTO company_stats (company_id, total_jobs, open_jobs, closed_jobs, on_hold_jobs)
+SELECT company_id, COUNT(*), SUM(status = 'open'), SUM(status = 'closed'), SUM(status = 'on_hold')
+FROM Job
+WHERE company_id IS NOT NULL
+GROUP BY company_id;
+
+INSERT INTO company_stats (company_id, total_applications)
+SELECT * FROM (
+    SELECT j.company_id, COUNT(*) AS applications
+    FROM Applications a
+    JOIN Job j ON a.job_id = j.job_id
+    WHERE j.company_id IS NOT NULL
+    GROUP BY j.company_id
+) AS counted
+ON DUPLICATE KEY UPDATE total_applications = counted.applications;
+
+INSERT INTO company_stats (company_id, total_offers, pending_offers, accepted_offers, declined_offers,
+                           salary_sum, salary_count)
+SELECT * FROM (
+    SELECT j.company_id, COUNT(*) AS offers, SUM(o.status = 'pending') AS pending,
+           SUM(o.status = 'accepted') AS accepted, SUM(o.status = 'declined') AS declined,
+           COALESCE(SUM(o.salary_offered), 0) AS salaries, COUNT(o.salary_offered) AS salaried
+    FROM offer o
+    JOIN Applications a ON o.application_id = a.application_id
+    JOIN Job j ON a.job_id = j.job_id
+    WHERE j.company_id IS NOT NULL
+    GROUP BY j.company_id
+) AS counted
+ON DUPLICATE KEY UPDATE total_offers = counted.offers, pending_offers = counted.pending,
+    accepted_offers = counted.accepted, declined_offers = counted.declined,
+    salary_sum = counted.salaries, salary_count = counted.salaried;
+
+INSERT INTO job_stats (job_id, applied_count, screened_count, interview_count, offer_count, rejected_count)
+SELECT job_id, SUM(current_status = 'applied'), SUM(current_status = 'screened'),
+       SUM(current_status = 'interview'), SUM(current_status = 'offer'), SUM(current_status = 'rejected')
+FROM Applications
+WHERE job_id IS NOT NULL
+GROUP BY job_id;
+
+INSERT INTO candidate_stats (candidate_id, applied_count, screened_count, interview_count, offer_count,
+                             rejected_count, total_applications)
+SELECT candidate_id, SUM(current_status = 'applied'), SUM(current_status = 'screened'),
+       SUM(current_status = 'interview'), SUM(current_status = 'offer'), SUM(current_status = 'rejected'),
+       COUNT(*)
+FROM Applications
+WHERE candidate_id IS NOT NULL
+GROUP BY candidate_id;
+
+INSERT INTO candidate_stats (candidate_id, total_interviews)
+SELECT * FROM (
+    SELECT a.candidate_id, COUNT(*) AS interviews
+    FROM Interview i
+    JOIN Applications a ON i.application_id = a.application_id
+    WHERE a.candidate_id IS NOT NULL
+    GROUP BY a.candidate_id
+) AS counted
+ON DUPLICATE KEY UPDATE total_interviews = counted.interviews;
+
+INSERT INTO candidate_stats (candidate_id, total_offers)
+SELECT * FROM (
+    SELECT a.candidate_id, COUNT(*) AS offers
+    FROM offer o
+    JOIN Applications a ON o.application_id = a.application_id
+    WHERE a.candidate_id IS NOT NULL
+    GROUP BY a.candidate_id
+) AS counted
+ON DUPLICATE KEY UPDATE total_offers = counted.offers;
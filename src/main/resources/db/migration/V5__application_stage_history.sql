@@ -0,0 +1,9 @@
+-- Every application status change appends an Application_stage row with a generated ID.
+-- The index serves the history queries, which page by (stage_datetime, stage_id) per application.
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE Application_stage MODIFY stage_id BIGINT NOT NULL AUTO_INCREMENT;
+
+SET FOREIGN_KEY_CHECKS = 1;
+
+CREATE INDEX idx_application_stage_history ON Application_stage (application_id, stage_datetime, stage_id);
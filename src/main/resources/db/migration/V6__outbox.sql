@@ -0,0 +1,18 @@
+-- Change events appended by the DAO write paths in the same transaction as the change they
+-- describe. OutboxRelay reads them in event_id order and keeps each consumer's position in
+-- outbox_offset, so downstream systems no longer scan the base tables by updated_at.
+
+CREATE TABLE outbox_event (
+    event_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at DATETIME NOT NULL
+);
+
+CREATE TABLE outbox_offset (
+    consumer VARCHAR(64) PRIMARY KEY,
+    last_event_id BIGINT NOT NULL,
+    updated_at DATETIME NOT NULL
+);